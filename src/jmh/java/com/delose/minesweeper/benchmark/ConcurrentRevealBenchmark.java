@@ -0,0 +1,80 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.ConcurrentGameControllerImpl;
+
+/**
+ * Clears a whole board with every thread revealing a share of its safe squares on the same
+ * concurrent game, in a shuffled order so cascades started by different threads run into each
+ * other. Each measurement is the time for the slowest thread to finish its share, so the board's
+ * safe squares divided by the time gives reveals per second. Run with increasing thread counts,
+ * for example {@code -Djmh.args="-t 2"}, to see how it scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConcurrentRevealBenchmark {
+
+    @Param({"2000"})
+    int size;
+
+    @Param({"0.15"})
+    double density;
+
+    private int[] order;
+    private volatile GameController game;
+
+    @Setup(Level.Trial)
+    public void shuffle() {
+        SplittableRandom random = new SplittableRandom(42L);
+        order = new int[size * size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameController board = new ConcurrentGameControllerImpl(size, size, (int) (size * size * density));
+        board.placeMinesRandmly(7L);
+        game = board;
+    }
+
+    @Benchmark
+    public void clearBoard(ThreadParams thread) {
+        GameController board = game;
+        for (int i = thread.getThreadIndex(); i < order.length; i += thread.getThreadCount()) {
+            int row = order[i] / size;
+            int col = order[i] % size;
+            if (!board.isMineAt(row, col)) {
+                board.revealSquare(row, col);
+            }
+        }
+    }
+}
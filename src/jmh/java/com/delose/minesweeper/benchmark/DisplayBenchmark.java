@@ -0,0 +1,65 @@
+package com.delose.minesweeper.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.view.impl.DisplayManagerImpl;
+
+/**
+ * Rendering a board part way through a game, as a String and as encoded bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayBenchmark {
+
+    @Param({"16", "256", "2048"})
+    int size;
+
+    @Param({"0.05", "0.15", "0.30"})
+    double density;
+
+    private DisplayManagerImpl displayManager;
+
+    @Setup
+    public void setUp() {
+        GameControllerImpl controller = new GameControllerImpl(size, size, (int) (size * size * density));
+        controller.placeMinesRandmly(42L);
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int move = 0; move < size; move++) {
+            int row = random.nextInt(size);
+            int col = random.nextInt(size);
+            if (!controller.isMineAt(row, col)) {
+                controller.revealSquare(row, col);
+            }
+        }
+        displayManager = new DisplayManagerImpl(controller);
+    }
+
+    @Benchmark
+    public String renderMinefield() {
+        return displayManager.renderMinefield();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeMinefield() {
+        return displayManager.encodeMinefield();
+    }
+}
@@ -0,0 +1,185 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.model.Cell;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * Moves on square boards: revealing a single numbered square, revealing the square that
+ * wins the game (which exercises the win check), and a full cascade from an empty square.
+ *
+ * Every invocation starts from the same board, set up outside the measured time. Single-square
+ * moves hide their square again through a {@link Cell} view and wrap the board in a new
+ * controller, so its count of revealed squares is right and the winning move wins every time.
+ * Cascades rebuild the board. The allocation figures of the gc profiler include this setup, and
+ * on large boards the setup leaves the caches cold, so single moves there include the misses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameControllerBenchmark {
+
+    private static final long SEED = 42L;
+
+    private static Minefield newMinefield(int size, double density) {
+        Minefield field = new Minefield(size, size, (int) (size * size * density));
+        field.placeMines(SEED);
+        return field;
+    }
+
+    /**
+     * Finds the first safe square with no adjacent mines, or with some, falling back to any safe square.
+     */
+    private static int find(Minefield field, boolean empty) {
+        int fallback = -1;
+        for (int index = 0; index < field.getCellCount(); index++) {
+            if (!field.isMineAt(index)) {
+                if ((field.getAdjacentMinesCount(index) == 0) == empty) {
+                    return index;
+                }
+                fallback = index;
+            }
+        }
+        return fallback;
+    }
+
+    @Benchmark
+    public GameStatus revealSingleSquare(SingleSquareState state) {
+        state.game.revealSquare(state.row, state.col);
+        return state.game.getGameStatus();
+    }
+
+    @Benchmark
+    public GameStatus revealWinningSquare(WinningSquareState state) {
+        state.game.revealSquare(state.row, state.col);
+        return state.game.getGameStatus();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public GameStatus revealCascade(CascadeState state) {
+        state.game.revealSquare(state.emptyRow, state.emptyCol);
+        return state.game.getGameStatus();
+    }
+
+    /**
+     * A board with one numbered square to reveal, hidden again before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class SingleSquareState {
+
+        @Param({"16", "256", "2048"})
+        int size;
+
+        @Param({"0.05", "0.15", "0.30"})
+        double density;
+
+        private Minefield minefield;
+        private Cell cell;
+        private GameControllerImpl game;
+        private int row;
+        private int col;
+
+        @Setup
+        public void setUp() {
+            minefield = newMinefield(size, density);
+            int numbered = find(minefield, false);
+            row = numbered / size;
+            col = numbered % size;
+            cell = minefield.getCell(row, col);
+        }
+
+        @Setup(Level.Invocation)
+        public void newGame() {
+            cell.unreveal();
+            game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+        }
+    }
+
+    /**
+     * A board with every safe square revealed but one, so the next move wins.
+     */
+    @State(Scope.Thread)
+    public static class WinningSquareState {
+
+        @Param({"16", "256", "2048"})
+        int size;
+
+        @Param({"0.05", "0.15", "0.30"})
+        double density;
+
+        private Minefield minefield;
+        private Cell cell;
+        private GameControllerImpl game;
+        private int row;
+        private int col;
+
+        @Setup
+        public void setUp() {
+            minefield = newMinefield(size, density);
+            int last = find(minefield, false);
+            for (int index = 0; index < minefield.getCellCount(); index++) {
+                if (index != last && !minefield.isMineAt(index)) {
+                    minefield.reveal(index);
+                }
+            }
+            row = last / size;
+            col = last % size;
+            cell = minefield.getCell(row, col);
+        }
+
+        @Setup(Level.Invocation)
+        public void newGame() {
+            cell.unreveal();
+            game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+        }
+    }
+
+    /**
+     * A fresh board for every cascade, kept apart so its per-invocation setup does not
+     * weigh on the single-square benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class CascadeState {
+
+        @Param({"16", "256", "2048"})
+        int size;
+
+        @Param({"0.05", "0.15", "0.30"})
+        double density;
+
+        private GameControllerImpl game;
+        private int emptyRow;
+        private int emptyCol;
+
+        @Setup
+        public void setUp() {
+            int empty = find(newMinefield(size, density), true);
+            emptyRow = empty / size;
+            emptyCol = empty % size;
+        }
+
+        @Setup(Level.Invocation)
+        public void newGame() {
+            game = new GameControllerImpl(newMinefield(size, density), GameStatus.IN_PROGRESS);
+        }
+    }
+}
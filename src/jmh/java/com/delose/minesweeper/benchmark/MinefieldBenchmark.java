@@ -0,0 +1,81 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * Mine placement and adjacent count lookups on square boards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinefieldBenchmark {
+
+    @Param({"16", "256", "2048"})
+    int size;
+
+    @Param({"0.05", "0.15", "0.30"})
+    double density;
+
+    private Minefield minefield;
+    private int[] rows;
+    private int[] columns;
+    private int next;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        minefield = new Minefield(size, size, (int) (size * size * density));
+        minefield.placeMines(42L);
+        SplittableRandom random = new SplittableRandom(42L);
+        rows = new int[1024];
+        columns = new int[1024];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = random.nextInt(size);
+            columns[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Minefield placeMines() {
+        minefield.placeMines(seed++);
+        return minefield;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Minefield placeMinesInParallel() {
+        minefield.placeMinesInParallel(seed++, 16);
+        return minefield;
+    }
+
+    @Benchmark
+    public int calculateAdjacentMines() {
+        int i = next++ & 1023;
+        return minefield.calculateAdjacentMines(rows[i], columns[i]);
+    }
+
+    @Benchmark
+    public int getAdjacentMinesCount() {
+        int i = next++ & 1023;
+        return minefield.getAdjacentMinesCount(rows[i], columns[i]);
+    }
+}
@@ -0,0 +1,67 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.solver.NoGuessGenerator;
+import com.delose.minesweeper.solver.impl.NoGuessGeneratorImpl;
+
+/**
+ * Latency of generating a no-guess board. Sampled, so JMH reports the p50 and p99 along with the mean.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NoGuessBenchmark {
+
+    @Param({"9x9x10", "16x16x40", "16x30x99"})
+    String board;
+
+    @Param({"1", "4"})
+    int candidates;
+
+    private ExecutorService executor;
+    private NoGuessGenerator generator;
+    private int rows;
+    private int columns;
+    private int mines;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = board.split("x");
+        rows = Integer.parseInt(dimensions[0]);
+        columns = Integer.parseInt(dimensions[1]);
+        mines = Integer.parseInt(dimensions[2]);
+        executor = Executors.newCachedThreadPool();
+        generator = new NoGuessGeneratorImpl(executor, candidates, 1000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public GameController generate() {
+        return generator.generate(rows, columns, mines, seed++);
+    }
+}
@@ -0,0 +1,55 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.impl.PlayerInputHandlerImpl;
+import com.delose.minesweeper.core.util.PositionUtil;
+
+/**
+ * Parsing player input. The board size sets how long positions get; mine density has no
+ * bearing on parsing, so it is not a parameter here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerInputBenchmark {
+
+    @Param({"16", "256", "2048"})
+    int size;
+
+    private PlayerInputHandlerImpl inputHandler;
+    private String[] inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        inputHandler = new PlayerInputHandlerImpl(size);
+        SplittableRandom random = new SplittableRandom(42L);
+        inputs = new String[1024];
+        for (int i = 0; i < inputs.length; i++) {
+            String position = PositionUtil.toPosition(random.nextInt(size), random.nextInt(size));
+            inputs[i] = i % 2 == 0 ? position : position.toLowerCase();
+        }
+    }
+
+    @Benchmark
+    public String parseInput() {
+        return inputHandler.parseInput(inputs[next++ & 1023]);
+    }
+}
@@ -0,0 +1,82 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.solver.ConstraintSolver;
+import com.delose.minesweeper.solver.MineProbabilities;
+import com.delose.minesweeper.solver.impl.ConstraintSolverImpl;
+import com.delose.minesweeper.solver.impl.ProbabilityEngineImpl;
+
+/**
+ * Mine probabilities for positions where the constraint solver has run out of safe squares,
+ * counted from scratch on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProbabilityBenchmark {
+
+    @Param({"9x9x10", "16x16x40", "16x30x99"})
+    String board;
+
+    private GameController[] positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = board.split("x");
+        int rows = Integer.parseInt(dimensions[0]);
+        int columns = Integer.parseInt(dimensions[1]);
+        int mines = Integer.parseInt(dimensions[2]);
+        SplittableRandom random = new SplittableRandom(42L);
+        positions = new GameController[64];
+        for (int i = 0; i < positions.length; ) {
+            GameController game = new GameControllerImpl(rows, columns, mines);
+            game.placeMinesRandmly(random.nextLong());
+            ConstraintSolver solver = new ConstraintSolverImpl();
+            solver.attach(game);
+            // Play safe squares until a guess is needed somewhere past the opening
+            int moves = random.nextInt(8);
+            while (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+                int square = solver.nextSafeSquare();
+                if (square < 0) {
+                    if (moves-- == 0) {
+                        game.setRevealListener(null);
+                        positions[i++] = game;
+                        break;
+                    }
+                    square = random.nextInt(rows * columns);
+                    if (game.isSquareRevealed(square / columns, square % columns) || game.isMineAt(square / columns, square % columns)) {
+                        continue;
+                    }
+                }
+                game.revealSquare(square / columns, square % columns);
+            }
+        }
+    }
+
+    @Benchmark
+    public MineProbabilities compute() {
+        return new ProbabilityEngineImpl(ForkJoinPool.commonPool(), 1000).compute(positions[next++ & 63]);
+    }
+}
@@ -0,0 +1,100 @@
+package com.delose.minesweeper.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.server.SessionEngine;
+import com.delose.minesweeper.server.impl.InMemorySessionRegistry;
+import com.delose.minesweeper.server.impl.LockingSessionEngine;
+import com.delose.minesweeper.server.impl.ShardedSessionEngine;
+
+/**
+ * Requests on sessions picked at random, through the sharded engine (one shard per core) and the
+ * lock-per-session engine. Run with increasing thread counts to compare how they scale, for
+ * example {@code -Djmh.args="-t 1"}, then 2, 4 and so on up to the number of cores.
+ *
+ * {@code request} waits for each request before sending the next, like a server thread handling
+ * one client; {@code pipelined} sends a batch of requests and then waits for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionEngineBenchmark {
+
+    private static final int SIZE = 16;
+    private static final int PIPELINE = 16;
+
+    @Param({"sharded", "locking"})
+    String engine;
+
+    @Param({"10000"})
+    int sessions;
+
+    private SessionEngine sessionEngine;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionEngine = "sharded".equals(engine)
+                ? new ShardedSessionEngine(Runtime.getRuntime().availableProcessors(), sessions)
+                : new LockingSessionEngine(new InMemorySessionRegistry(sessions));
+        ids = new String[sessions];
+        for (int i = 0; i < sessions; i++) {
+            GameController game = new GameControllerImpl(SIZE, SIZE, 40);
+            game.placeMinesRandmly(i);
+            ids[i] = sessionEngine.create(game).join();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionEngine.close();
+    }
+
+    @Benchmark
+    public int request() {
+        return submit().join();
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int pipelined() {
+        CompletableFuture<Integer>[] pending = new CompletableFuture[PIPELINE];
+        for (int i = 0; i < PIPELINE; i++) {
+            pending[i] = submit();
+        }
+        int sum = 0;
+        for (CompletableFuture<Integer> result : pending) {
+            sum += result.join();
+        }
+        return sum;
+    }
+
+    private CompletableFuture<Integer> submit() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = random.nextInt(SIZE);
+        int col = random.nextInt(SIZE);
+        return sessionEngine.apply(ids[random.nextInt(ids.length)],
+                game -> game.isSquareRevealed(row, col) ? -1 : game.getAdjacentMinesCount(row, col));
+    }
+}
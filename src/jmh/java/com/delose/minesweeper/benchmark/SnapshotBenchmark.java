@@ -0,0 +1,82 @@
+package com.delose.minesweeper.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.export.SnapshotStore;
+import com.delose.minesweeper.export.impl.MappedSnapshotStore;
+
+/**
+ * Saves and restores a 10000x10000 board, 100 million squares, part way through a game.
+ * The board's squares divided by the time gives squares per second; the file is written
+ * to the temporary directory and sits in the page cache, so this measures the format rather
+ * than the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SnapshotBenchmark {
+
+    @Param({"10000"})
+    int size;
+
+    @Param({"0.15"})
+    double density;
+
+    private final SnapshotStore store = new MappedSnapshotStore();
+    private GameController game;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        game = new GameControllerImpl(size, size, (int) ((long) size * size * density));
+        game.placeMinesRandmly(7L);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int move = 0; move < 1000; move++) {
+            int row = random.nextInt(size);
+            int col = random.nextInt(size);
+            if (!game.isMineAt(row, col)) {
+                game.revealSquare(row, col);
+            }
+        }
+        file = Files.createTempFile("snapshot", ".msws");
+        store.save(game, file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        store.save(game, file);
+    }
+
+    @Benchmark
+    public GameController restore() throws IOException {
+        return store.load(file);
+    }
+}
@@ -0,0 +1,80 @@
+package com.delose.minesweeper;
+
+import java.io.IOException;
+
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.pool.BoardPool;
+import com.delose.minesweeper.pool.impl.BoardPoolImpl;
+import com.delose.minesweeper.server.GameServer;
+import com.delose.minesweeper.server.LoadTestResult;
+import com.delose.minesweeper.server.LoadTestRunner;
+import com.delose.minesweeper.server.impl.HttpGameServer;
+
+/**
+ * Load tests a game server with intermediate (16x16, 40 mines) games and logs the throughput and latency.
+ */
+public class LoadTestApp {
+
+    private static final int ROWS = 16;
+    private static final int COLUMNS = 16;
+    private static final int MINES = 40;
+
+    /**
+     * The entry point of the load test.
+     *
+     * @param args the number of open sessions, the number of requests, and optionally the number of
+     *             client threads (64 by default) and the server's address; without an address a
+     *             server is started in this process on a free port
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            LoggerUtil.error(MessageProvider.getMessage("loadtest.usage"));
+            return;
+        }
+        int sessions;
+        long requests;
+        int clients;
+        try {
+            sessions = Integer.parseInt(args[0]);
+            requests = Long.parseLong(args[1]);
+            clients = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        } catch (NumberFormatException e) {
+            LoggerUtil.error(MessageProvider.getMessage("loadtest.usage"));
+            return;
+        }
+        // Keep a connection per client alive between requests, instead of the JDK's default of five
+        if (System.getProperty("http.maxConnections") == null) {
+            System.setProperty("http.maxConnections", Integer.toString(clients));
+        }
+        // Set before the server below is created, as the JDK server only reads it when its classes load
+        if (System.getProperty(HttpGameServer.NODELAY_PROPERTY) == null) {
+            System.setProperty(HttpGameServer.NODELAY_PROPERTY, "true");
+        }
+
+        GameServer server = null;
+        BoardPool boardPool = null;
+        String url = args.length > 3 ? args[3] : null;
+        if (url == null) {
+            int maxSessions = Math.max(sessions + clients, GameConfig.getInstance().getServerMaxSessions());
+            boardPool = new BoardPoolImpl();
+            server = new HttpGameServer(0, HttpGameServer.newConfiguredEngine(maxSessions), boardPool,
+                    GameConfig.getInstance().getServerMaxSquares());
+            server.start();
+            url = "http://localhost:" + server.getPort();
+        }
+        try {
+            LoadTestResult result = new LoadTestRunner(url, ROWS, COLUMNS, MINES, clients).run(sessions, requests, System.nanoTime());
+            LoggerUtil.info(result.toString());
+        } catch (GameInputException | IOException e) {
+            LoggerUtil.error(e.getMessage());
+        } finally {
+            if (server != null) {
+                server.stop();
+                boardPool.close();
+            }
+        }
+    }
+}
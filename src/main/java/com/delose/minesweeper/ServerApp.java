@@ -0,0 +1,38 @@
+package com.delose.minesweeper;
+
+import java.io.IOException;
+
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.server.GameServer;
+import com.delose.minesweeper.server.impl.HttpGameServer;
+
+/**
+ * Hosts games over HTTP until the process is stopped.
+ */
+public class ServerApp {
+
+    /**
+     * The entry point of the server.
+     *
+     * @param args optionally the port to listen on (the configured port by default)
+     */
+    public static void main(String[] args) throws IOException {
+        // Read once, when the JDK server's classes load, so it must be set before any server is created
+        if (System.getProperty(HttpGameServer.NODELAY_PROPERTY) == null) {
+            System.setProperty(HttpGameServer.NODELAY_PROPERTY, "true");
+        }
+        int port;
+        try {
+            port = args.length > 0 ? Integer.parseInt(args[0]) : GameConfig.getInstance().getServerPort();
+        } catch (NumberFormatException e) {
+            LoggerUtil.error(MessageProvider.getMessage("server.usage"));
+            return;
+        }
+        GameServer server = new HttpGameServer(port);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        LoggerUtil.info(MessageProvider.getMessage("server.started") + server.getPort());
+    }
+}
@@ -0,0 +1,65 @@
+package com.delose.minesweeper;
+
+import java.util.function.Supplier;
+
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.simulation.PlayerStrategy;
+import com.delose.minesweeper.simulation.SimulationResult;
+import com.delose.minesweeper.simulation.SimulationRunner;
+import com.delose.minesweeper.simulation.impl.FirstSafeStrategy;
+import com.delose.minesweeper.simulation.impl.RandomStrategy;
+import com.delose.minesweeper.simulation.impl.SolverStrategy;
+import com.delose.minesweeper.solver.impl.ConstraintSolverImpl;
+import com.delose.minesweeper.solver.impl.ProbabilityEngineImpl;
+
+/**
+ * Plays a batch of games headlessly and logs their statistics.
+ */
+public class SimulationApp {
+
+    /**
+     * The entry point of the simulation.
+     *
+     * @param args the strategy (random, first-safe, solver or probability), rows, columns, mines, number of games,
+     *             and optionally the number of threads (all cores by default) and the seed
+     */
+    public static void main(String[] args) {
+        if (args.length < 5) {
+            LoggerUtil.error(MessageProvider.getMessage("simulation.usage"));
+            return;
+        }
+        try {
+            Supplier<PlayerStrategy> strategy = strategyNamed(args[0]);
+            int rows = Integer.parseInt(args[1]);
+            int columns = Integer.parseInt(args[2]);
+            int mines = Integer.parseInt(args[3]);
+            long games = Long.parseLong(args[4]);
+            int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+            long seed = args.length > 6 ? Long.parseLong(args[6]) : System.nanoTime();
+
+            SimulationResult result = new SimulationRunner(rows, columns, mines, strategy, threads).run(games, seed);
+            LoggerUtil.info(result.toString());
+        } catch (NumberFormatException e) {
+            LoggerUtil.error(MessageProvider.getMessage("simulation.usage"));
+        } catch (GameInputException e) {
+            LoggerUtil.error(e.getMessage());
+        }
+    }
+
+    static Supplier<PlayerStrategy> strategyNamed(String name) {
+        switch (name) {
+            case "random":
+                return RandomStrategy::new;
+            case "first-safe":
+                return FirstSafeStrategy::new;
+            case "solver":
+                return SolverStrategy::new;
+            case "probability":
+                return () -> new SolverStrategy(new ConstraintSolverImpl(), new ProbabilityEngineImpl());
+            default:
+                throw new GameInputException(MessageProvider.getMessage("simulation.unknownStrategy") + name);
+        }
+    }
+}
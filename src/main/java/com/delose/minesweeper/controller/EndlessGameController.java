@@ -0,0 +1,27 @@
+package com.delose.minesweeper.controller;
+
+import com.delose.minesweeper.model.GameStatus;
+
+/**
+ * Manages a game of endless Minesweeper played on an unbounded minefield.
+ * There is no win condition; the game continues until a mine is revealed.
+ */
+public interface EndlessGameController {
+
+    GameStatus getGameStatus();
+
+    void revealSquare(int row, int col);
+
+    boolean isMineAt(int row, int col);
+
+    boolean isSquareRevealed(int row, int col);
+
+    int getAdjacentMinesCount(int row, int col);
+
+    /**
+     * Gets the number of safe squares revealed so far, the score of an endless game.
+     *
+     * @return the number of revealed safe squares
+     */
+    long getRevealedSquareCount();
+}
@@ -1,10 +1,14 @@
 package com.delose.minesweeper.controller;
 
+import com.delose.minesweeper.model.BoardView;
 import com.delose.minesweeper.model.GameStatus;
 
 /**
  * Manages the overall flow of the Minesweeper game.
  * Handles the game initialization, user inputs, and game state transitions.
+ *
+ * Every position-based method has an overload taking zero-based row and column
+ * indices, for callers that address squares numerically rather than as "A1".
  */
 public interface GameController {
 
@@ -12,18 +16,63 @@ public interface GameController {
 
     int getMinefieldSize();
 
+    int getRowCount();
+
+    int getColumnCount();
+
+    int getNumberOfMines();
+
+    /**
+     * Gets the seed of the random mine layout, or 0 if the mines were placed by hand.
+     *
+     * @return the seed of the mine layout
+     */
+    long getSeed();
+
     int getAdjacentMinesCount(String position);
 
+    int getAdjacentMinesCount(int row, int col);
+
     void revealSquare(String position);
 
+    void revealSquare(int row, int col);
+
     boolean isMineAt(String position);
 
+    boolean isMineAt(int row, int col);
+
     boolean isSquareRevealed(String position);
 
+    boolean isSquareRevealed(int row, int col);
+
+    /**
+     * Gets a read-only view of the whole board, for reading every square in one go.
+     *
+     * @return a view of the current board state
+     */
+    BoardView getBoardView();
+
+    /**
+     * Sets the listener told about every square revealed from now on, replacing any previous one.
+     *
+     * @param listener the listener, or null to stop notifications
+     */
+    void setRevealListener(RevealListener listener);
+
     // only used for testing
     void placeMineAt(String position);
 
+    // only used for testing
+    void placeMineAt(int row, int col);
+
     void revealAllCells();
 
     void placeMinesRandmly();
-}
\ No newline at end of file
+
+    /**
+     * Places mines at positions derived from the given seed; the same seed always gives the same board.
+     *
+     * @param seed the seed for the mine layout
+     */
+    void placeMinesRandmly(long seed);
+}
@@ -0,0 +1,23 @@
+package com.delose.minesweeper.controller;
+
+/**
+ * Receives the squares a {@link GameController} reveals, so a view can redraw only what changed.
+ *
+ * Callbacks arrive on the thread that made the move, after any parallel work has finished.
+ */
+public interface RevealListener {
+
+    /**
+     * Called once for every square that becomes revealed.
+     *
+     * @param row the zero-based row index
+     * @param col the zero-based column index
+     */
+    void squareRevealed(int row, int col);
+
+    /**
+     * Called when the board changed in a way not described square by square,
+     * such as new mines being placed, so the whole board has to be redrawn.
+     */
+    void boardChanged();
+}
@@ -0,0 +1,316 @@
+package com.delose.minesweeper.controller.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.RevealListener;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.PositionUtil;
+import com.delose.minesweeper.core.util.collection.AtomicBitSet;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * A game many players can reveal squares on at the same time, for co-op play on a shared board.
+ *
+ * The mines and adjacent counts live in a {@link Minefield} that no longer changes once the mines
+ * are placed. The only state moves change is kept in atomics: which squares are revealed, one bit
+ * per square in an {@link AtomicBitSet}, the number of safe squares revealed, and the status.
+ * A move claims each square it reveals by setting its bit, so when cascades started on different
+ * threads overlap, every square is revealed, counted and reported exactly once, by whichever
+ * thread claimed it. The status leaves IN_PROGRESS by a single compare-and-set: LOST when a mine
+ * is claimed, WON by the move whose count completes the safe squares, whichever comes first.
+ * Moves started once the game is over change nothing.
+ *
+ * Placing mines and revealing every square are setup and teardown steps, and must not run while
+ * other threads are making moves. The reveal listener is called from the thread of each move, so
+ * it must be thread-safe.
+ */
+public class ConcurrentGameControllerImpl implements GameController {
+
+    private final Minefield minefield;
+    private final AtomicBitSet revealed;
+    private final AtomicReference<GameStatus> gameStatus;
+    private final AtomicLong revealedSafeCells = new AtomicLong();
+    private final BoardView boardView = new ConcurrentBoardView();
+    // Lent to one cascade at a time; a cascade overlapping it makes its own
+    private final AtomicReference<IntQueue> spareQueue = new AtomicReference<>(new IntQueue());
+    private volatile RevealListener revealListener;
+
+    public ConcurrentGameControllerImpl(int rows, int columns, int numberOfMines) {
+        this(new Minefield(rows, columns, numberOfMines), GameStatus.IN_PROGRESS);
+    }
+
+    /**
+     * Constructs a game around an existing minefield, such as one restored from a saved board.
+     * Squares already revealed on the minefield count as revealed.
+     *
+     * @param minefield the minefield to play on, which the game takes over
+     * @param gameStatus the status of the game
+     */
+    public ConcurrentGameControllerImpl(Minefield minefield, GameStatus gameStatus) {
+        this.minefield = minefield;
+        this.revealed = new AtomicBitSet(minefield.getCellCount());
+        this.gameStatus = new AtomicReference<>(gameStatus);
+        for (int index = 0; index < minefield.getCellCount(); index++) {
+            if (minefield.isRevealed(index)) {
+                revealed.set(index);
+                if (!minefield.isMineAt(index)) {
+                    revealedSafeCells.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public void setRevealListener(RevealListener listener) {
+        this.revealListener = listener;
+    }
+
+    public void placeMinesRandmly() {
+        placeMinesRandmly(ThreadLocalRandom.current().nextLong());
+    }
+
+    public void placeMinesRandmly(long seed) {
+        GameConfig config = GameConfig.getInstance();
+        if (minefield.getCellCount() >= config.getParallelGenerationThreshold()) {
+            minefield.placeMinesInParallel(seed, config.getGenerationStripes());
+        } else {
+            minefield.placeMines(seed);
+        }
+        recountRevealedSafeCells();
+        notifyBoardChanged();
+    }
+
+    public GameStatus getGameStatus() {
+        return gameStatus.get();
+    }
+
+    public int getMinefieldSize() {
+        return minefield.getSize();
+    }
+
+    public int getRowCount() {
+        return minefield.getRows();
+    }
+
+    public int getColumnCount() {
+        return minefield.getColumns();
+    }
+
+    public int getNumberOfMines() {
+        return minefield.getNumberOfMines();
+    }
+
+    public long getSeed() {
+        return minefield.getSeed();
+    }
+
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    public int getAdjacentMinesCount(String position) {
+        int[] indices = convertPositionToIndices(position);
+        return getAdjacentMinesCount(indices[0], indices[1]);
+    }
+
+    public int getAdjacentMinesCount(int row, int col) {
+        return minefield.getAdjacentMinesCount(row, col);
+    }
+
+    public void revealSquare(String position) {
+        int[] indices = convertPositionToIndices(position);
+        revealSquare(indices[0], indices[1]);
+    }
+
+    public void revealSquare(int row, int col) {
+        int index = minefield.indexOf(row, col);
+        if (gameStatus.get() != GameStatus.IN_PROGRESS || !revealed.set(index)) {
+            return;
+        }
+        notifyRevealed(row, col);
+        if (minefield.isMineAt(index)) {
+            gameStatus.compareAndSet(GameStatus.IN_PROGRESS, GameStatus.LOST);
+            return;
+        }
+
+        long claimed = 1;
+        if (minefield.getAdjacentMinesCount(index) == 0) {
+            claimed += cascade(index);
+        }
+        // Counted once per move rather than per square, so cascades barely contend on the counter
+        long total = revealedSafeCells.addAndGet(claimed);
+        if (minefield.getPlacedMineCount() == minefield.getNumberOfMines()
+                && total == minefield.getCellCount() - minefield.getPlacedMineCount()) {
+            gameStatus.compareAndSet(GameStatus.IN_PROGRESS, GameStatus.WON);
+        }
+    }
+
+    /**
+     * Reveals every square the cascade from a square with no adjacent mines reaches, skipping
+     * squares other threads have claimed first. A square with no adjacent mines has no mined
+     * neighbours, so every square claimed here is safe.
+     *
+     * @return the number of squares this call claimed
+     */
+    private long cascade(int start) {
+        int rows = minefield.getRows();
+        int columns = minefield.getColumns();
+        IntQueue queue = spareQueue.getAndSet(null);
+        if (queue == null) {
+            queue = new IntQueue();
+        }
+        queue.clear();
+        queue.add(start);
+        long claimed = 0;
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            int currentRow = current / columns;
+            int currentCol = current % columns;
+            for (int i = Math.max(0, currentRow - 1); i <= Math.min(rows - 1, currentRow + 1); i++) {
+                for (int j = Math.max(0, currentCol - 1); j <= Math.min(columns - 1, currentCol + 1); j++) {
+                    int neighbour = i * columns + j;
+                    if (revealed.set(neighbour)) {
+                        claimed++;
+                        notifyRevealed(i, j);
+                        if (minefield.getAdjacentMinesCount(neighbour) == 0) {
+                            queue.add(neighbour);
+                        }
+                    }
+                }
+            }
+        }
+        spareQueue.set(queue);
+        return claimed;
+    }
+
+    public boolean isMineAt(String position) {
+        int[] indices = convertPositionToIndices(position);
+        return isMineAt(indices[0], indices[1]);
+    }
+
+    public boolean isMineAt(int row, int col) {
+        return minefield.isMineAt(row, col);
+    }
+
+    public boolean isSquareRevealed(String position) {
+        int[] indices = convertPositionToIndices(position);
+        return isSquareRevealed(indices[0], indices[1]);
+    }
+
+    public boolean isSquareRevealed(int row, int col) {
+        return revealed.get(minefield.indexOf(row, col));
+    }
+
+    public void placeMineAt(String position) {
+        int[] indices = convertPositionToIndices(position);
+        placeMineAt(indices[0], indices[1]);
+    }
+
+    public void placeMineAt(int row, int col) {
+        minefield.placeMine(row, col);
+        recountRevealedSafeCells();
+        notifyBoardChanged();  // Counts of revealed neighbours may have changed
+    }
+
+    public void revealAllCells() {
+        revealed.setAll();
+        revealedSafeCells.set(minefield.getCellCount() - minefield.getPlacedMineCount());
+        notifyBoardChanged();
+    }
+
+    private void recountRevealedSafeCells() {
+        long count = 0;
+        for (int index = 0; index < revealed.length(); index++) {
+            if (revealed.get(index) && !minefield.isMineAt(index)) {
+                count++;
+            }
+        }
+        revealedSafeCells.set(count);
+    }
+
+    /**
+     * Parses a position such as "A1" into row and column indices.
+     *
+     * @param position the position to parse
+     * @return the row and column indices
+     * @throws GameInputException if the position is malformed or outside the grid
+     */
+    private int[] convertPositionToIndices(String position) {
+        int[] indices = PositionUtil.parsePosition(position);
+        if (indices == null
+                || indices[0] < 0 || indices[0] >= minefield.getRows()
+                || indices[1] < 0 || indices[1] >= minefield.getColumns()) {
+            throw new GameInputException(MessageProvider.getMessage("game.invalidInputSquare"));
+        }
+        return indices;
+    }
+
+    private void notifyRevealed(int row, int col) {
+        RevealListener listener = revealListener;
+        if (listener != null) {
+            listener.squareRevealed(row, col);
+        }
+    }
+
+    private void notifyBoardChanged() {
+        RevealListener listener = revealListener;
+        if (listener != null) {
+            listener.boardChanged();
+        }
+    }
+
+    /**
+     * The minefield's mines and counts, with the revealed flags taken from the shared bits.
+     */
+    private class ConcurrentBoardView implements BoardView {
+
+        public int getRows() {
+            return minefield.getRows();
+        }
+
+        public int getColumns() {
+            return minefield.getColumns();
+        }
+
+        public boolean isMineAt(int row, int col) {
+            return minefield.isMineAt(row, col);
+        }
+
+        public boolean isRevealed(int row, int col) {
+            return isSquareRevealed(row, col);
+        }
+
+        public int getAdjacentMinesCount(int row, int col) {
+            return minefield.getAdjacentMinesCount(row, col);
+        }
+
+        public byte[] snapshot() {
+            byte[] states = minefield.snapshot();
+            for (int index = 0; index < states.length; index++) {
+                states[index] = withRevealed(states[index], index);
+            }
+            return states;
+        }
+
+        public void copyRow(int row, int colFrom, int colTo, byte[] target) {
+            minefield.copyRow(row, colFrom, colTo, target);
+            int first = row * minefield.getColumns() + colFrom;
+            for (int i = 0; i < colTo - colFrom; i++) {
+                target[i] = withRevealed(target[i], first + i);
+            }
+        }
+
+        private byte withRevealed(byte state, int index) {
+            int flags = state & ~CellState.REVEALED;
+            return (byte) (revealed.get(index) ? flags | CellState.REVEALED : flags);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.delose.minesweeper.controller.impl;
+
+import java.nio.file.Path;
+
+import com.delose.minesweeper.controller.EndlessGameController;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.MineGrid;
+import com.delose.minesweeper.model.chunk.ChunkStore;
+import com.delose.minesweeper.model.chunk.ChunkedMinefield;
+import com.delose.minesweeper.model.chunk.FileChunkStore;
+
+/**
+ * Manages the flow of an endless game on any {@link MineGrid}, typically a
+ * {@link com.delose.minesweeper.model.chunk.ChunkedMinefield}.
+ *
+ * A move opens at most {@code maxCascade} squares. The rest of a larger opening is kept as a
+ * frontier of squares whose neighbours are still to be opened, and every later move, including
+ * one on a square already revealed, carries it on by up to another {@code maxCascade} squares.
+ */
+public class EndlessGameControllerImpl implements EndlessGameController {
+
+    private final MineGrid mineGrid;
+    private final int maxCascade;
+    private GameStatus gameStatus;
+    private long revealedSquares;
+    private final IntQueue frontierRows = new IntQueue();
+    private final IntQueue frontierCols = new IntQueue();
+
+    /**
+     * Constructs an endless game on a chunked minefield configured from config.yml.
+     *
+     * @param seed the seed the mine layout is derived from
+     * @param chunkDirectory the directory the state of evicted chunks is spilled to, owned by the caller
+     */
+    public EndlessGameControllerImpl(long seed, Path chunkDirectory) {
+        this(createMinefield(seed, chunkDirectory), GameConfig.getInstance().getEndlessMaxCascade());
+    }
+
+    /**
+     * Constructs an endless game.
+     *
+     * @param mineGrid the minefield to play on
+     * @param maxCascade the maximum number of squares a single reveal may open, since
+     *                   openings on a sparse unbounded minefield need not be finite
+     */
+    public EndlessGameControllerImpl(MineGrid mineGrid, int maxCascade) {
+        this.mineGrid = mineGrid;
+        this.maxCascade = maxCascade;
+        this.gameStatus = GameStatus.IN_PROGRESS;
+    }
+
+    private static ChunkedMinefield createMinefield(long seed, Path chunkDirectory) {
+        GameConfig config = GameConfig.getInstance();
+        ChunkStore chunkStore = new FileChunkStore(chunkDirectory);
+        return new ChunkedMinefield(seed, config.getEndlessMineRatio(), config.getEndlessChunkCacheSize(), chunkStore);
+    }
+
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    public long getRevealedSquareCount() {
+        return revealedSquares;
+    }
+
+    public void revealSquare(int row, int col) {
+        if (gameStatus != GameStatus.IN_PROGRESS) {
+            return;
+        }
+        int opened = 0;
+        if (!mineGrid.isRevealed(row, col)) {
+            if (mineGrid.isMineAt(row, col)) {
+                mineGrid.reveal(row, col);
+                gameStatus = GameStatus.LOST;
+                return;
+            }
+            mineGrid.reveal(row, col);
+            opened++;
+            if (mineGrid.getAdjacentMinesCount(row, col) == 0) {
+                frontierRows.add(row);
+                frontierCols.add(col);
+            }
+        }
+        revealedSquares += extendOpening(opened);
+    }
+
+    /**
+     * Cascades outwards from the frontier across chunk borders until the move has opened
+     * {@code maxCascade} squares. Squares are marked revealed as they are queued, so each one
+     * is queued at most once. A square is only dropped from the frontier once all its
+     * neighbours are open; one cut short by the limit goes back on it to be finished later.
+     *
+     * @param opened the number of squares the move has opened already
+     * @return the number of squares the move has opened in all
+     */
+    private int extendOpening(int opened) {
+        while (!frontierRows.isEmpty() && opened < maxCascade) {
+            int currentRow = frontierRows.poll();
+            int currentCol = frontierCols.poll();
+            for (int i = currentRow - 1; i <= currentRow + 1; i++) {
+                for (int j = currentCol - 1; j <= currentCol + 1; j++) {
+                    if (opened == maxCascade) {
+                        // Revisiting its opened neighbours later is harmless, as they are skipped
+                        frontierRows.add(currentRow);
+                        frontierCols.add(currentCol);
+                        return opened;
+                    }
+                    if (mineGrid.contains(i, j) && mineGrid.reveal(i, j)) {
+                        opened++;
+                        // Only squares with no adjacent mines continue the cascade
+                        if (mineGrid.getAdjacentMinesCount(i, j) == 0) {
+                            frontierRows.add(i);
+                            frontierCols.add(j);
+                        }
+                    }
+                }
+            }
+        }
+        return opened;
+    }
+
+    public boolean isMineAt(int row, int col) {
+        return mineGrid.isMineAt(row, col);
+    }
+
+    public boolean isSquareRevealed(int row, int col) {
+        return mineGrid.isRevealed(row, col);
+    }
+
+    public int getAdjacentMinesCount(int row, int col) {
+        return mineGrid.getAdjacentMinesCount(row, col);
+    }
+}
@@ -1,14 +1,16 @@
 package com.delose.minesweeper.controller.impl;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.RevealListener;
 import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.PositionUtil;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.core.util.config.GameConfig;
 import com.delose.minesweeper.core.util.config.MessageProvider;
-import com.delose.minesweeper.model.Cell;
+import com.delose.minesweeper.model.BoardView;
 import com.delose.minesweeper.model.GameStatus;
 import com.delose.minesweeper.model.Minefield;
 
@@ -20,26 +22,68 @@ public class GameControllerImpl implements GameController {
 
     private Minefield minefield;
     private GameStatus gameStatus;
-    private Map<String, Cell> cellMap;
+    private int revealedSafeCells;
+    private final IntQueue cascadeQueue = new IntQueue();
+    private final ParallelCascade parallelCascade;
+    private RevealListener revealListener;
 
     public GameControllerImpl(int gridSize, int numberOfMines) {
-        this.minefield = new Minefield(gridSize, numberOfMines);
-        this.gameStatus = GameStatus.IN_PROGRESS;
-        this.cellMap = new HashMap<>();
-        initializeCells(gridSize);
+        this(gridSize, gridSize, numberOfMines);
+    }
+
+    public GameControllerImpl(int rows, int columns, int numberOfMines) {
+        this(rows, columns, numberOfMines, GameConfig.getInstance().getParallelCascadeThreshold());
+    }
+
+    /**
+     * Constructs a game whose cascades run in parallel on boards of at least the given number of squares.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines on the grid
+     * @param parallelCascadeThreshold the minimum number of squares for parallel cascades
+     */
+    public GameControllerImpl(int rows, int columns, int numberOfMines, int parallelCascadeThreshold) {
+        this(new Minefield(rows, columns, numberOfMines), GameStatus.IN_PROGRESS, parallelCascadeThreshold);
+    }
+
+    /**
+     * Constructs a game around an existing minefield, such as one restored from a saved board.
+     * Squares already revealed on the minefield count towards the win condition.
+     *
+     * @param minefield the minefield to play on
+     * @param gameStatus the status of the game
+     */
+    public GameControllerImpl(Minefield minefield, GameStatus gameStatus) {
+        this(minefield, gameStatus, GameConfig.getInstance().getParallelCascadeThreshold());
+        recountRevealedSafeCells();
+    }
+
+    private GameControllerImpl(Minefield minefield, GameStatus gameStatus, int parallelCascadeThreshold) {
+        this.minefield = minefield;
+        this.gameStatus = gameStatus;
+        this.parallelCascade = minefield.getCellCount() >= parallelCascadeThreshold
+                ? new ParallelCascade(minefield, ForkJoinPool.commonPool())
+                : null;
+    }
+
+    public void setRevealListener(RevealListener listener) {
+        this.revealListener = listener;
     }
 
     public void placeMinesRandmly() {
-        minefield.placeMines();
+        placeMinesRandmly(ThreadLocalRandom.current().nextLong());
     }
 
-    private void initializeCells(int gridSize) {
-        for (char row = 'A'; row < 'A' + gridSize; row++) {
-            for (int col = 1; col <= gridSize; col++) {
-                String position = "" + row + col;
-                cellMap.put(position, new Cell());
-            }
+    public void placeMinesRandmly(long seed) {
+        GameConfig config = GameConfig.getInstance();
+        if (minefield.getCellCount() >= config.getParallelGenerationThreshold()) {
+            minefield.placeMinesInParallel(seed, config.getGenerationStripes());
+        } else {
+            minefield.placeMines(seed);
         }
+        recountRevealedSafeCells();  // Squares revealed before may hold mines now
+        notifyBoardChanged();
     }
 
     public GameStatus getGameStatus() {
@@ -50,30 +94,56 @@ public class GameControllerImpl implements GameController {
         return minefield.getSize();
     }
 
+    public int getRowCount() {
+        return minefield.getRows();
+    }
+
+    public int getColumnCount() {
+        return minefield.getColumns();
+    }
+
+    public int getNumberOfMines() {
+        return minefield.getNumberOfMines();
+    }
+
+    public long getSeed() {
+        return minefield.getSeed();
+    }
+
+    public BoardView getBoardView() {
+        return minefield;
+    }
+
     public int getAdjacentMinesCount(String position) {
-        validatePosition(position);
         int[] indices = convertPositionToIndices(position);
-        return minefield.calculateAdjacentMines(indices[0], indices[1]);
+        return getAdjacentMinesCount(indices[0], indices[1]);
+    }
+
+    public int getAdjacentMinesCount(int row, int col) {
+        return minefield.getAdjacentMinesCount(row, col);
     }
 
     public void revealSquare(String position) {
-        validatePosition(position);
         int[] indices = convertPositionToIndices(position);
-        Cell cell = cellMap.get(position);
-    
-        if (cell.isRevealed()) {
+        revealSquare(indices[0], indices[1]);
+    }
+
+    public void revealSquare(int row, int col) {
+        int index = minefield.indexOf(row, col);
+
+        if (minefield.isRevealed(index)) {
             return;  // If the cell is already revealed, do nothing
         }
-    
-        if (minefield.isMineAt(indices[0], indices[1])) {
-            cell.reveal();
+
+        if (minefield.isMineAt(index)) {
+            minefield.reveal(index);
+            notifyRevealed(row, col);
             gameStatus = GameStatus.LOST;
             return;
         }
-    
-        cell.reveal();  // Reveal the current cell
-        revealAdjacentSquares(indices[0], indices[1]);
-    
+
+        revealAdjacentSquares(row, col);  // Reveal the current cell and cascade from it
+
         if (checkWinCondition()) {
             gameStatus = GameStatus.WON;
         } else {
@@ -81,33 +151,44 @@ public class GameControllerImpl implements GameController {
         }
     }
 
+    /**
+     * Reveals the given square and, if it has no adjacent mines, cascades outwards.
+     * Squares are marked revealed as they are queued, so each square is visited at most once,
+     * and the queue of linear indices is reused across moves so a cascade allocates nothing.
+     */
     private void revealAdjacentSquares(int row, int col) {
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{row, col});
-    
-        while (!queue.isEmpty()) {
-            int[] current = queue.poll();
-            int currentRow = current[0];
-            int currentCol = current[1];
-            String position = convertIndicesToPosition(currentRow, currentCol);
-            Cell cell = cellMap.get(position);
-
-            cell.reveal();
-            int adjacentMines = minefield.calculateAdjacentMines(currentRow, currentCol);
-    
-            // If there are no adjacent mines, continue revealing neighboring cells
-            if (adjacentMines == 0) {
-                for (int i = Math.max(0, currentRow - 1); i <= Math.min(minefield.getSize() - 1, currentRow + 1); i++) {
-                    for (int j = Math.max(0, currentCol - 1); j <= Math.min(minefield.getSize() - 1, currentCol + 1); j++) {
-                        // Avoid adding the current cell back into the queue
-                        if (i != currentRow || j != currentCol) {
-                            String adjacentPosition = convertIndicesToPosition(i, j);
-                            Cell adjacentCell = cellMap.get(adjacentPosition);
-    
-                            // Only add cells to the queue that haven't been revealed yet
-                            if (!adjacentCell.isRevealed()) {
-                                queue.add(new int[]{i, j});
-                            }
+        int rows = minefield.getRows();
+        int columns = minefield.getColumns();
+        int start = row * columns + col;
+        if (parallelCascade != null && minefield.getAdjacentMinesCount(start) == 0) {
+            revealedSafeCells += parallelCascade.reveal(start, revealListener);
+            return;
+        }
+        if (minefield.reveal(start)) {
+            revealedSafeCells++;
+            notifyRevealed(row, col);
+        }
+        if (minefield.getAdjacentMinesCount(start) != 0) {
+            return;
+        }
+
+        cascadeQueue.clear();
+        cascadeQueue.add(start);
+        while (!cascadeQueue.isEmpty()) {
+            int current = cascadeQueue.poll();
+            int currentRow = current / columns;
+            int currentCol = current % columns;
+
+            // A square with no adjacent mines has no mined neighbours, so all of them are safe to reveal
+            for (int i = Math.max(0, currentRow - 1); i <= Math.min(rows - 1, currentRow + 1); i++) {
+                for (int j = Math.max(0, currentCol - 1); j <= Math.min(columns - 1, currentCol + 1); j++) {
+                    int neighbour = i * columns + j;
+                    if (minefield.reveal(neighbour)) {
+                        revealedSafeCells++;
+                        notifyRevealed(i, j);
+                        // Only squares with no adjacent mines continue the cascade
+                        if (minefield.getAdjacentMinesCount(neighbour) == 0) {
+                            cascadeQueue.add(neighbour);
                         }
                     }
                 }
@@ -117,58 +198,85 @@ public class GameControllerImpl implements GameController {
 
     public boolean isMineAt(String position) {
         int[] indices = convertPositionToIndices(position);
-        return minefield.isMineAt(indices[0], indices[1]);
+        return isMineAt(indices[0], indices[1]);
     }
 
-    private void validatePosition(String position) {
-        if (!cellMap.containsKey(position)) {
-            throw new GameInputException(MessageProvider.getMessage("game.invalidInputSquare"));
-        }
+    public boolean isMineAt(int row, int col) {
+        return minefield.isMineAt(row, col);
     }
 
+    /**
+     * Parses a position such as "A1" into row and column indices.
+     *
+     * @param position the position to parse
+     * @return the row and column indices
+     * @throws GameInputException if the position is malformed or outside the grid
+     */
     private int[] convertPositionToIndices(String position) {
-        int row = position.charAt(0) - 'A';
-        int col = Integer.parseInt(position.substring(1)) - 1;
-        return new int[]{row, col};
+        int[] indices = PositionUtil.parsePosition(position);
+        if (indices == null
+                || indices[0] < 0 || indices[0] >= minefield.getRows()
+                || indices[1] < 0 || indices[1] >= minefield.getColumns()) {
+            throw new GameInputException(MessageProvider.getMessage("game.invalidInputSquare"));
+        }
+        return indices;
     }
 
-    private String convertIndicesToPosition(int row, int col) {
-        return (char) ('A' + row) + Integer.toString(col + 1);
-    }
-    
     private boolean checkWinCondition() {
-        int unrevealedCells = 0;
-    
-        // Iterate over the mineGrid to count unrevealed cells
-        for (int i = 0; i < minefield.getSize(); i++) {
-            for (int j = 0; j < minefield.getSize(); j++) {
-                if (!minefield.isMineAt(i, j) && !cellMap.get(convertIndicesToPosition(i, j)).isRevealed()) {
-                    // If there's any non-mine cell that isn't revealed, the game isn't won yet
-                    return false;
-                }
-                if (!cellMap.get(convertIndicesToPosition(i, j)).isRevealed()) {
-                    unrevealedCells++;
-                }
-            }
-        }
-    
-        // If the number of unrevealed cells is equal to the number of mines, the game is won
-        return unrevealedCells == minefield.getNumberOfMines();
+        // The game is won once every non-mine cell is revealed and exactly the expected mines remain hidden
+        int placedMines = minefield.getPlacedMineCount();
+        return placedMines == minefield.getNumberOfMines()
+                && revealedSafeCells == minefield.getCellCount() - placedMines;
     }
 
     public boolean isSquareRevealed(String position) {
-        validatePosition(position);
-        return cellMap.get(position).isRevealed();
+        int[] indices = convertPositionToIndices(position);
+        return isSquareRevealed(indices[0], indices[1]);
+    }
+
+    public boolean isSquareRevealed(int row, int col) {
+        return minefield.isRevealed(row, col);
     }
 
     public void placeMineAt(String position) {
-        validatePosition(position);
         int[] indices = convertPositionToIndices(position);
-        minefield.placeMine(indices[0], indices[1]);
+        placeMineAt(indices[0], indices[1]);
+    }
+
+    public void placeMineAt(int row, int col) {
+        int index = minefield.indexOf(row, col);
+        if (minefield.isRevealed(index) && !minefield.isMineAt(index)) {
+            revealedSafeCells--;  // The square no longer counts as a revealed safe cell
+        }
+        minefield.placeMine(row, col);
+        notifyBoardChanged();  // Counts of revealed neighbours may have changed
     }
+
     public void revealAllCells() {
-        for (Cell cell : cellMap.values()) {
-            cell.reveal();  // Reveal all cells, whether they contain a mine or not
+        minefield.revealAll();  // Reveal all cells, whether they contain a mine or not
+        revealedSafeCells = minefield.getCellCount() - minefield.getPlacedMineCount();
+        notifyBoardChanged();
+    }
+
+    private void recountRevealedSafeCells() {
+        int count = 0;
+        for (int index = 0; index < minefield.getCellCount(); index++) {
+            if (minefield.isRevealed(index) && !minefield.isMineAt(index)) {
+                count++;
+            }
+        }
+        revealedSafeCells = count;
+    }
+
+    private void notifyRevealed(int row, int col) {
+        if (revealListener != null) {
+            revealListener.squareRevealed(row, col);
+        }
+    }
+
+    private void notifyBoardChanged() {
+        if (revealListener != null) {
+            revealListener.boardChanged();
         }
     }
 
@@ -0,0 +1,186 @@
+package com.delose.minesweeper.controller.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.delose.minesweeper.controller.RevealListener;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * Reveals a cascade on a {@link ForkJoinPool} by splitting the board into square tiles.
+ *
+ * The fill runs in rounds. In each round every tile with pending squares floods within
+ * its own bounds on a separate task; squares the flood reaches in a neighbouring tile are
+ * collected and handed to that tile for the next round. A square is only ever written by
+ * the task owning its tile, so tasks never share mutable state, and the revealed set is the
+ * same closure the sequential cascade in {@link GameControllerImpl} produces.
+ */
+class ParallelCascade {
+
+    static final int TILE_SIZE = 256;
+
+    private final Minefield minefield;
+    private final ForkJoinPool pool;
+    private final int rows;
+    private final int columns;
+    private final int tilesPerRow;
+    private final Tile[] tiles;
+
+    ParallelCascade(Minefield minefield, ForkJoinPool pool) {
+        this.minefield = minefield;
+        this.pool = pool;
+        this.rows = minefield.getRows();
+        this.columns = minefield.getColumns();
+        this.tilesPerRow = (columns + TILE_SIZE - 1) / TILE_SIZE;
+        this.tiles = new Tile[tilesPerRow * ((rows + TILE_SIZE - 1) / TILE_SIZE)];
+    }
+
+    /**
+     * Reveals the given square and everything the cascade reaches from it.
+     *
+     * Revealed squares are logged per tile and passed to the listener between rounds,
+     * on the calling thread.
+     *
+     * @param start the linear index of the first square to reveal
+     * @param listener the listener told about each revealed square, or null
+     * @return the number of safe squares newly revealed
+     */
+    int reveal(int start, RevealListener listener) {
+        tileOf(start).inbox.add(start);
+        List<Tile> pending = new ArrayList<>();
+        pending.add(tileOf(start));
+
+        int revealed = 0;
+        while (!pending.isEmpty()) {
+            pool.invoke(new Round(pending, listener != null));
+            revealed += routeOutboxes(pending, listener);
+        }
+        return revealed;
+    }
+
+    /**
+     * Moves the squares every tile reached outside its bounds into the owning tiles' inboxes.
+     * Clears the given list and refills it with the tiles that have work for the next round.
+     */
+    private int routeOutboxes(List<Tile> processed, RevealListener listener) {
+        int revealed = 0;
+        List<Tile> next = new ArrayList<>();
+        for (Tile tile : processed) {
+            revealed += tile.revealed;
+            tile.revealed = 0;
+            while (!tile.revealedLog.isEmpty()) {
+                int index = tile.revealedLog.poll();
+                listener.squareRevealed(index / columns, index % columns);
+            }
+            while (!tile.outbox.isEmpty()) {
+                int index = tile.outbox.poll();
+                Tile target = tileOf(index);
+                if (target.inbox.isEmpty()) {
+                    next.add(target);
+                }
+                target.inbox.add(index);
+            }
+        }
+        processed.clear();
+        processed.addAll(next);
+        return revealed;
+    }
+
+    private Tile tileOf(int index) {
+        int tileId = (index / columns / TILE_SIZE) * tilesPerRow + (index % columns) / TILE_SIZE;
+        Tile tile = tiles[tileId];
+        if (tile == null) {
+            tile = new Tile(tileId / tilesPerRow * TILE_SIZE, tileId % tilesPerRow * TILE_SIZE);
+            tiles[tileId] = tile;
+        }
+        return tile;
+    }
+
+    private class Round extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Tile> tilesToFlood;
+        private final boolean logReveals;
+
+        Round(List<Tile> tilesToFlood, boolean logReveals) {
+            this.tilesToFlood = tilesToFlood;
+            this.logReveals = logReveals;
+        }
+
+        @Override
+        protected void compute() {
+            List<RecursiveAction> floods = new ArrayList<>(tilesToFlood.size());
+            for (Tile tile : tilesToFlood) {
+                floods.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        tile.flood(logReveals);
+                    }
+                });
+            }
+            invokeAll(floods);
+        }
+    }
+
+    /**
+     * The squares of one tile, with the queues used to flood it. Queues are reused across rounds and moves.
+     */
+    private class Tile {
+
+        private final int rowFrom;
+        private final int rowTo;
+        private final int colFrom;
+        private final int colTo;
+        private final IntQueue inbox = new IntQueue();
+        private final IntQueue outbox = new IntQueue();
+        private final IntQueue work = new IntQueue();
+        private final IntQueue revealedLog = new IntQueue();
+        private boolean logReveals;
+        private int revealed;
+
+        Tile(int rowFrom, int colFrom) {
+            this.rowFrom = rowFrom;
+            this.rowTo = Math.min(rows, rowFrom + TILE_SIZE) - 1;
+            this.colFrom = colFrom;
+            this.colTo = Math.min(columns, colFrom + TILE_SIZE) - 1;
+        }
+
+        void flood(boolean logReveals) {
+            this.logReveals = logReveals;
+            while (!inbox.isEmpty()) {
+                revealSquare(inbox.poll());
+            }
+            while (!work.isEmpty()) {
+                int current = work.poll();
+                int currentRow = current / columns;
+                int currentCol = current % columns;
+                for (int i = Math.max(0, currentRow - 1); i <= Math.min(rows - 1, currentRow + 1); i++) {
+                    for (int j = Math.max(0, currentCol - 1); j <= Math.min(columns - 1, currentCol + 1); j++) {
+                        if (i < rowFrom || i > rowTo || j < colFrom || j > colTo) {
+                            outbox.add(i * columns + j);  // Owned by a neighbouring tile
+                        } else {
+                            revealSquare(i * columns + j);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void revealSquare(int index) {
+            if (minefield.reveal(index)) {
+                revealed++;
+                if (logReveals) {
+                    revealedLog.add(index);
+                }
+                // Only squares with no adjacent mines continue the cascade
+                if (minefield.getAdjacentMinesCount(index) == 0) {
+                    work.add(index);
+                }
+            }
+        }
+    }
+}
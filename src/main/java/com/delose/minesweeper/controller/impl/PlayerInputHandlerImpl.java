@@ -2,11 +2,13 @@ package com.delose.minesweeper.controller.impl;
 
 import com.delose.minesweeper.controller.PlayerInputHandler;
 import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.PositionUtil;
 import com.delose.minesweeper.core.util.config.MessageProvider;
 
 public class PlayerInputHandlerImpl implements PlayerInputHandler {
 
-    private final int gridSize;
+    private final int rows;
+    private final int columns;
 
     /**
      * Constructs a PlayerInputHandler with the specified grid size.
@@ -14,18 +16,30 @@ public class PlayerInputHandlerImpl implements PlayerInputHandler {
      * @param gridSize the size of the grid (gridSize x gridSize)
      */
     public PlayerInputHandlerImpl(int gridSize) {
-        this.gridSize = gridSize;
+        this(gridSize, gridSize);
+    }
+
+    /**
+     * Constructs a PlayerInputHandler for a rectangular grid.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     */
+    public PlayerInputHandlerImpl(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
     }
 
     /**
      * Parses and validates the player input.
+     * Rows are letters, continuing AA, AB, ... after Z, and columns are numbers (e.g., "A1" or "AB120").
      * 
      * @param input the player input (e.g., "A1")
      * @return the parsed input in a standardized format (e.g., "A1")
      * @throws GameInputException if the input is invalid or out of bounds
      */
     public String parseInput(String input) {
-        if (input == null || input.length() < 2 || input.length() > 3) {
+        if (input == null || input.length() < 2) {
             throw new GameInputException(MessageProvider.getMessage("game.invalidInputGridPosition"));
         }
 
@@ -33,16 +47,15 @@ public class PlayerInputHandlerImpl implements PlayerInputHandler {
         input = input.toUpperCase();
 
         // Extract row and column
-        char row = input.charAt(0);
-        int col;
-        try {
-            col = Integer.parseInt(input.substring(1));
-        } catch (NumberFormatException e) {
+        int[] indices = PositionUtil.parsePosition(input);
+        if (indices == null) {
             throw new GameInputException(MessageProvider.getMessage("game.invalidInputGridPosition"));
         }
 
         // Validate row and column bounds
-        if (row < 'A' || row >= 'A' + gridSize || col < 1 || col > gridSize) {
+        int row = indices[0];
+        int col = indices[1];
+        if (row < 0 || row >= rows || col < 0 || col >= columns) {
             throw new GameInputException(MessageProvider.getMessage("game.inputOutOfBounds"));
         }
 
@@ -3,9 +3,14 @@ package com.delose.minesweeper.core.helper;
 import com.delose.minesweeper.controller.GameController;
 import com.delose.minesweeper.model.GameStatus;
 import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.PositionUtil;
+import com.delose.minesweeper.core.util.config.GameConfig;
 import com.delose.minesweeper.core.util.config.MessageProvider;
 import com.delose.minesweeper.core.util.logging.LoggerUtil;
 import com.delose.minesweeper.view.DisplayManager;
+import com.delose.minesweeper.view.FrameOutput;
+import com.delose.minesweeper.view.Viewport;
+import com.delose.minesweeper.view.impl.ChannelFrameOutput;
 import com.delose.minesweeper.controller.PlayerInputHandler;
 
 import java.util.Scanner;
@@ -17,33 +22,58 @@ public class GameRunner {
 
     private final GameComponents components;
     private final Scanner scanner;
+    private final FrameOutput frameOutput;
 
     /**
-     * Constructs a GameRunner with the specified game components.
+     * Constructs a GameRunner with the specified game components, drawing the board on standard output.
      *
      * @param components the container object holding the game components
      */
     public GameRunner(GameComponents components) {
+        this(components, new ChannelFrameOutput());
+    }
+
+    /**
+     * Constructs a GameRunner that draws the board on the given output. Board frames bypass
+     * the logger, which is left for messages and diagnostics.
+     *
+     * @param components the container object holding the game components
+     * @param frameOutput the output board frames are written to
+     */
+    public GameRunner(GameComponents components, FrameOutput frameOutput) {
         this.components = components;
         this.scanner = new Scanner(System.in);
+        this.frameOutput = frameOutput;
     }
 
     /**
-     * Starts and runs the main game loop.
+     * Starts and runs the main game loop. Boards larger than the configured viewport are shown
+     * a window at a time; the player scrolls with W/A/S/D, and the window follows revealed squares.
      */
     public void runGameLoop() {
         GameController gameController = components.getGameController();
         DisplayManager displayManager = components.getDisplayManager();
         PlayerInputHandler inputHandler = components.getInputHandler();
+        GameConfig config = GameConfig.getInstance();
+        Viewport viewport = new Viewport(gameController.getRowCount(), gameController.getColumnCount(),
+                config.getViewportRows(), config.getViewportColumns());
 
         while (gameController.getGameStatus() == GameStatus.IN_PROGRESS) {
-            LoggerUtil.info(displayManager.renderMinefield());
-            System.out.print(MessageProvider.getMessage("game.selectedSquare"));
+            drawBoard(displayManager, viewport);
+            System.out.print(MessageProvider.getMessage(viewport.isPartial() ? "game.selectedSquareOrScroll" : "game.selectedSquare"));
             String input = scanner.nextLine();
 
+            if (viewport.isPartial() && scroll(viewport, input)) {
+                continue;
+            }
+
             try {
                 String position = inputHandler.parseInput(input);
                 gameController.revealSquare(position);
+                int[] indices = PositionUtil.parsePosition(position);
+                if (indices != null) {
+                    viewport.show(indices[0], indices[1]);
+                }
             } catch (GameInputException e) {
                 LoggerUtil.error(e.getMessage());
                 continue;
@@ -51,13 +81,48 @@ public class GameRunner {
 
             if (gameController.getGameStatus() != GameStatus.IN_PROGRESS) {
                 gameController.revealAllCells();
-                LoggerUtil.info(displayManager.renderMinefield());
+                drawBoard(displayManager, viewport);
                 LoggerUtil.info(displayManager.displayEndGameMessage());
                 break;
             }
         }
     }
 
+    private void drawBoard(DisplayManager displayManager, Viewport viewport) {
+        if (viewport.isPartial()) {
+            frameOutput.write(displayManager.encodeRegion(viewport.getRowFrom(), viewport.getRowTo(),
+                    viewport.getColFrom(), viewport.getColTo()));
+        } else {
+            frameOutput.write(displayManager.encodeMinefield());
+        }
+    }
+
+    /**
+     * Scrolls the viewport by half a screen if the input is one of the W/A/S/D commands.
+     *
+     * @return true if the input was a scroll command
+     */
+    private boolean scroll(Viewport viewport, String input) {
+        int rows = Math.max(1, viewport.getHeight() / 2);
+        int columns = Math.max(1, viewport.getWidth() / 2);
+        switch (input.trim().toUpperCase()) {
+            case "W":
+                viewport.scroll(-rows, 0);
+                return true;
+            case "S":
+                viewport.scroll(rows, 0);
+                return true;
+            case "A":
+                viewport.scroll(0, -columns);
+                return true;
+            case "D":
+                viewport.scroll(0, columns);
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Prompts the user to replay the game or exit.
      *
@@ -2,14 +2,16 @@ package com.delose.minesweeper.core.helper;
 
 import com.delose.minesweeper.controller.GameController;
 import com.delose.minesweeper.view.DisplayManager;
+import com.delose.minesweeper.view.impl.AnsiDisplayManagerImpl;
 import com.delose.minesweeper.view.impl.DisplayManagerImpl;
 import com.delose.minesweeper.controller.PlayerInputHandler;
-import com.delose.minesweeper.controller.impl.GameControllerImpl;
 import com.delose.minesweeper.controller.impl.PlayerInputHandlerImpl;
 import com.delose.minesweeper.core.exception.GameInputException;
 import com.delose.minesweeper.core.util.config.GameConfig;
 import com.delose.minesweeper.core.util.config.MessageProvider;
 import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.pool.BoardPool;
+import com.delose.minesweeper.pool.impl.BoardPoolImpl;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -21,6 +23,24 @@ import java.util.Scanner;
  */
 public class GameSetupHelper {
 
+    // Shared by every game, so the board for a replay is generated while the current game is played
+    private static final BoardPool SHARED_BOARD_POOL = new BoardPoolImpl();
+
+    private final BoardPool boardPool;
+
+    public GameSetupHelper() {
+        this(SHARED_BOARD_POOL);
+    }
+
+    /**
+     * Constructs a helper taking its boards from the given pool.
+     *
+     * @param boardPool the pool of ready boards
+     */
+    public GameSetupHelper(BoardPool boardPool) {
+        this.boardPool = boardPool;
+    }
+
     /**
      * Initializes game components by prompting the user for grid size and number of mines.
      *
@@ -31,12 +51,14 @@ public class GameSetupHelper {
     
         int gridSize;
         int numberOfMines;
+        GameController gameController;
         
         // Loop until valid grid size and number of mines are provided
         while (true) {
             try {
                 gridSize = promptGridSize(scanner);
                 numberOfMines = promptNumberOfMines(scanner, gridSize);
+                gameController = createGameController(gridSize, numberOfMines);
                 break;  // Break the loop when valid inputs are provided
             } catch (NoSuchElementException | GameInputException e) {
                 LoggerUtil.error(e.getMessage());
@@ -44,14 +66,23 @@ public class GameSetupHelper {
             }
         }
     
-        GameController gameController = new GameControllerImpl(gridSize, numberOfMines);
-        gameController.placeMinesRandmly();
-        DisplayManager displayManager = new DisplayManagerImpl(gameController);
+        DisplayManager displayManager = "ansi".equals(GameConfig.getInstance().getDisplayRenderer())
+                ? new AnsiDisplayManagerImpl(gameController)
+                : new DisplayManagerImpl(gameController);
         PlayerInputHandler inputHandler = new PlayerInputHandlerImpl(gridSize);
     
         return new GameComponents(gameController, displayManager, inputHandler);
     }
 
+    /**
+     * Creates the game, on a board generated ahead of time when one is ready.
+     *
+     * @throws GameInputException if no no-guess board could be generated
+     */
+    private GameController createGameController(int gridSize, int numberOfMines) {
+        return boardPool.take(gridSize, gridSize, numberOfMines);
+    }
+
     private int promptGridSize(Scanner scanner) {
         GameConfig config = GameConfig.getInstance();
         
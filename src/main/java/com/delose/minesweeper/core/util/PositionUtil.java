@@ -0,0 +1,102 @@
+package com.delose.minesweeper.core.util;
+
+/**
+ * Converts between zero-based grid indices and player-facing positions such as "A1" or "AB120".
+ *
+ * Rows are labelled spreadsheet style (A..Z, AA..AZ, BA.. and so on) and columns are
+ * numbered from 1, so the scheme scales to boards with any number of rows.
+ */
+public final class PositionUtil {
+
+    // Six letters already address more rows than a board can hold
+    private static final int MAX_ROW_LABEL_LENGTH = 6;
+    private static final int MALFORMED = Integer.MIN_VALUE;
+
+    private PositionUtil() {
+        throw new IllegalStateException("PositionUtil class");
+    }
+
+    /**
+     * Gets the label of a row, e.g. 0 is "A", 25 is "Z" and 26 is "AA".
+     *
+     * @param row the zero-based row index
+     * @return the row label
+     */
+    public static String toRowLabel(int row) {
+        StringBuilder label = new StringBuilder(3);
+        appendRowLabel(label, row);
+        return label.toString();
+    }
+
+    /**
+     * Appends the label of a row to the given builder without creating an intermediate String.
+     *
+     * @param target the builder to append to
+     * @param row the zero-based row index
+     * @return the given builder
+     */
+    public static StringBuilder appendRowLabel(StringBuilder target, int row) {
+        int start = target.length();
+        int remaining = row + 1;
+        while (remaining > 0) {
+            remaining--;
+            target.insert(start, (char) ('A' + remaining % 26));
+            remaining /= 26;
+        }
+        return target;
+    }
+
+    /**
+     * Gets the player-facing position of a square, e.g. (0, 0) is "A1".
+     *
+     * @param row the zero-based row index
+     * @param col the zero-based column index
+     * @return the position of the square
+     */
+    public static String toPosition(int row, int col) {
+        return appendRowLabel(new StringBuilder(8), row).append(col + 1).toString();
+    }
+
+    /**
+     * Parses a position such as "A1" or "AB120" into zero-based row and column indices.
+     * Lower-case row letters are accepted. Bounds are not checked.
+     *
+     * @param position the position to parse
+     * @return the row and column indices, or null if the position is malformed
+     */
+    public static int[] parsePosition(String position) {
+        if (position == null) {
+            return null;
+        }
+        int letters = 0;
+        long row = 0;
+        while (letters < position.length() && Character.isLetter(position.charAt(letters))) {
+            char letter = Character.toUpperCase(position.charAt(letters));
+            if (letter < 'A' || letter > 'Z' || letters == MAX_ROW_LABEL_LENGTH) {
+                return null;
+            }
+            row = row * 26 + (letter - 'A' + 1);
+            letters++;
+        }
+        int col = parseColumn(position, letters);
+        if (letters == 0 || col == MALFORMED) {
+            return null;
+        }
+        return new int[]{(int) (row - 1), col};
+    }
+
+    private static int parseColumn(String position, int from) {
+        if (from == position.length() || position.length() - from > 9) {
+            return MALFORMED;
+        }
+        int col = 0;
+        for (int i = from; i < position.length(); i++) {
+            char digit = position.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return MALFORMED;
+            }
+            col = col * 10 + (digit - '0');
+        }
+        return col - 1;
+    }
+}
@@ -0,0 +1,119 @@
+package com.delose.minesweeper.core.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random sampling helpers not provided by {@link SplittableRandom}.
+ */
+public final class RandomUtil {
+
+    private static final double HALF_LN_2PI = 0.9189385332046728;
+    private static final double D1 = 1.7155277699214135;
+    private static final double D2 = 0.8989161620588988;
+    private static final double[] LOG_FACTORIALS = new double[126];
+
+    static {
+        for (int k = 1; k < LOG_FACTORIALS.length; k++) {
+            LOG_FACTORIALS[k] = LOG_FACTORIALS[k - 1] + Math.log(k);
+        }
+    }
+
+    private RandomUtil() {
+        throw new IllegalStateException("RandomUtil class");
+    }
+
+    /**
+     * Draws from the hypergeometric distribution: the number of marked items in a sample drawn
+     * without replacement from a population. Small samples are drawn item by item; larger ones use
+     * the ratio-of-uniforms rejection method of Stadlober (HRUA), so the cost does not grow with the
+     * sample size.
+     *
+     * @param random the source of randomness
+     * @param marked the number of marked items in the population
+     * @param unmarked the number of unmarked items in the population
+     * @param sample the number of items drawn
+     * @return the number of marked items in the sample
+     */
+    public static long hypergeometric(SplittableRandom random, long marked, long unmarked, long sample) {
+        if (marked < 0 || unmarked < 0 || sample < 0 || sample > marked + unmarked) {
+            throw new IllegalArgumentException("Invalid hypergeometric parameters");
+        }
+        if (sample >= 10 && sample <= marked + unmarked - 10) {
+            return hypergeometricRatioOfUniforms(random, marked, unmarked, sample);
+        }
+        return hypergeometricByDrawing(random, marked, unmarked, sample);
+    }
+
+    private static long hypergeometricByDrawing(SplittableRandom random, long marked, long unmarked, long sample) {
+        long total = marked + unmarked;
+        long remainingSample = sample > total / 2 ? total - sample : sample;
+        long remainingTotal = total;
+        long remainingMarked = marked;
+        while (remainingSample > 0 && remainingMarked > 0 && remainingTotal > remainingMarked) {
+            if (random.nextLong(remainingTotal) < remainingMarked) {
+                remainingMarked--;
+            }
+            remainingTotal--;
+            remainingSample--;
+        }
+        if (remainingTotal == remainingMarked) {
+            remainingMarked -= remainingSample;  // Only marked items are left
+        }
+        return sample > total / 2 ? remainingMarked : marked - remainingMarked;
+    }
+
+    private static long hypergeometricRatioOfUniforms(SplittableRandom random, long marked, long unmarked, long sample) {
+        long population = marked + unmarked;
+        long computedSample = Math.min(sample, population - sample);
+        long minMarked = Math.min(marked, unmarked);
+        long maxMarked = Math.max(marked, unmarked);
+
+        double p = (double) minMarked / population;
+        double q = (double) maxMarked / population;
+        double a = computedSample * p + 0.5;
+        double variance = (double) (population - computedSample) * computedSample * p * q / (population - 1);
+        double c = Math.sqrt(variance + 0.5);
+        double h = D1 * c + D2;
+        long mode = (long) Math.floor((double) (computedSample + 1) * (minMarked + 1) / (population + 2));
+        double g = logFactorial(mode) + logFactorial(minMarked - mode)
+                + logFactorial(computedSample - mode) + logFactorial(maxMarked - computedSample + mode);
+        double bound = Math.min(Math.min(computedSample, minMarked) + 1, Math.floor(a + 16 * c));
+
+        long k;
+        while (true) {
+            double u = random.nextDouble();
+            double v = random.nextDouble();
+            double x = a + h * (v - 0.5) / u;
+            if (x < 0.0 || x >= bound) {
+                continue;  // Fast rejection
+            }
+            k = (long) Math.floor(x);
+            double t = g - (logFactorial(k) + logFactorial(minMarked - k)
+                    + logFactorial(computedSample - k) + logFactorial(maxMarked - computedSample + k));
+            if (u * (4.0 - u) - 3.0 <= t) {
+                break;  // Fast acceptance
+            }
+            if (u * (u - t) >= 1) {
+                continue;  // Fast rejection
+            }
+            if (2.0 * Math.log(u) <= t) {
+                break;
+            }
+        }
+
+        if (marked > unmarked) {
+            k = computedSample - k;
+        }
+        if (computedSample < sample) {
+            k = marked - k;
+        }
+        return k;
+    }
+
+    private static double logFactorial(long k) {
+        if (k < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[(int) k];
+        }
+        return (k + 0.5) * Math.log(k) - k + HALF_LN_2PI + (1.0 / k) * (1 / 12.0 - 1 / (360.0 * k * k));
+    }
+}
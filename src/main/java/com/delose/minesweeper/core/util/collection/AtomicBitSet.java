@@ -0,0 +1,74 @@
+package com.delose.minesweeper.core.util.collection;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A fixed-size set of bits that many threads can set at once without locking.
+ *
+ * Bits are packed 32 to an int in an {@link AtomicIntegerArray}, and a bit is set by a
+ * compare-and-set of its word, so when several threads race to set the same bit exactly one of
+ * them is told it set it.
+ */
+public class AtomicBitSet {
+
+    private final AtomicIntegerArray words;
+    private final int length;
+
+    /**
+     * Constructs a set of the given number of bits, all clear.
+     *
+     * @param length the number of bits
+     */
+    public AtomicBitSet(int length) {
+        this.length = length;
+        this.words = new AtomicIntegerArray((int) (((long) length + 31) >>> 5));
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean get(int index) {
+        return (words.get(index >>> 5) & (1 << index)) != 0;
+    }
+
+    /**
+     * Sets a bit, unless it is already set.
+     *
+     * @param index the index of the bit
+     * @return true if this call set the bit, false if it was already set
+     */
+    public boolean set(int index) {
+        int word = index >>> 5;
+        int bit = 1 << index;
+        while (true) {
+            int current = words.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Clears a bit. Not safe against concurrent changes to the same word of 32 bits.
+     *
+     * @param index the index of the bit
+     */
+    public void clear(int index) {
+        int word = index >>> 5;
+        words.set(word, words.get(word) & ~(1 << index));
+    }
+
+    /**
+     * Sets every bit.
+     */
+    public void setAll() {
+        for (int word = 0; word < words.length(); word++) {
+            int bits = length - (word << 5);
+            words.set(word, bits >= 32 ? -1 : (1 << bits) - 1);
+        }
+    }
+}
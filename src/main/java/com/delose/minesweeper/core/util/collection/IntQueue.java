@@ -0,0 +1,77 @@
+package com.delose.minesweeper.core.util.collection;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A growable FIFO queue of primitive ints backed by a ring buffer.
+ * Unlike a {@code Queue<Integer>} it allocates nothing per element, and once it
+ * has grown to its working size it can be cleared and reused without allocating.
+ */
+public class IntQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    public IntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue able to hold at least the given number of elements before growing.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public IntQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, initialCapacity) - 1) << 1;
+        this.elements = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the element at the head of the queue.
+     *
+     * @return the head of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length << 1];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+    }
+}
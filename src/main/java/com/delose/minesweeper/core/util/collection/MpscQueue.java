@@ -0,0 +1,74 @@
+package com.delose.minesweeper.core.util.collection;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An unbounded, lock-free FIFO queue for many producer threads and a single consumer thread.
+ *
+ * Elements are kept in a linked list. A producer swaps its node into the tail with a single
+ * atomic exchange and then links it behind the previous tail, so producers never retry and never
+ * wait for each other. Only the consumer moves the head, which needs no atomic operation at all.
+ *
+ * While a producer is between the exchange and the link, the elements behind its node are not yet
+ * visible, so {@link #poll()} may briefly return null although an offer has started.
+ * Consumers that sleep when the queue is empty should be woken by producers after offering.
+ *
+ * @param <E> the type of the elements
+ */
+public class MpscQueue<E> {
+
+    private final AtomicReference<Node<E>> tail;
+    private Node<E> head;
+
+    public MpscQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds an element at the tail of the queue. May be called from any thread.
+     *
+     * @param element the element to add, not null
+     */
+    public void offer(E element) {
+        Node<E> node = new Node<>(element);
+        Node<E> previous = tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    /**
+     * Removes and returns the element at the head of the queue. Must only be called from the consumer thread.
+     *
+     * @return the head of the queue, or null if there is no element to take
+     */
+    public E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E element = next.element;
+        next.element = null;  // The node becomes the new stub
+        head = next;
+        return element;
+    }
+
+    /**
+     * Checks whether the consumer would find the queue empty. Must only be called from the consumer thread.
+     *
+     * @return whether there is no element to take
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    private static final class Node<E> {
+
+        private E element;
+        private volatile Node<E> next;
+
+        Node(E element) {
+            this.element = element;
+        }
+    }
+}
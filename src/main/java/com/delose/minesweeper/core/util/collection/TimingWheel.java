@@ -0,0 +1,132 @@
+package com.delose.minesweeper.core.util.collection;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: schedules elements to expire at a given tick, for a single thread.
+ *
+ * There are four levels of 64 slots. An element goes in the finest level whose slots still
+ * distinguish its deadline from the current tick, in the slot of its deadline's digit at that
+ * level. Each time the current tick enters a new block of a coarser level, that block's slot is
+ * emptied into the finer levels, so scheduling costs O(1) and each element moves down at most
+ * three times, whatever the number of elements or the length of their delays. Deadlines beyond
+ * 64^4 ticks are parked in the coarsest level and rescheduled as it turns.
+ *
+ * Elements cannot be cancelled; the usual pattern is to check an element when it expires and
+ * schedule it again if it is not due yet.
+ *
+ * @param <E> the type of the elements
+ */
+public class TimingWheel<E> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Node<E>[][] slots = new Node[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Constructs an empty wheel.
+     *
+     * @param startTick the current tick
+     */
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules an element. A deadline that is not after the current tick expires on the next tick.
+     *
+     * @param element the element
+     * @param deadlineTick the tick at which the element expires
+     */
+    public void schedule(E element, long deadlineTick) {
+        insert(new Node<>(element, Math.max(deadlineTick, currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * Moves the current tick forward, expiring every element whose deadline is passed, in order of deadline.
+     *
+     * @param toTick the new current tick; nothing happens if it is not after the current tick
+     * @param expired receives each expired element; it may schedule elements again
+     */
+    public void advance(long toTick, Consumer<? super E> expired) {
+        while (currentTick < toTick) {
+            if (size == 0) {
+                currentTick = toTick;
+                return;
+            }
+            currentTick++;
+            // Cascade each coarser level whose block just started, coarsest first
+            int level = 0;
+            while (level < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) {
+                level++;
+            }
+            for (; level > 0; level--) {
+                Node<E> node = detach(level, digit(currentTick, level));
+                while (node != null) {
+                    Node<E> next = node.next;
+                    insert(node);
+                    node = next;
+                }
+            }
+
+            Node<E> node = detach(0, digit(currentTick, 0));
+            while (node != null) {
+                Node<E> next = node.next;
+                if (node.deadline <= currentTick) {
+                    size--;
+                    expired.accept(node.element);
+                } else {
+                    insert(node);  // Parked beyond the wheel's range
+                }
+                node = next;
+            }
+        }
+    }
+
+    private void insert(Node<E> node) {
+        int level = 0;
+        while (level < LEVELS - 1
+                && (node.deadline >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = digit(node.deadline, level);
+        node.next = slots[level][slot];
+        slots[level][slot] = node;
+    }
+
+    private Node<E> detach(int level, int slot) {
+        Node<E> head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    private static int digit(long tick, int level) {
+        return (int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1);
+    }
+
+    private static final class Node<E> {
+
+        private final E element;
+        private final long deadline;
+        private Node<E> next;
+
+        Node(E element, long deadline) {
+            this.element = element;
+            this.deadline = deadline;
+        }
+    }
+}
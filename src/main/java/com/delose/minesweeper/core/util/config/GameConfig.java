@@ -16,6 +16,30 @@ public class GameConfig {
     private int minGridSize;
     private int maxGridSize;
     private double maxMineRatio;
+    private int parallelGenerationThreshold;
+    private int generationStripes;
+    private int parallelCascadeThreshold;
+    private double endlessMineRatio;
+    private int endlessChunkCacheSize;
+    private int endlessMaxCascade;
+    private String displayRenderer;
+    private int viewportRows;
+    private int viewportColumns;
+    private int probabilityTimeBudgetMillis;
+    private boolean noGuessEnabled;
+    private int noGuessCandidates;
+    private int noGuessMaxAttempts;
+    private int boardPoolCapacity;
+    private int boardPoolMaxShelves;
+    private int boardPoolProducers;
+    private long boardPoolMaxSquares;
+    private int serverPort;
+    private int serverMaxSessions;
+    private long serverMaxSquares;
+    private String serverEngine;
+    private int serverShards;
+    private int serverIdleTimeoutSeconds;
+    private String serverParkDirectory;
 
     private GameConfig() {
         loadConfig();
@@ -36,8 +60,47 @@ public class GameConfig {
             this.minGridSize = gridConfig.get("min-size");
             this.maxGridSize = gridConfig.get("max-size");
 
-            Map<String, Double> minesConfig = (Map<String, Double>) minesweeper.get("mines");
-            this.maxMineRatio = minesConfig.get("max-ratio");
+            Map<String, Number> minesConfig = (Map<String, Number>) minesweeper.get("mines");
+            this.maxMineRatio = minesConfig.get("max-ratio").doubleValue();
+            this.parallelGenerationThreshold = minesConfig.get("parallel-threshold").intValue();
+            this.generationStripes = minesConfig.get("generation-stripes").intValue();
+
+            Map<String, Integer> cascadeConfig = (Map<String, Integer>) minesweeper.get("cascade");
+            this.parallelCascadeThreshold = cascadeConfig.get("parallel-threshold");
+
+            Map<String, Number> endlessConfig = (Map<String, Number>) minesweeper.get("endless");
+            this.endlessMineRatio = endlessConfig.get("mine-ratio").doubleValue();
+            this.endlessChunkCacheSize = endlessConfig.get("chunk-cache-size").intValue();
+            this.endlessMaxCascade = endlessConfig.get("max-cascade").intValue();
+
+            Map<String, Object> displayConfig = (Map<String, Object>) minesweeper.get("display");
+            this.displayRenderer = (String) displayConfig.get("renderer");
+            this.viewportRows = ((Number) displayConfig.get("viewport-rows")).intValue();
+            this.viewportColumns = ((Number) displayConfig.get("viewport-columns")).intValue();
+
+            Map<String, Integer> solverConfig = (Map<String, Integer>) minesweeper.get("solver");
+            this.probabilityTimeBudgetMillis = solverConfig.get("probability-time-budget-millis");
+
+            Map<String, Object> noGuessConfig = (Map<String, Object>) minesweeper.get("no-guess");
+            this.noGuessEnabled = (Boolean) noGuessConfig.get("enabled");
+            this.noGuessCandidates = ((Number) noGuessConfig.get("candidates")).intValue();
+            this.noGuessMaxAttempts = ((Number) noGuessConfig.get("max-attempts")).intValue();
+
+            Map<String, Number> boardPoolConfig = (Map<String, Number>) minesweeper.get("board-pool");
+            this.boardPoolCapacity = boardPoolConfig.get("capacity").intValue();
+            this.boardPoolMaxShelves = boardPoolConfig.get("max-shelves").intValue();
+            this.boardPoolProducers = boardPoolConfig.get("producers").intValue();
+            this.boardPoolMaxSquares = boardPoolConfig.get("max-squares").longValue();
+
+            Map<String, Object> serverConfig = (Map<String, Object>) minesweeper.get("server");
+            this.serverPort = ((Number) serverConfig.get("port")).intValue();
+            this.serverMaxSessions = ((Number) serverConfig.get("max-sessions")).intValue();
+            this.serverMaxSquares = ((Number) serverConfig.get("max-squares")).longValue();
+            this.serverEngine = (String) serverConfig.get("engine");
+            this.serverShards = ((Number) serverConfig.get("shards")).intValue();
+            this.serverIdleTimeoutSeconds = ((Number) serverConfig.get("idle-timeout-seconds")).intValue();
+            Object parkDirectory = serverConfig.get("park-directory");
+            this.serverParkDirectory = parkDirectory == null ? "" : parkDirectory.toString();
         } catch (Exception e) {
             throw new RuntimeException("Failed to load configuration from config.yml", e);
         }
@@ -54,4 +117,100 @@ public class GameConfig {
     public double getMaxMineRatio() {
         return maxMineRatio;
     }
-}
\ No newline at end of file
+
+    public int getParallelGenerationThreshold() {
+        return parallelGenerationThreshold;
+    }
+
+    public int getGenerationStripes() {
+        return generationStripes;
+    }
+
+    public int getParallelCascadeThreshold() {
+        return parallelCascadeThreshold;
+    }
+
+    public double getEndlessMineRatio() {
+        return endlessMineRatio;
+    }
+
+    public int getEndlessChunkCacheSize() {
+        return endlessChunkCacheSize;
+    }
+
+    public int getEndlessMaxCascade() {
+        return endlessMaxCascade;
+    }
+
+    public String getDisplayRenderer() {
+        return displayRenderer;
+    }
+
+    public int getViewportRows() {
+        return viewportRows;
+    }
+
+    public int getViewportColumns() {
+        return viewportColumns;
+    }
+
+    public int getProbabilityTimeBudgetMillis() {
+        return probabilityTimeBudgetMillis;
+    }
+
+    public boolean isNoGuessEnabled() {
+        return noGuessEnabled;
+    }
+
+    public int getNoGuessCandidates() {
+        return noGuessCandidates;
+    }
+
+    public int getNoGuessMaxAttempts() {
+        return noGuessMaxAttempts;
+    }
+
+    public int getBoardPoolCapacity() {
+        return boardPoolCapacity;
+    }
+
+    public int getBoardPoolMaxShelves() {
+        return boardPoolMaxShelves;
+    }
+
+    public int getBoardPoolProducers() {
+        return boardPoolProducers;
+    }
+
+    public long getBoardPoolMaxSquares() {
+        return boardPoolMaxSquares;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public int getServerMaxSessions() {
+        return serverMaxSessions;
+    }
+
+    public long getServerMaxSquares() {
+        return serverMaxSquares;
+    }
+
+    public String getServerEngine() {
+        return serverEngine;
+    }
+
+    public int getServerShards() {
+        return serverShards;
+    }
+
+    public int getServerIdleTimeoutSeconds() {
+        return serverIdleTimeoutSeconds;
+    }
+
+    public String getServerParkDirectory() {
+        return serverParkDirectory;
+    }
+}
@@ -0,0 +1,21 @@
+package com.delose.minesweeper.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Restores a game from the output of a {@link BoardWriter}.
+ */
+public interface BoardReader {
+
+    /**
+     * Reads a game. The stream is read up to the end of the board and not closed.
+     *
+     * @param in the stream to read from
+     * @return a game in the state that was written
+     * @throws IOException if reading fails or the data is not a valid board
+     */
+    GameController read(InputStream in) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.delose.minesweeper.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Streams the state of a game to external tools.
+ *
+ * Writers read the board a bounded number of squares at a time and write as they go,
+ * so their memory use does not depend on the size of the board. The stream is flushed
+ * but not closed.
+ */
+public interface BoardWriter {
+
+    /**
+     * Writes the state of a game.
+     *
+     * @param game the game to write
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    void write(GameController game, OutputStream out) throws IOException;
+
+    /**
+     * Writes the state of a game to a channel.
+     *
+     * @param game the game to write
+     * @param channel the channel to write to
+     * @throws IOException if writing fails
+     */
+    default void write(GameController game, WritableByteChannel channel) throws IOException {
+        write(game, Channels.newOutputStream(channel));
+    }
+}
@@ -0,0 +1,31 @@
+package com.delose.minesweeper.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Saves the full state of a game to a file and restores it, for games too large to stream
+ * through a {@link BoardWriter} and {@link BoardReader} in good time.
+ */
+public interface SnapshotStore {
+
+    /**
+     * Saves a game, replacing the file if it exists.
+     *
+     * @param game the game to save
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    void save(GameController game, Path file) throws IOException;
+
+    /**
+     * Restores a saved game.
+     *
+     * @param file the file to read
+     * @return a game in the state that was saved
+     * @throws IOException if reading fails or the file is not a valid snapshot
+     */
+    GameController load(Path file) throws IOException;
+}
@@ -0,0 +1,62 @@
+package com.delose.minesweeper.export.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Constants and variable-length integer coding shared by the binary board writer and reader.
+ *
+ * Layout, with every integer an unsigned LEB128 varint:
+ * <pre>
+ *   magic "MSWB", version byte
+ *   rows, columns, configured number of mines, status (0 in progress, 1 won, 2 lost)
+ *   mines:   gap to each mine's linear index from the previous one (starting at -1), ended by 0
+ *   squares: records of (unrevealed run, revealed run, one nibble per revealed square)
+ *            until every square is covered
+ * </pre>
+ * A revealed square's nibble is its adjacent mine count, or {@link #MINE_NIBBLE} for a mine;
+ * two nibbles share a byte, high nibble first. Revealed runs are capped at {@link #MAX_REVEALED_RUN}
+ * squares, so a writer only ever buffers one run.
+ */
+final class BinaryBoardFormat {
+
+    static final byte[] MAGIC = {'M', 'S', 'W', 'B'};
+    static final int VERSION = 1;
+    static final int MINE_NIBBLE = 0xF;
+    static final int MAX_REVEALED_RUN = 8192;
+    static final int CHUNK_COLUMNS = 4096;
+
+    private BinaryBoardFormat() {
+        throw new IllegalStateException("BinaryBoardFormat class");
+    }
+
+    static void writeVarint(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in board data");
+    }
+
+    static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Unexpected end of board data");
+        }
+        return b;
+    }
+}
@@ -0,0 +1,96 @@
+package com.delose.minesweeper.export.impl;
+
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MAGIC;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MAX_REVEALED_RUN;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MINE_NIBBLE;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.VERSION;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.readByte;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.readVarint;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.export.BoardReader;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * Restores a game written by {@link BinaryBoardWriter}.
+ *
+ * The stream is read byte by byte and not buffered, so nothing past the board is consumed;
+ * pass a buffered stream for speed. The adjacent counts stored for revealed squares are
+ * checked against the mines, which catches most corrupted data.
+ */
+public class BinaryBoardReader implements BoardReader {
+
+    public GameControllerImpl read(InputStream in) throws IOException {
+        for (byte expected : MAGIC) {
+            if (readByte(in) != expected) {
+                throw new IOException("Not a binary board");
+            }
+        }
+        int version = readByte(in);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary board version " + version);
+        }
+        int rows = readVarint(in);
+        int columns = readVarint(in);
+        int numberOfMines = readVarint(in);
+        int status = readVarint(in);
+        if (status < 0 || status >= GameStatus.values().length) {
+            throw new IOException("Unknown game status " + status + " in board data");
+        }
+
+        Minefield minefield;
+        try {
+            minefield = new Minefield(rows, columns, numberOfMines);
+        } catch (GameInputException e) {
+            throw new IOException("Invalid board size in board data", e);
+        }
+        readMines(in, minefield);
+        readSquares(in, minefield);
+        return new GameControllerImpl(minefield, GameStatus.values()[status]);
+    }
+
+    private void readMines(InputStream in, Minefield minefield) throws IOException {
+        long cells = minefield.getCellCount();
+        long index = -1;
+        for (int gap = readVarint(in); gap != 0; gap = readVarint(in)) {
+            index += gap & 0xFFFFFFFFL;
+            if (index >= cells) {
+                throw new IOException("Mine outside the board in board data");
+            }
+            minefield.placeMine((int) (index / minefield.getColumns()), (int) (index % minefield.getColumns()));
+        }
+    }
+
+    private void readSquares(InputStream in, Minefield minefield) throws IOException {
+        long cells = minefield.getCellCount();
+        long position = 0;
+        while (position < cells) {
+            long unrevealedRun = readVarint(in) & 0xFFFFFFFFL;
+            int revealedRun = readVarint(in);
+            if (revealedRun < 0 || revealedRun > MAX_REVEALED_RUN
+                    || unrevealedRun + revealedRun == 0 || position + unrevealedRun + revealedRun > cells) {
+                throw new IOException("Invalid square run in board data");
+            }
+            position += unrevealedRun;
+
+            int packed = 0;
+            for (int i = 0; i < revealedRun; i++, position++) {
+                if (i % 2 == 0) {
+                    packed = readByte(in);
+                }
+                int nibble = i % 2 == 0 ? packed >>> 4 : packed & 0xF;
+                int index = (int) position;
+                int expected = minefield.isMineAt(index) ? MINE_NIBBLE : minefield.getAdjacentMinesCount(index);
+                if (nibble != expected) {
+                    throw new IOException("Square " + index + " does not match the mines in board data");
+                }
+                minefield.reveal(index);
+            }
+        }
+    }
+}
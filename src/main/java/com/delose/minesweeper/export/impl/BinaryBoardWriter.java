@@ -0,0 +1,111 @@
+package com.delose.minesweeper.export.impl;
+
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.CHUNK_COLUMNS;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MAGIC;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MAX_REVEALED_RUN;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.MINE_NIBBLE;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.VERSION;
+import static com.delose.minesweeper.export.impl.BinaryBoardFormat.writeVarint;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.export.BoardWriter;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
+
+/**
+ * Writes a game in the compact binary format described in {@link BinaryBoardFormat}, which
+ * {@link BinaryBoardReader} turns back into a playable game.
+ *
+ * Unrevealed squares cost nothing beyond the length of their run and revealed squares
+ * half a byte each, so a fresh board of any size takes a few bytes plus its mine list.
+ */
+public class BinaryBoardWriter implements BoardWriter {
+
+    public void write(GameController game, OutputStream target) throws IOException {
+        BoardView board = game.getBoardView();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        BufferedOutputStream out = new BufferedOutputStream(target);
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, rows);
+        writeVarint(out, columns);
+        writeVarint(out, game.getNumberOfMines());
+        writeVarint(out, game.getGameStatus().ordinal());
+
+        byte[] states = new byte[Math.min(columns, CHUNK_COLUMNS)];
+        writeMines(board, states, out);
+        writeSquares(board, states, out);
+        out.flush();
+    }
+
+    private void writeMines(BoardView board, byte[] states, OutputStream out) throws IOException {
+        int columns = board.getColumns();
+        int previous = -1;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int colFrom = 0; colFrom < columns; colFrom += states.length) {
+                int colTo = Math.min(columns, colFrom + states.length);
+                board.copyRow(row, colFrom, colTo, states);
+                for (int i = 0; i < colTo - colFrom; i++) {
+                    if (CellState.isMine(states[i])) {
+                        int index = row * columns + colFrom + i;
+                        writeVarint(out, index - previous);
+                        previous = index;
+                    }
+                }
+            }
+        }
+        writeVarint(out, 0);
+    }
+
+    private void writeSquares(BoardView board, byte[] states, OutputStream out) throws IOException {
+        int columns = board.getColumns();
+        byte[] nibbles = new byte[MAX_REVEALED_RUN / 2];
+        int unrevealedRun = 0;
+        int revealedRun = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int colFrom = 0; colFrom < columns; colFrom += states.length) {
+                int colTo = Math.min(columns, colFrom + states.length);
+                board.copyRow(row, colFrom, colTo, states);
+                for (int i = 0; i < colTo - colFrom; i++) {
+                    byte state = states[i];
+                    if (!CellState.isRevealed(state)) {
+                        if (revealedRun > 0) {
+                            writeRecord(out, unrevealedRun, revealedRun, nibbles);
+                            unrevealedRun = 0;
+                            revealedRun = 0;
+                        }
+                        unrevealedRun++;
+                        continue;
+                    }
+
+                    int nibble = CellState.isMine(state) ? MINE_NIBBLE : CellState.adjacentMines(state);
+                    if (revealedRun % 2 == 0) {
+                        nibbles[revealedRun / 2] = (byte) (nibble << 4);
+                    } else {
+                        nibbles[revealedRun / 2] |= (byte) nibble;
+                    }
+                    revealedRun++;
+                    if (revealedRun == MAX_REVEALED_RUN) {
+                        writeRecord(out, unrevealedRun, revealedRun, nibbles);
+                        unrevealedRun = 0;
+                        revealedRun = 0;
+                    }
+                }
+            }
+        }
+        if (unrevealedRun > 0 || revealedRun > 0) {
+            writeRecord(out, unrevealedRun, revealedRun, nibbles);
+        }
+    }
+
+    private void writeRecord(OutputStream out, int unrevealedRun, int revealedRun, byte[] nibbles) throws IOException {
+        writeVarint(out, unrevealedRun);
+        writeVarint(out, revealedRun);
+        out.write(nibbles, 0, (revealedRun + 1) / 2);
+    }
+}
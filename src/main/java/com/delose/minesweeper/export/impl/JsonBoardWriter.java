@@ -0,0 +1,71 @@
+package com.delose.minesweeper.export.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.export.BoardWriter;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
+
+/**
+ * Writes the visible state of a game as JSON, one string per row:
+ * <pre>
+ *   {"rows":2,"columns":3,"mines":1,"status":"IN_PROGRESS","board":[
+ *   "01_",
+ *   "__*"]}
+ * </pre>
+ * "_" is an unrevealed square, "*" a revealed mine and a digit the adjacent mine count of
+ * a revealed square. Unrevealed mines are not written, so the output is safe to hand to a
+ * solver or a spectator.
+ */
+public class JsonBoardWriter implements BoardWriter {
+
+    private static final int GLYPH_MASK = CellState.REVEALED | CellState.MINE | CellState.ADJACENT_MASK;
+    private static final byte[] GLYPHS = glyphs();
+    private static final byte[] FIRST_ROW_START = {'\n', '"'};
+    private static final byte[] ROW_START = {',', '\n', '"'};
+
+    public void write(GameController game, OutputStream target) throws IOException {
+        BoardView board = game.getBoardView();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        BufferedOutputStream out = new BufferedOutputStream(target);
+        String header = "{\"rows\":" + rows + ",\"columns\":" + columns + ",\"mines\":" + game.getNumberOfMines()
+                + ",\"status\":\"" + game.getGameStatus() + "\",\"board\":[";
+        out.write(header.getBytes(StandardCharsets.US_ASCII));
+
+        byte[] states = new byte[Math.min(columns, BinaryBoardFormat.CHUNK_COLUMNS)];
+        for (int row = 0; row < rows; row++) {
+            out.write(row == 0 ? FIRST_ROW_START : ROW_START);
+            for (int colFrom = 0; colFrom < columns; colFrom += states.length) {
+                int colTo = Math.min(columns, colFrom + states.length);
+                board.copyRow(row, colFrom, colTo, states);
+                for (int i = 0; i < colTo - colFrom; i++) {
+                    states[i] = GLYPHS[states[i] & GLYPH_MASK];
+                }
+                out.write(states, 0, colTo - colFrom);
+            }
+            out.write('"');
+        }
+        out.write(']');
+        out.write('}');
+        out.flush();
+    }
+
+    private static byte[] glyphs() {
+        byte[] glyphs = new byte[GLYPH_MASK + 1];
+        for (int state = 0; state < glyphs.length; state++) {
+            if (!CellState.isRevealed((byte) state)) {
+                glyphs[state] = '_';
+            } else if (CellState.isMine((byte) state)) {
+                glyphs[state] = '*';
+            } else {
+                glyphs[state] = (byte) ('0' + CellState.adjacentMines((byte) state));
+            }
+        }
+        return glyphs;
+    }
+}
@@ -0,0 +1,218 @@
+package com.delose.minesweeper.export.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.export.SnapshotStore;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+
+/**
+ * Saves games as fixed-layout snapshots, written and read through a memory-mapped file.
+ *
+ * Layout, little-endian:
+ * <pre>
+ *   0   magic "MSWS", version int
+ *   8   rows int, columns int
+ *   16  configured number of mines int, placed mines int
+ *   24  status int (0 in progress, 1 won, 2 lost), reserved int (0)
+ *   32  seed long
+ *   40  mine bitmap, then revealed bitmap, then flag bitmap
+ * </pre>
+ * Each bitmap is {@code ceil(squares / 64)} longs, with bit {@code i % 64} of long {@code i / 64}
+ * standing for the square with linear index {@code i}. Every field sits at a fixed offset, so a
+ * snapshot is read by handing the mapped bitmaps to {@link Minefield#loadBitmaps}, which only visits
+ * their set bits. The largest board takes about 800 MB, within a single mapping.
+ *
+ * The mapping is released when the buffer is garbage collected, and saves are not forced to disk.
+ * Until then Windows will not delete or replace the file, so a store whose files are deleted right
+ * after use can instead read and write them whole through a buffer on the heap.
+ */
+public class MappedSnapshotStore implements SnapshotStore {
+
+    private static final int MAGIC = 'M' | 'S' << 8 | 'W' << 16 | 'S' << 24;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final int CHUNK_COLUMNS = 4096;
+
+    private final boolean mapped;
+
+    /**
+     * Constructs a store that maps its files.
+     */
+    public MappedSnapshotStore() {
+        this(true);
+    }
+
+    /**
+     * Constructs a store that maps its files, or copies them to and from the heap.
+     *
+     * @param mapped whether to map the files; if not, none is left open once a call returns
+     */
+    public MappedSnapshotStore(boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    public void save(GameController game, Path file) throws IOException {
+        BoardView board = game.getBoardView();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        int words = wordCount((long) rows * columns);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = fileSize(words);
+            ByteBuffer buffer = mapped ? channel.map(FileChannel.MapMode.READ_WRITE, 0, size) : ByteBuffer.allocate((int) size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int placedMines = writeBitmaps(board, bitmap(buffer, words, 0), bitmap(buffer, words, 1), bitmap(buffer, words, 2));
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, VERSION)
+                    .putInt(8, rows)
+                    .putInt(12, columns)
+                    .putInt(16, game.getNumberOfMines())
+                    .putInt(20, placedMines)
+                    .putInt(24, game.getGameStatus().ordinal())
+                    .putInt(28, 0)
+                    .putLong(32, game.getSeed());
+            while (!mapped && buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    public GameControllerImpl load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a game snapshot");
+            }
+            ByteBuffer buffer = mapped ? channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()) : read(channel);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a game snapshot");
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            int rows = buffer.getInt(8);
+            int columns = buffer.getInt(12);
+            int numberOfMines = buffer.getInt(16);
+            int placedMines = buffer.getInt(20);
+            int status = buffer.getInt(24);
+            long seed = buffer.getLong(32);
+            if (status < 0 || status >= GameStatus.values().length) {
+                throw new IOException("Unknown game status " + status + " in snapshot");
+            }
+            // Checked before the board is allocated, so a corrupted size cannot claim gigabytes
+            long squares = (long) rows * columns;
+            if (rows < 1 || columns < 1 || squares > Integer.MAX_VALUE
+                    || channel.size() != fileSize(wordCount(squares))) {
+                throw new IOException("Snapshot size does not match its board");
+            }
+
+            Minefield minefield;
+            try {
+                minefield = new Minefield(rows, columns, numberOfMines);
+            } catch (GameInputException e) {
+                throw new IOException("Invalid board size in snapshot", e);
+            }
+            int words = wordCount(squares);
+            minefield.loadBitmaps(bitmap(buffer, words, 0), bitmap(buffer, words, 1), bitmap(buffer, words, 2), seed);
+            if (minefield.getPlacedMineCount() != placedMines) {
+                throw new IOException("Mine count does not match the mines in snapshot");
+            }
+            return new GameControllerImpl(minefield, GameStatus.values()[status]);
+        }
+    }
+
+    /**
+     * Packs the mine, revealed and flag bits of the board into the bitmaps, a chunk of a row at a time.
+     *
+     * @return the number of mines on the board
+     */
+    private int writeBitmaps(BoardView board, LongBuffer mines, LongBuffer revealed, LongBuffer flagged) {
+        int columns = board.getColumns();
+        byte[] states = new byte[Math.min(columns, CHUNK_COLUMNS)];
+        long mineWord = 0;
+        long revealedWord = 0;
+        long flaggedWord = 0;
+        int bit = 0;
+        int placedMines = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int from = 0; from < columns; from += states.length) {
+                int to = Math.min(columns, from + states.length);
+                board.copyRow(row, from, to, states);
+                for (int i = 0; i < to - from; i++) {
+                    int state = states[i];
+                    mineWord |= (long) ((state & CellState.MINE) >>> 4) << bit;
+                    revealedWord |= (long) ((state & CellState.REVEALED) >>> 5) << bit;
+                    flaggedWord |= (long) ((state & CellState.FLAGGED) >>> 6) << bit;
+                    if (++bit == 64) {
+                        placedMines += Long.bitCount(mineWord);
+                        mines.put(mineWord);
+                        revealed.put(revealedWord);
+                        flagged.put(flaggedWord);
+                        mineWord = 0;
+                        revealedWord = 0;
+                        flaggedWord = 0;
+                        bit = 0;
+                    }
+                }
+            }
+        }
+        if (bit > 0) {
+            placedMines += Long.bitCount(mineWord);
+            mines.put(mineWord);
+            revealed.put(revealedWord);
+            flagged.put(flaggedWord);
+        }
+        return placedMines;
+    }
+
+    /**
+     * Reads a whole file into a heap buffer, positioned at its start.
+     */
+    private static ByteBuffer read(FileChannel channel) throws IOException {
+        if (channel.size() > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot too large to read");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Snapshot ended early");
+            }
+        }
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Gets a view of one of the three bitmaps following the header.
+     */
+    private static LongBuffer bitmap(ByteBuffer buffer, int words, int section) {
+        ByteBuffer slice = buffer.duplicate();
+        // Through Buffer, as the ByteBuffer overrides returning ByteBuffer only exist from Java 9
+        ((Buffer) slice).position(HEADER_BYTES + section * words * 8);
+        ((Buffer) slice).limit(HEADER_BYTES + (section + 1) * words * 8);
+        return slice.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    private static int wordCount(long squares) {
+        return (int) ((squares + 63) >>> 6);
+    }
+
+    private static long fileSize(int words) {
+        return HEADER_BYTES + 3L * words * 8;
+    }
+}
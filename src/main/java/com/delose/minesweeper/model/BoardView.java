@@ -0,0 +1,38 @@
+package com.delose.minesweeper.model;
+
+/**
+ * A read-only view of the whole board.
+ * Lets renderers and automated clients read every square by index
+ * without building a position String per square.
+ */
+public interface BoardView {
+
+    int getRows();
+
+    int getColumns();
+
+    boolean isMineAt(int row, int col);
+
+    boolean isRevealed(int row, int col);
+
+    int getAdjacentMinesCount(int row, int col);
+
+    /**
+     * Copies the packed state of every square, in row-major order.
+     * See {@link CellState} for the bit layout.
+     *
+     * @return a snapshot of the board state
+     */
+    byte[] snapshot();
+
+    /**
+     * Copies the packed state of part of a row into the given array, for reading a row without
+     * copying the board. Squares outside the given columns are not read.
+     *
+     * @param row the zero-based row index
+     * @param colFrom the first column to copy
+     * @param colTo the column after the last one to copy
+     * @param target the array receiving one state byte per column, starting at index 0
+     */
+    void copyRow(int row, int colFrom, int colTo, byte[] target);
+}
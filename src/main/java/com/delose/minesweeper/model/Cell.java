@@ -6,48 +6,73 @@ import com.delose.minesweeper.core.util.config.MessageProvider;
 /**
  * Represents a single cell in the minefield.
  * A cell may contain a mine, be revealed, and have a count of adjacent mines.
+ *
+ * A cell is a lightweight view over one byte of packed state (see {@link CellState}).
+ * Cells obtained from {@link Minefield#getCell(int, int)} read and write the minefield
+ * directly, except that their mines go through {@link Minefield#placeMine(int, int)} so the
+ * minefield's mine count and its neighbours' counts stay right; a cell created with the public
+ * constructor owns its own state.
  */
 public class Cell {
 
-    private boolean hasMine;
-    private boolean isRevealed;
-    private int adjacentMinesCount;
+    private final Minefield minefield;
+    private final byte[] states;
+    private final int index;
 
     /**
      * Constructs a new Cell.
      * Initially, the cell does not contain a mine, is not revealed, and has 0 adjacent mines.
      */
     public Cell() {
-        this.hasMine = false;
-        this.isRevealed = false;
-        this.adjacentMinesCount = 0;
+        this(null, new byte[1], 0);
+    }
+
+    /**
+     * Constructs a Cell backed by the given packed state array.
+     *
+     * @param minefield the minefield the array belongs to, or null if the cell owns it
+     * @param states the packed state array
+     * @param index the index of this cell's state in the array
+     */
+    Cell(Minefield minefield, byte[] states, int index) {
+        this.minefield = minefield;
+        this.states = states;
+        this.index = index;
     }
 
     /**
      * Checks if the cell contains a mine.
-     * 
+     *
      * @return true if the cell contains a mine, false otherwise
      */
     public boolean hasMine() {
-        return hasMine;
+        return CellState.isMine(states[index]);
     }
 
     /**
      * Sets whether the cell contains a mine.
-     * 
+     *
      * @param hasMine true if the cell should contain a mine, false otherwise
+     * @throws UnsupportedOperationException if this is a view of a minefield square that holds a
+     *                                       mine, as a minefield has no way to remove one
      */
     public void setMine(boolean hasMine) {
-        this.hasMine = hasMine;
+        if (minefield == null) {
+            setBit(CellState.MINE, hasMine);
+        } else if (hasMine) {
+            minefield.placeMine(index / minefield.getColumns(), index % minefield.getColumns());
+        } else if (hasMine()) {
+            throw new UnsupportedOperationException("Mines cannot be removed from a minefield square");
+        }
     }
 
     /**
      * Checks if the cell has been revealed.
-     * 
+     *
      * @return true if the cell is revealed, false otherwise
      */
     public boolean isRevealed() {
-        return isRevealed;
+        return CellState.isRevealed(states[index]);
     }
 
     /**
@@ -55,7 +80,7 @@ public class Cell {
      * Once revealed, the cell cannot be hidden again.
      */
     public void reveal() {
-        this.isRevealed = true;
+        setBit(CellState.REVEALED, true);
     }
 
     /**
@@ -63,21 +88,21 @@ public class Cell {
      * Once unrevealed, the cell will be hidden again.
      */
     public void unreveal() {
-        this.isRevealed = false;
+        setBit(CellState.REVEALED, false);
     }
 
     /**
      * Gets the count of adjacent mines.
-     * 
+     *
      * @return the number of adjacent mines
      */
     public int getAdjacentMinesCount() {
-        return adjacentMinesCount;
+        return CellState.adjacentMines(states[index]);
     }
 
     /**
      * Sets the count of adjacent mines.
-     * 
+     *
      * @param adjacentMinesCount the number of adjacent mines
      * @throws GameInputException if adjacentMinesCount is negative
      */
@@ -85,6 +110,14 @@ public class Cell {
         if (adjacentMinesCount < 0) {
             throw new GameInputException(MessageProvider.getMessage("cell.adjacentMinesCannotBeNegative"));
         }
-        this.adjacentMinesCount = adjacentMinesCount;
+        states[index] = (byte) ((states[index] & ~CellState.ADJACENT_MASK) | (adjacentMinesCount & CellState.ADJACENT_MASK));
+    }
+
+    private void setBit(int bit, boolean value) {
+        if (value) {
+            states[index] |= bit;
+        } else {
+            states[index] &= ~bit;
+        }
     }
-}
\ No newline at end of file
+}
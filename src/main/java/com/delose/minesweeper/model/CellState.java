@@ -0,0 +1,37 @@
+package com.delose.minesweeper.model;
+
+/**
+ * Bit layout of the packed per-square state stored by the {@link Minefield}.
+ *
+ * <pre>
+ *   bit 7   6       5        4     3..0
+ *       -   FLAGGED REVEALED MINE  adjacent mines count
+ * </pre>
+ */
+public final class CellState {
+
+    public static final int ADJACENT_MASK = 0x0F;
+    public static final int MINE = 0x10;
+    public static final int REVEALED = 0x20;
+    public static final int FLAGGED = 0x40;
+
+    private CellState() {
+        throw new IllegalStateException("CellState class");
+    }
+
+    public static boolean isMine(byte state) {
+        return (state & MINE) != 0;
+    }
+
+    public static boolean isRevealed(byte state) {
+        return (state & REVEALED) != 0;
+    }
+
+    public static boolean isFlagged(byte state) {
+        return (state & FLAGGED) != 0;
+    }
+
+    public static int adjacentMines(byte state) {
+        return state & ADJACENT_MASK;
+    }
+}
@@ -0,0 +1,33 @@
+package com.delose.minesweeper.model;
+
+/**
+ * The operations a reveal cascade needs from a minefield, addressed by row and column.
+ * Implemented by the bounded {@link Minefield} and by unbounded minefields such as
+ * {@link com.delose.minesweeper.model.chunk.ChunkedMinefield}.
+ */
+public interface MineGrid {
+
+    /**
+     * Checks if the given coordinates lie on the grid.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the square exists, false otherwise
+     */
+    boolean contains(int row, int col);
+
+    boolean isMineAt(int row, int col);
+
+    boolean isRevealed(int row, int col);
+
+    int getAdjacentMinesCount(int row, int col);
+
+    /**
+     * Reveals the square at the given coordinates.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the square was hidden before this call, false if it was already revealed
+     */
+    boolean reveal(int row, int col);
+}
@@ -1,6 +1,10 @@
 package com.delose.minesweeper.model;
 
-import java.util.Random;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.delose.minesweeper.core.exception.GameInputException;
 import com.delose.minesweeper.core.util.config.GameConfig;
@@ -9,81 +13,351 @@ import com.delose.minesweeper.core.util.config.MessageProvider;
 /**
  * Represents a minefield for the Minesweeper game.
  * Handles the grid size, mine placement, and revealing squares.
+ *
+ * The state of every square is packed into a single byte of a flat array,
+ * addressed by the linear index {@code row * columns + col}. See {@link CellState}
+ * for the bit layout. Adjacent mine counts are kept up to date as mines are
+ * placed, so reading them never rescans the neighbourhood.
  */
-public class Minefield {
+public class Minefield implements BoardView, MineGrid {
 
-    private final int size;
+    // The largest array the JVM reliably allocates
+    private static final int MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final int rows;
+    private final int columns;
     private final int numberOfMines;
-    private final boolean[][] mineGrid;
+    private final byte[] cells;
+    private int placedMines;
+    private long seed;
     /**
      * Constructs a Minefield with the specified size and number of mines.
-     * 
+     *
      * @param size the size of the minefield (size x size grid)
      * @param numberOfMines the number of mines to be placed in the minefield
      * @throws GameInputException if the number of mines exceeds the maximum allowed
      */
     public Minefield(int size, int numberOfMines) {
+        this(size, size, numberOfMines);
+    }
+
+    /**
+     * Constructs a rectangular Minefield with the specified dimensions and number of mines.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines to be placed in the minefield
+     * @throws GameInputException if the dimensions are invalid or the number of mines exceeds the maximum allowed
+     */
+    public Minefield(int rows, int columns, int numberOfMines) {
+        if (rows < 1 || columns < 1 || (long) rows * columns > MAX_CELLS) {
+            throw new GameInputException(MessageProvider.getMessage("minefield.invalidDimensions"));
+        }
         GameConfig config = GameConfig.getInstance();
-        if (numberOfMines > size * size * config.getMaxMineRatio()) {
+        if (numberOfMines > (long) rows * columns * config.getMaxMineRatio()) {
             throw new GameInputException(MessageProvider.getMessage("minefield.tooManyMines"));
         }
-        this.size = size;
+        this.rows = rows;
+        this.columns = columns;
         this.numberOfMines = numberOfMines;
-        this.mineGrid = new boolean[size][size];
+        this.cells = new byte[rows * columns];
     }
 
+    /**
+     * Gets the size of a square minefield. For a rectangular minefield this is the number of rows.
+     *
+     * @return the size of the minefield
+     */
     public int getSize() {
-        return size;
+        return rows;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
     }
 
     public int getNumberOfMines() {
         return numberOfMines;
     }
 
+    /**
+     * Gets the number of mines placed so far, without scanning the grid.
+     *
+     * @return the number of mines placed
+     */
+    public int getPlacedMineCount() {
+        return placedMines;
+    }
+
+    /**
+     * Gets the total number of squares in the minefield.
+     *
+     * @return the number of squares
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Converts row and column indices into the linear index of a square.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the linear index of the square
+     */
+    public int indexOf(int row, int col) {
+        validateCoordinates(row, col);
+        return row * columns + col;
+    }
+
     /**
      * Places a mine at the specified location.
-     * 
+     *
      * @param row the row index
      * @param col the column index
      */
     public void placeMine(int row, int col) {
-        validateCoordinates(row, col);
-        if (!mineGrid[row][col]) {
-            mineGrid[row][col] = true;
+        int index = indexOf(row, col);
+        if (!CellState.isMine(cells[index])) {
+            cells[index] |= CellState.MINE;
+            placedMines++;
+            incrementNeighbourhood(row, col);
         }
     }
 
     /**
-     * Randomly places mines in the grid.
+     * Randomly places mines in the grid, using a fresh random seed.
      */
     public void placeMines() {
-        Random random = new Random();
-        int minesPlaced = 0;
-        while (minesPlaced < numberOfMines) {
-            int row = random.nextInt(size);
-            int col = random.nextInt(size);
-            if (!mineGrid[row][col]) {
-                mineGrid[row][col] = true;
-                minesPlaced++;
+        placeMines(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Places mines in the grid at positions derived from the given seed, replacing any mines
+     * already placed. The same seed always produces the same layout, so a board can be
+     * rebuilt from its seed instead of being stored.
+     *
+     * Uses Floyd's sampling algorithm, which draws exactly one random number per mine
+     * and uses the grid itself as the set of chosen squares.
+     *
+     * @param seed the seed for the mine layout
+     */
+    public void placeMines(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] &= ~CellState.MINE;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int candidate = cells.length - numberOfMines; candidate < cells.length; candidate++) {
+            int index = random.nextInt(candidate + 1);
+            if (CellState.isMine(cells[index])) {
+                index = candidate;  // Already chosen, so take the candidate itself, which cannot have been
+            }
+            cells[index] |= CellState.MINE;
+        }
+        placedMines = numberOfMines;
+        computeAdjacentCounts();
+    }
+
+    /**
+     * Places mines like {@link #placeMines(long)}, but keeps the given square and its neighbours
+     * free of mines so revealing it opens an area. If there are too few other squares for the
+     * mines, only the square itself is kept free.
+     *
+     * Floyd's algorithm runs over the squares outside the free block, numbered as if the block
+     * were removed from the grid.
+     *
+     * @param seed the seed for the mine layout
+     * @param safeRow the row index of the square to keep free
+     * @param safeCol the column index of the square to keep free
+     * @throws GameInputException if the mines do not fit outside the square
+     */
+    public void placeMines(long seed, int safeRow, int safeCol) {
+        validateCoordinates(safeRow, safeCol);
+        int rowFrom = Math.max(0, safeRow - 1);
+        int rowTo = Math.min(rows - 1, safeRow + 1);
+        int colFrom = Math.max(0, safeCol - 1);
+        int colTo = Math.min(columns - 1, safeCol + 1);
+        if (cells.length - (rowTo - rowFrom + 1) * (colTo - colFrom + 1) < numberOfMines) {
+            rowFrom = rowTo = safeRow;
+            colFrom = colTo = safeCol;
+        }
+        int width = colTo - colFrom + 1;
+        int available = cells.length - (rowTo - rowFrom + 1) * width;
+        if (available < numberOfMines) {
+            throw new GameInputException(MessageProvider.getMessage("minefield.tooManyMines"));
+        }
+
+        this.seed = seed;
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] &= ~CellState.MINE;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int candidate = available - numberOfMines; candidate < available; candidate++) {
+            int index = skipBlock(random.nextInt(candidate + 1), rowFrom, rowTo, colFrom, width);
+            if (CellState.isMine(cells[index])) {
+                index = skipBlock(candidate, rowFrom, rowTo, colFrom, width);
+            }
+            cells[index] |= CellState.MINE;
+        }
+        placedMines = numberOfMines;
+        computeAdjacentCounts();
+    }
+
+    /**
+     * Maps a position among the squares outside a block to its linear index in the grid,
+     * by stepping over the block's squares in every row of the block it has passed.
+     */
+    private int skipBlock(int position, int rowFrom, int rowTo, int colFrom, int width) {
+        int index = position;
+        for (int row = rowFrom; row <= rowTo; row++) {
+            if (index >= row * columns + colFrom) {
+                index += width;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Places mines like {@link #placeMines(long)}, but splits the grid into row stripes that are
+     * filled, and then counted, concurrently on the common fork/join pool. The layout is uniform
+     * and depends only on the seed and the number of stripes, though it differs from the
+     * sequential layout for the same seed.
+     *
+     * @param seed the seed for the mine layout
+     * @param stripes the number of row stripes to generate in parallel
+     */
+    public void placeMinesInParallel(long seed, int stripes) {
+        this.seed = seed;
+        new StripedMineGenerator(cells, rows, columns).generate(seed, numberOfMines, stripes, ForkJoinPool.commonPool());
+        placedMines = numberOfMines;
+    }
+
+    /**
+     * Gets the seed of the last random mine layout placed by {@link #placeMines(long)}.
+     *
+     * @return the seed of the mine layout
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Replaces the state of every square with the given bitmaps, in which bit {@code i % 64} of
+     * word {@code i / 64} stands for the square with linear index {@code i}. Only the set bits
+     * are visited, so a sparse board is restored in little more than the time to clear it.
+     * Bits past the last square are ignored.
+     *
+     * @param mines the squares holding a mine
+     * @param revealed the revealed squares
+     * @param flagged the flagged squares
+     * @param seed the seed the mine layout was generated from
+     */
+    public void loadBitmaps(LongBuffer mines, LongBuffer revealed, LongBuffer flagged, long seed) {
+        Arrays.fill(cells, (byte) 0);
+        placedMines = 0;
+        this.seed = seed;
+        int words = (cells.length + 63) >>> 6;
+        long lastWordMask = -1L >>> -cells.length;  // Keeps the low cells % 64 bits, or all of them
+        for (int w = 0; w < words; w++) {
+            long mask = w == words - 1 ? lastWordMask : -1L;
+            int base = w << 6;
+            for (long bits = revealed.get(w) & mask; bits != 0; bits &= bits - 1) {
+                cells[base + Long.numberOfTrailingZeros(bits)] |= CellState.REVEALED;
+            }
+            for (long bits = flagged.get(w) & mask; bits != 0; bits &= bits - 1) {
+                cells[base + Long.numberOfTrailingZeros(bits)] |= CellState.FLAGGED;
+            }
+            for (long bits = mines.get(w) & mask; bits != 0; bits &= bits - 1) {
+                int index = base + Long.numberOfTrailingZeros(bits);
+                cells[index] |= CellState.MINE;
+                placedMines++;
+                incrementNeighbourhood(index / columns, index % columns);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the adjacent mine counts of every square in a single pass over the grid.
+     */
+    private void computeAdjacentCounts() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] &= ~CellState.ADJACENT_MASK;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (CellState.isMine(cells[row * columns + col])) {
+                    incrementNeighbourhood(row, col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Increments the adjacent mine count of every square in the 3x3 neighbourhood of a mine,
+     * including the mine's own square, matching {@link #calculateAdjacentMines(int, int)}.
+     *
+     * @param row the row index of the mine
+     * @param col the column index of the mine
+     */
+    private void incrementNeighbourhood(int row, int col) {
+        for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(columns - 1, col + 1); j++) {
+                cells[i * columns + j]++;
             }
         }
     }
 
     /**
      * Checks if there is a mine at the specified location.
-     * 
+     *
      * @param row the row index
      * @param col the column index
      * @return true if there is a mine at the specified location, false otherwise
      */
     public boolean isMineAt(int row, int col) {
-        validateCoordinates(row, col);
-        return mineGrid[row][col];
+        return CellState.isMine(cells[indexOf(row, col)]);
+    }
+
+    /**
+     * Checks if there is a mine at the square with the given linear index.
+     *
+     * @param index the linear index of the square
+     * @return true if there is a mine at the square, false otherwise
+     */
+    public boolean isMineAt(int index) {
+        return CellState.isMine(cells[index]);
+    }
+
+    /**
+     * Gets the precomputed number of adjacent mines for a given square.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the number of adjacent mines
+     */
+    public int getAdjacentMinesCount(int row, int col) {
+        return CellState.adjacentMines(cells[indexOf(row, col)]);
     }
 
     /**
-     * Calculates the number of adjacent mines for a given square.
-     * 
+     * Gets the precomputed number of adjacent mines for the square with the given linear index.
+     *
+     * @param index the linear index of the square
+     * @return the number of adjacent mines
+     */
+    public int getAdjacentMinesCount(int index) {
+        return CellState.adjacentMines(cells[index]);
+    }
+
+    /**
+     * Calculates the number of adjacent mines for a given square by scanning its neighbourhood.
+     * Prefer {@link #getAdjacentMinesCount(int, int)}, which reads the precomputed count.
+     *
      * @param row the row index
      * @param col the column index
      * @return the number of adjacent mines
@@ -91,9 +365,9 @@ public class Minefield {
     public int calculateAdjacentMines(int row, int col) {
         validateCoordinates(row, col);
         int mineCount = 0;
-        for (int i = Math.max(0, row - 1); i <= Math.min(size - 1, row + 1); i++) {
-            for (int j = Math.max(0, col - 1); j <= Math.min(size - 1, col + 1); j++) {
-                if (mineGrid[i][j]) {
+        for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(columns - 1, col + 1); j++) {
+                if (CellState.isMine(cells[i * columns + j])) {
                     mineCount++;
                 }
             }
@@ -101,32 +375,124 @@ public class Minefield {
         return mineCount;
     }
 
+    /**
+     * Checks if the square at the specified location has been revealed.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return true if the square is revealed, false otherwise
+     */
+    public boolean isRevealed(int row, int col) {
+        return CellState.isRevealed(cells[indexOf(row, col)]);
+    }
+
+    /**
+     * Checks if the square with the given linear index has been revealed.
+     *
+     * @param index the linear index of the square
+     * @return true if the square is revealed, false otherwise
+     */
+    public boolean isRevealed(int index) {
+        return CellState.isRevealed(cells[index]);
+    }
+
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < columns;
+    }
+
+    public boolean reveal(int row, int col) {
+        return reveal(indexOf(row, col));
+    }
+
+    /**
+     * Reveals the square with the given linear index.
+     *
+     * @param index the linear index of the square
+     * @return true if the square was hidden before this call, false if it was already revealed
+     */
+    public boolean reveal(int index) {
+        byte state = cells[index];
+        if (CellState.isRevealed(state)) {
+            return false;
+        }
+        cells[index] = (byte) (state | CellState.REVEALED);
+        return true;
+    }
+
+    /**
+     * Reveals every square in the minefield, whether it contains a mine or not.
+     */
+    public void revealAll() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] |= CellState.REVEALED;
+        }
+    }
+
+    /**
+     * Checks if the square with the given linear index has been flagged.
+     *
+     * @param index the linear index of the square
+     * @return true if the square is flagged, false otherwise
+     */
+    public boolean isFlagged(int index) {
+        return CellState.isFlagged(cells[index]);
+    }
+
+    /**
+     * Toggles the flag on the square with the given linear index.
+     *
+     * @param index the linear index of the square
+     */
+    public void toggleFlag(int index) {
+        cells[index] ^= CellState.FLAGGED;
+    }
+
+    public byte[] snapshot() {
+        return cells.clone();
+    }
+
+    public void copyRow(int row, int colFrom, int colTo, byte[] target) {
+        if (!contains(row, 0) || colFrom < 0 || colFrom > colTo || colTo > columns) {
+            throw new GameInputException(MessageProvider.getMessage("minefield.coordinatesOutOfBounds"));
+        }
+        System.arraycopy(cells, row * columns + colFrom, target, 0, colTo - colFrom);
+    }
+
+    /**
+     * Gets a {@link Cell} view backed by the state of the given square.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return a cell view over the square
+     */
+    public Cell getCell(int row, int col) {
+        return new Cell(this, cells, indexOf(row, col));
+    }
+
     /**
      * Validates the row and column coordinates to ensure they are within bounds.
-     * 
+     *
      * @param row the row index
      * @param col the column index
      */
     private void validateCoordinates(int row, int col) {
-        if (row < 0 || row >= size || col < 0 || col >= size) {
+        if (!contains(row, col)) {
             throw new GameInputException(MessageProvider.getMessage("minefield.coordinatesOutOfBounds"));
         }
     }
 
     /**
      * Counts the number of mines placed in the minefield.
-     * 
+     *
      * @return the number of mines
      */
     public int countMines() {
         int count = 0;
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (mineGrid[i][j]) {
-                    count++;
-                }
+        for (byte state : cells) {
+            if (CellState.isMine(state)) {
+                count++;
             }
         }
         return count;
     }
-}
\ No newline at end of file
+}
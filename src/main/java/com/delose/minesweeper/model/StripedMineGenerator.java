@@ -0,0 +1,144 @@
+package com.delose.minesweeper.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.delose.minesweeper.core.util.RandomUtil;
+
+/**
+ * Places mines and computes adjacent counts for a {@link Minefield} in parallel, one task per row stripe.
+ *
+ * The number of mines in each stripe is drawn up front from the multivariate hypergeometric
+ * distribution, as a chain of hypergeometric draws over the remaining squares and mines, so
+ * the overall layout is uniform over all boards with the requested number of mines. Each
+ * stripe is then filled with Floyd's algorithm from its own split random stream, and once all
+ * mines are down each stripe computes the counts of its own squares. A stripe only ever writes
+ * its own squares, and the layout depends only on the seed and the number of stripes.
+ */
+class StripedMineGenerator {
+
+    private final byte[] cells;
+    private final int rows;
+    private final int columns;
+
+    StripedMineGenerator(byte[] cells, int rows, int columns) {
+        this.cells = cells;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Replaces the mines on the board with a layout derived from the seed.
+     *
+     * @param seed the seed for the mine layout
+     * @param numberOfMines the number of mines to place
+     * @param stripeCount the number of row stripes, and so the maximum parallelism
+     * @param pool the pool running the stripe tasks
+     */
+    void generate(long seed, int numberOfMines, int stripeCount, ForkJoinPool pool) {
+        int stripes = Math.max(1, Math.min(stripeCount, rows));
+        int rowsPerStripe = (rows + stripes - 1) / stripes;
+        SplittableRandom root = new SplittableRandom(seed);
+
+        List<Stripe> work = new ArrayList<>(stripes);
+        long remainingSquares = cells.length;
+        long remainingMines = numberOfMines;
+        for (int rowFrom = 0; rowFrom < rows; rowFrom += rowsPerStripe) {
+            int rowTo = Math.min(rows, rowFrom + rowsPerStripe);
+            long squares = (long) (rowTo - rowFrom) * columns;
+            int mines = (int) RandomUtil.hypergeometric(root, remainingMines, remainingSquares - remainingMines, squares);
+            remainingSquares -= squares;
+            remainingMines -= mines;
+            work.add(new Stripe(rowFrom, rowTo, mines, root.split()));
+        }
+
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<RecursiveAction> placements = new ArrayList<>(work.size());
+                for (Stripe stripe : work) {
+                    placements.add(action(stripe::placeMines));
+                }
+                invokeAll(placements);
+
+                // Counts read the mines of neighbouring stripes, so they start once every stripe is filled
+                List<RecursiveAction> counts = new ArrayList<>(work.size());
+                for (Stripe stripe : work) {
+                    counts.add(action(stripe::computeAdjacentCounts));
+                }
+                invokeAll(counts);
+            }
+        });
+    }
+
+    private static RecursiveAction action(Runnable body) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                body.run();
+            }
+        };
+    }
+
+    private class Stripe {
+
+        private final int rowFrom;
+        private final int rowTo;
+        private final int mines;
+        private final SplittableRandom random;
+
+        Stripe(int rowFrom, int rowTo, int mines, SplittableRandom random) {
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.mines = mines;
+            this.random = random;
+        }
+
+        void placeMines() {
+            int offset = rowFrom * columns;
+            int squares = (rowTo - rowFrom) * columns;
+            for (int i = offset; i < offset + squares; i++) {
+                cells[i] &= ~(CellState.MINE | CellState.ADJACENT_MASK);
+            }
+            // Floyd's algorithm over the squares of this stripe
+            for (int candidate = squares - mines; candidate < squares; candidate++) {
+                int index = offset + random.nextInt(candidate + 1);
+                if (CellState.isMine(cells[index])) {
+                    index = offset + candidate;
+                }
+                cells[index] |= CellState.MINE;
+            }
+        }
+
+        /**
+         * Computes the counts of this stripe's squares from running column sums of three rows,
+         * counting the square itself as {@link Minefield#calculateAdjacentMines(int, int)} does.
+         */
+        void computeAdjacentCounts() {
+            int[] columnSums = new int[columns];
+            for (int row = rowFrom; row < rowTo; row++) {
+                for (int col = 0; col < columns; col++) {
+                    int sum = 0;
+                    for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+                        sum += (cells[i * columns + col] & CellState.MINE) >> 4;
+                    }
+                    columnSums[col] = sum;
+                }
+                for (int col = 0; col < columns; col++) {
+                    int count = columnSums[col];
+                    if (col > 0) {
+                        count += columnSums[col - 1];
+                    }
+                    if (col < columns - 1) {
+                        count += columnSums[col + 1];
+                    }
+                    int index = row * columns + col;
+                    cells[index] = (byte) ((cells[index] & ~CellState.ADJACENT_MASK) | count);
+                }
+            }
+        }
+    }
+}
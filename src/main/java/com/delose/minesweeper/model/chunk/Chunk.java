@@ -0,0 +1,107 @@
+package com.delose.minesweeper.model.chunk;
+
+import com.delose.minesweeper.model.CellState;
+
+/**
+ * A fixed-size square of the endless plane, with the packed state of its squares.
+ * See {@link CellState} for the bit layout.
+ */
+class Chunk {
+
+    static final int SHIFT = 6;
+    static final int SIZE = 1 << SHIFT;
+    static final int MASK = SIZE - 1;
+
+    private final byte[] cells = new byte[SIZE * SIZE];
+    private int revealedSquares;
+
+    /**
+     * Builds a chunk from the mine layout of the 3x3 block of chunks centred on it,
+     * so the adjacent mine counts along its borders are exact.
+     *
+     * @param neighbourhood the mine row masks of the 3x3 block, indexed [chunkRowOffset + 1][chunkColOffset + 1]
+     */
+    Chunk(long[][][] neighbourhood) {
+        long[] mines = neighbourhood[1][1];
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                int state = countMines(neighbourhood, row, col);
+                if ((mines[row] & (1L << col)) != 0) {
+                    state |= CellState.MINE;
+                }
+                cells[row << SHIFT | col] = (byte) state;
+            }
+        }
+    }
+
+    /**
+     * Counts the mines in the 3x3 neighbourhood of a square, the square itself included,
+     * matching {@link com.delose.minesweeper.model.Minefield}.
+     */
+    private static int countMines(long[][][] neighbourhood, int row, int col) {
+        int count = 0;
+        for (int i = row - 1; i <= row + 1; i++) {
+            long[] rowMasks = neighbourhood[Math.floorDiv(i, SIZE) + 1][1];
+            long[] leftMasks = neighbourhood[Math.floorDiv(i, SIZE) + 1][0];
+            long[] rightMasks = neighbourhood[Math.floorDiv(i, SIZE) + 1][2];
+            int localRow = i & MASK;
+            for (int j = col - 1; j <= col + 1; j++) {
+                long[] masks = j < 0 ? leftMasks : j >= SIZE ? rightMasks : rowMasks;
+                if ((masks[localRow] & (1L << (j & MASK))) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    byte stateAt(int localRow, int localCol) {
+        return cells[localRow << SHIFT | localCol];
+    }
+
+    boolean reveal(int localRow, int localCol) {
+        int index = localRow << SHIFT | localCol;
+        if (CellState.isRevealed(cells[index])) {
+            return false;
+        }
+        cells[index] |= CellState.REVEALED;
+        revealedSquares++;
+        return true;
+    }
+
+    boolean hasRevealedSquares() {
+        return revealedSquares > 0;
+    }
+
+    /**
+     * Gets the revealed state as one bit mask per row.
+     *
+     * @return the revealed row masks
+     */
+    long[] revealedRows() {
+        long[] revealedRows = new long[SIZE];
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                if (CellState.isRevealed(cells[row << SHIFT | col])) {
+                    revealedRows[row] |= 1L << col;
+                }
+            }
+        }
+        return revealedRows;
+    }
+
+    /**
+     * Restores the revealed state saved by {@link #revealedRows()}.
+     *
+     * @param revealedRows the revealed row masks
+     */
+    void restoreRevealedRows(long[] revealedRows) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                if ((revealedRows[row] & (1L << col)) != 0) {
+                    reveal(row, col);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.delose.minesweeper.model.chunk;
+
+/**
+ * Keeps the revealed state of chunks evicted from a {@link ChunkedMinefield}'s cache,
+ * so they can be rebuilt exactly when touched again.
+ * Mine layouts are never stored; they are regenerated from the seed.
+ */
+public interface ChunkStore {
+
+    /**
+     * Stores the revealed state of a chunk.
+     *
+     * @param chunkKey the key of the chunk
+     * @param revealedRows one bit mask per chunk row, bit {@code col} set for each revealed square
+     */
+    void save(long chunkKey, long[] revealedRows);
+
+    /**
+     * Loads the revealed state of a chunk.
+     *
+     * @param chunkKey the key of the chunk
+     * @return the revealed row masks, or null if nothing was stored for the chunk
+     */
+    long[] load(long chunkKey);
+}
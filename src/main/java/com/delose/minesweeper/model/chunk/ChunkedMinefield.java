@@ -0,0 +1,152 @@
+package com.delose.minesweeper.model.chunk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.CellState;
+import com.delose.minesweeper.model.MineGrid;
+
+/**
+ * An endless minefield covering the whole int coordinate plane, built from 64x64 chunks.
+ *
+ * The mine layout of a chunk is a pure function of the seed and the chunk's coordinates,
+ * so chunks are generated on first touch and can be dropped and rebuilt at any time.
+ * Only a bounded number of chunks is kept in memory; when the least recently used chunk
+ * is evicted its revealed squares are handed to a {@link ChunkStore}, and restored from
+ * there when the chunk is rebuilt. Memory use is bounded by the working set of chunks
+ * rather than by the area explored.
+ */
+public class ChunkedMinefield implements MineGrid {
+
+    private final long seed;
+    private final double mineRatio;
+    private final ChunkStore chunkStore;
+    private final Map<Long, Chunk> chunkCache;
+
+    /**
+     * Constructs an endless minefield.
+     *
+     * @param seed the seed the mine layout is derived from
+     * @param mineRatio the probability of a mine on each square
+     * @param chunkCacheSize the maximum number of chunks kept in memory
+     * @param chunkStore the store receiving the revealed state of evicted chunks
+     * @throws GameInputException if the mine ratio exceeds the maximum allowed
+     */
+    public ChunkedMinefield(long seed, double mineRatio, int chunkCacheSize, ChunkStore chunkStore) {
+        if (mineRatio < 0 || mineRatio > GameConfig.getInstance().getMaxMineRatio()) {
+            throw new GameInputException(MessageProvider.getMessage("minefield.tooManyMines"));
+        }
+        this.seed = seed;
+        this.mineRatio = mineRatio;
+        this.chunkStore = chunkStore;
+        this.chunkCache = new LinkedHashMap<Long, Chunk>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= chunkCacheSize) {
+                    return false;
+                }
+                if (eldest.getValue().hasRevealedSquares()) {
+                    chunkStore.save(eldest.getKey(), eldest.getValue().revealedRows());
+                }
+                return true;
+            }
+        };
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of chunks currently held in memory.
+     *
+     * @return the number of cached chunks
+     */
+    public int getLoadedChunkCount() {
+        return chunkCache.size();
+    }
+
+    public boolean contains(int row, int col) {
+        return true;
+    }
+
+    public boolean isMineAt(int row, int col) {
+        return CellState.isMine(stateAt(row, col));
+    }
+
+    public boolean isRevealed(int row, int col) {
+        return CellState.isRevealed(stateAt(row, col));
+    }
+
+    public int getAdjacentMinesCount(int row, int col) {
+        return CellState.adjacentMines(stateAt(row, col));
+    }
+
+    public boolean reveal(int row, int col) {
+        return chunkAt(row, col).reveal(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    private byte stateAt(int row, int col) {
+        return chunkAt(row, col).stateAt(row & Chunk.MASK, col & Chunk.MASK);
+    }
+
+    private Chunk chunkAt(int row, int col) {
+        int chunkRow = row >> Chunk.SHIFT;
+        int chunkCol = col >> Chunk.SHIFT;
+        long key = chunkKey(chunkRow, chunkCol);
+        Chunk chunk = chunkCache.get(key);
+        if (chunk == null) {
+            chunk = buildChunk(chunkRow, chunkCol);
+            long[] revealedRows = chunkStore.load(key);
+            if (revealedRows != null) {
+                chunk.restoreRevealedRows(revealedRows);
+            }
+            chunkCache.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    private Chunk buildChunk(int chunkRow, int chunkCol) {
+        long[][][] neighbourhood = new long[3][3][];
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                neighbourhood[i + 1][j + 1] = generateMineRows(chunkRow + i, chunkCol + j);
+            }
+        }
+        return new Chunk(neighbourhood);
+    }
+
+    /**
+     * Generates the mine layout of a chunk as one bit mask per row.
+     * Depends only on the seed, the mine ratio and the chunk coordinates.
+     */
+    private long[] generateMineRows(int chunkRow, int chunkCol) {
+        SplittableRandom random = new SplittableRandom(mix64(seed ^ mix64(chunkKey(chunkRow, chunkCol))));
+        long[] mineRows = new long[Chunk.SIZE];
+        for (int row = 0; row < Chunk.SIZE; row++) {
+            for (int col = 0; col < Chunk.SIZE; col++) {
+                if (random.nextDouble() < mineRatio) {
+                    mineRows[row] |= 1L << col;
+                }
+            }
+        }
+        return mineRows;
+    }
+
+    static long chunkKey(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Scrambles a 64-bit value so neighbouring chunks get unrelated random streams.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
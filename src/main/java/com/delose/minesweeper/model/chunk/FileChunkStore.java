@@ -0,0 +1,61 @@
+package com.delose.minesweeper.model.chunk;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Keeps evicted chunk state on disk, one 512-byte file per chunk with revealed squares.
+ */
+public class FileChunkStore implements ChunkStore {
+
+    private final Path directory;
+
+    /**
+     * Constructs a store writing into the given directory, creating it if needed.
+     *
+     * @param directory the directory holding the chunk files
+     */
+    public FileChunkStore(Path directory) {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create chunk store directory " + directory, e);
+        }
+    }
+
+    public void save(long chunkKey, long[] revealedRows) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fileFor(chunkKey))))) {
+            for (long row : revealedRows) {
+                out.writeLong(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save chunk " + Long.toHexString(chunkKey), e);
+        }
+    }
+
+    public long[] load(long chunkKey) {
+        Path file = fileFor(chunkKey);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        long[] revealedRows = new long[Chunk.SIZE];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int row = 0; row < revealedRows.length; row++) {
+                revealedRows[row] = in.readLong();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load chunk " + Long.toHexString(chunkKey), e);
+        }
+        return revealedRows;
+    }
+
+    private Path fileFor(long chunkKey) {
+        return directory.resolve(Long.toHexString(chunkKey) + ".chunk");
+    }
+}
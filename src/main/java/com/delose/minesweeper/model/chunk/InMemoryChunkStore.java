@@ -0,0 +1,22 @@
+package com.delose.minesweeper.model.chunk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps evicted chunk state on the heap, at 512 bytes per chunk with revealed squares.
+ * Suited to tests and short sessions; use {@link FileChunkStore} to bound memory.
+ */
+public class InMemoryChunkStore implements ChunkStore {
+
+    private final Map<Long, long[]> revealedByChunk = new HashMap<>();
+
+    public void save(long chunkKey, long[] revealedRows) {
+        revealedByChunk.put(chunkKey, revealedRows.clone());
+    }
+
+    public long[] load(long chunkKey) {
+        long[] revealedRows = revealedByChunk.get(chunkKey);
+        return revealedRows == null ? null : revealedRows.clone();
+    }
+}
@@ -0,0 +1,20 @@
+package com.delose.minesweeper.pool;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Creates new games, ready to be played.
+ */
+public interface BoardFactory {
+
+    /**
+     * Creates a game with its mines placed.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     * @return a new game in progress
+     * @throws com.delose.minesweeper.core.exception.GameInputException if the settings are invalid
+     */
+    GameController create(int rows, int columns, int numberOfMines);
+}
@@ -0,0 +1,45 @@
+package com.delose.minesweeper.pool;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Keeps boards generated ahead of time, so starting a game does not wait for its board.
+ */
+public interface BoardPool {
+
+    /**
+     * Takes a ready board with the given settings, or creates one if none is ready,
+     * and has another generated in the background to replace it.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     * @return a new game in progress
+     * @throws com.delose.minesweeper.core.exception.GameInputException if the settings are invalid
+     */
+    GameController take(int rows, int columns, int numberOfMines);
+
+    /**
+     * Starts generating boards with the given settings in the background, before the first is taken.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     */
+    void prefill(int rows, int columns, int numberOfMines);
+
+    /**
+     * Gets the number of boards with the given settings that are ready to be taken.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     * @return the number of ready boards
+     */
+    int getReadyCount(int rows, int columns, int numberOfMines);
+
+    /**
+     * Stops the background generation. Boards are then only created when taken.
+     */
+    void close();
+}
@@ -0,0 +1,183 @@
+package com.delose.minesweeper.pool.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.pool.BoardFactory;
+import com.delose.minesweeper.pool.BoardPool;
+
+/**
+ * Keeps a bounded shelf of ready boards for every board size and number of mines asked for.
+ *
+ * Shelves are filled by a fixed set of producer threads. A shelf gets at most one producer task
+ * at a time, which generates boards until the shelf is full and then ends, so full shelves cost
+ * nothing and the number of boards held is bounded by the capacity of each shelf. Taking a board
+ * queues a refill. If a shelf is empty, the board is created on the caller's thread instead of
+ * waiting for a producer.
+ *
+ * Boards with more squares than the configured maximum are never kept, and only a bounded number
+ * of shelves is kept, dropping the least recently used one to make room for another, so clients
+ * asking for many different settings cannot make the pool grow without bound.
+ */
+public class BoardPoolImpl implements BoardPool {
+
+    private final BoardFactory factory;
+    private final int capacity;
+    private final long maxSquares;
+    private final ExecutorService producers;
+    private final Map<BoardKey, Shelf> shelves;
+
+    public BoardPoolImpl() {
+        this(new ConfiguredBoardFactory(), GameConfig.getInstance().getBoardPoolCapacity(),
+                GameConfig.getInstance().getBoardPoolMaxShelves(), GameConfig.getInstance().getBoardPoolProducers(),
+                GameConfig.getInstance().getBoardPoolMaxSquares());
+    }
+
+    /**
+     * Constructs a pool.
+     *
+     * @param factory creates the boards
+     * @param capacity the number of ready boards kept for each setting, 0 to keep none
+     * @param maxShelves the number of settings boards are kept for at once
+     * @param producerThreads the number of threads generating boards in the background
+     * @param maxSquares the largest board, in squares, that is kept
+     */
+    public BoardPoolImpl(BoardFactory factory, int capacity, int maxShelves, int producerThreads, long maxSquares) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.maxSquares = maxSquares;
+        this.shelves = Collections.synchronizedMap(new LinkedHashMap<BoardKey, Shelf>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BoardKey, Shelf> eldest) {
+                if (size() <= maxShelves) {
+                    return false;
+                }
+                eldest.getValue().retire();
+                return true;
+            }
+        });
+        this.producers = Executors.newFixedThreadPool(Math.max(1, producerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "board-pool-producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public GameController take(int rows, int columns, int numberOfMines) {
+        if (!isPooled(rows, columns)) {
+            return factory.create(rows, columns, numberOfMines);
+        }
+        BoardKey key = new BoardKey(rows, columns, numberOfMines);
+        Shelf shelf = shelves.get(key);
+        GameController board = shelf == null ? null : shelf.boards.poll();
+        if (board == null) {
+            // Created before the shelf exists, so invalid settings never reach a producer
+            board = factory.create(rows, columns, numberOfMines);
+        }
+        shelves.computeIfAbsent(key, Shelf::new).refill();
+        return board;
+    }
+
+    public void prefill(int rows, int columns, int numberOfMines) {
+        if (isPooled(rows, columns)) {
+            shelves.computeIfAbsent(new BoardKey(rows, columns, numberOfMines), Shelf::new).refill();
+        }
+    }
+
+    public int getReadyCount(int rows, int columns, int numberOfMines) {
+        Shelf shelf = shelves.get(new BoardKey(rows, columns, numberOfMines));
+        return shelf == null ? 0 : shelf.boards.size();
+    }
+
+    public void close() {
+        producers.shutdownNow();
+    }
+
+    private boolean isPooled(int rows, int columns) {
+        return capacity > 0 && (long) rows * columns <= maxSquares;
+    }
+
+    private class Shelf {
+
+        private final BoardKey key;
+        private final BlockingQueue<GameController> boards = new ArrayBlockingQueue<>(capacity);
+        private final AtomicBoolean producing = new AtomicBoolean();
+        private volatile boolean retired;
+
+        Shelf(BoardKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Stops filling the shelf and lets go of its boards, once it has been dropped from the pool.
+         */
+        void retire() {
+            retired = true;
+            boards.clear();
+        }
+
+        void refill() {
+            if (!retired && boards.remainingCapacity() > 0 && producing.compareAndSet(false, true)) {
+                try {
+                    producers.execute(this::produce);
+                } catch (RejectedExecutionException e) {
+                    producing.set(false);  // The pool is closed
+                }
+            }
+        }
+
+        private void produce() {
+            try {
+                while (!retired && boards.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                    boards.offer(factory.create(key.rows, key.columns, key.numberOfMines));
+                }
+            } catch (RuntimeException e) {
+                LoggerUtil.error("Failed to generate a board: " + e.getMessage());
+                return;
+            } finally {
+                // Even after an error, such as running out of memory on a large board, so a later take can refill
+                producing.set(false);
+            }
+            // A board taken after the last check would otherwise not be replaced
+            refill();
+        }
+    }
+
+    private static class BoardKey {
+
+        private final int rows;
+        private final int columns;
+        private final int numberOfMines;
+
+        BoardKey(int rows, int columns, int numberOfMines) {
+            this.rows = rows;
+            this.columns = columns;
+            this.numberOfMines = numberOfMines;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof BoardKey)) {
+                return false;
+            }
+            BoardKey key = (BoardKey) other;
+            return rows == key.rows && columns == key.columns && numberOfMines == key.numberOfMines;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rows, columns, numberOfMines);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.delose.minesweeper.pool.impl;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.pool.BoardFactory;
+import com.delose.minesweeper.solver.impl.NoGuessGeneratorImpl;
+
+/**
+ * Creates boards as configured: no-guess boards if enabled, otherwise boards with randomly placed mines.
+ */
+public class ConfiguredBoardFactory implements BoardFactory {
+
+    public GameController create(int rows, int columns, int numberOfMines) {
+        if (GameConfig.getInstance().isNoGuessEnabled()) {
+            return new NoGuessGeneratorImpl().generate(rows, columns, numberOfMines);
+        }
+        GameController gameController = new GameControllerImpl(rows, columns, numberOfMines);
+        gameController.placeMinesRandmly();
+        return gameController;
+    }
+}
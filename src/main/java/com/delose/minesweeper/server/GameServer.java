@@ -0,0 +1,37 @@
+package com.delose.minesweeper.server;
+
+import java.io.IOException;
+
+/**
+ * Hosts games over HTTP, many at once.
+ *
+ * <pre>
+ *   POST   /games?rows=9&amp;columns=9&amp;mines=10   creates a game: 201, {"id":"...","status":"IN_PROGRESS"}
+ *   GET    /games/{id}                        the visible board, as written by the JSON board writer
+ *   POST   /games/{id}/reveal?row=0&amp;col=0      reveals a square: {"status":"...","adjacentMines":n}
+ *   DELETE /games/{id}                        ends a game: 204
+ * </pre>
+ * Invalid requests get 400 and an {@code {"error":"..."}} body, unknown sessions 404, moves on a
+ * finished game 409, and creating a game when the server holds as many as it allows 503.
+ */
+public interface GameServer {
+
+    /**
+     * Starts accepting requests.
+     *
+     * @throws IOException if the server cannot listen on its port
+     */
+    void start() throws IOException;
+
+    /**
+     * Stops accepting requests and releases the server's threads.
+     */
+    void stop();
+
+    /**
+     * Gets the port the server listens on, which is chosen by the system if it was configured as 0.
+     *
+     * @return the port
+     */
+    int getPort();
+}
@@ -0,0 +1,45 @@
+package com.delose.minesweeper.server;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * A game hosted by the server. Requests on a session are applied one at a time, in the order
+ * they take its lock, while requests on different sessions never wait for each other.
+ *
+ * The lock is a {@link ReentrantLock} rather than a monitor so that a virtual thread waiting for
+ * a busy session does not pin its carrier thread.
+ */
+public class GameSession {
+
+    private final String id;
+    private final GameController game;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public GameSession(String id, GameController game) {
+        this.id = id;
+        this.game = game;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Runs an action on the game while no other request can touch it.
+     *
+     * @param action the action to run
+     * @param <T> the type of the action's result
+     * @return the action's result
+     */
+    public <T> T apply(Function<GameController, T> action) {
+        lock.lock();
+        try {
+            return action.apply(game);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.delose.minesweeper.server;
+
+import java.util.Locale;
+
+import com.delose.minesweeper.simulation.LatencyHistogram;
+
+/**
+ * Statistics gathered from a load test against a game server.
+ */
+public class LoadTestResult {
+
+    private final int sessions;
+    private final long requests;
+    private final long errors;
+    private final long elapsedNanos;
+    private final LatencyHistogram latencies;
+
+    LoadTestResult(int sessions, long requests, long errors, long elapsedNanos, LatencyHistogram latencies) {
+        this.sessions = sessions;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the number of requests that failed to connect or got a response other than the expected ones.
+     *
+     * @return the number of failed requests
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRequestsPerSecond() {
+        return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets a percentile of the time from sending a request to reading the whole response.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, to within about 6%
+     */
+    public long getLatencyNanos(double percentile) {
+        return latencies.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d requests over %d sessions in %.2f s (%.0f requests/s), %d errors, latency p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms",
+                requests, sessions, elapsedNanos / 1e9, getRequestsPerSecond(), errors,
+                getLatencyNanos(50) / 1e6, getLatencyNanos(99) / 1e6, getLatencyNanos(99.9) / 1e6);
+    }
+}
@@ -0,0 +1,235 @@
+package com.delose.minesweeper.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.simulation.LatencyHistogram;
+
+/**
+ * Drives a running game server with many open sessions from a pool of client threads.
+ *
+ * The sessions are created first, then each client sends requests to sessions picked at random
+ * until the requested number has been sent: three reveals of a random square for every board
+ * fetched. A session whose game ends is replaced by a new one, deleting the old, so the number of
+ * open sessions stays the same. Only the requests of this second phase are timed, not counting
+ * those replacing finished games.
+ */
+public class LoadTestRunner {
+
+    private static final String IN_PROGRESS = "\"status\":\"IN_PROGRESS\"";
+
+    private final String baseUrl;
+    private final int rows;
+    private final int columns;
+    private final int numberOfMines;
+    private final int clients;
+
+    /**
+     * Constructs a runner.
+     *
+     * @param baseUrl the server's address, such as {@code http://localhost:8080}
+     * @param rows the number of rows of each game
+     * @param columns the number of columns of each game
+     * @param numberOfMines the number of mines of each game
+     * @param clients the number of client threads
+     */
+    public LoadTestRunner(String baseUrl, int rows, int columns, int numberOfMines, int clients) {
+        if (clients < 1) {
+            throw new GameInputException(MessageProvider.getMessage("simulation.invalidThreads"));
+        }
+        this.baseUrl = baseUrl;
+        this.rows = rows;
+        this.columns = columns;
+        this.numberOfMines = numberOfMines;
+        this.clients = clients;
+    }
+
+    /**
+     * Opens the sessions, sends the requests and deletes the sessions again.
+     *
+     * @param sessions the number of sessions kept open
+     * @param requests the number of requests to time
+     * @param seed the seed from which every client's random stream is split
+     * @return the statistics of the timed requests
+     * @throws IOException if a session cannot be created
+     */
+    public LoadTestResult run(int sessions, long requests, long seed) throws IOException {
+        AtomicReferenceArray<String> ids = new AtomicReferenceArray<>(sessions);
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Callable<Object>> creators = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int first = c;
+                creators.add(() -> {
+                    for (int slot = first; slot < sessions; slot += clients) {
+                        ids.set(slot, createSession());
+                    }
+                    return null;
+                });
+            }
+            awaitAll(pool.invokeAll(creators));
+
+            AtomicLong nextRequest = new AtomicLong();
+            List<Client> workers = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                workers.add(new Client(ids, root.split(), nextRequest, requests));
+            }
+            long start = System.nanoTime();
+            List<Future<Client>> results = pool.invokeAll(workers);
+            long elapsed = System.nanoTime() - start;
+
+            long errors = 0;
+            LatencyHistogram latencies = new LatencyHistogram();
+            for (Future<Client> result : results) {
+                Client client = result.get();
+                errors += client.errors;
+                latencies.add(client.latencies);
+            }
+
+            List<Callable<Object>> deleters = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int first = c;
+                deleters.add(() -> {
+                    for (int slot = first; slot < sessions; slot += clients) {
+                        send("DELETE", "/games/" + ids.get(slot));
+                    }
+                    return null;
+                });
+            }
+            awaitAll(pool.invokeAll(deleters));
+            return new LoadTestResult(sessions, latencies.getTotalCount(), errors, elapsed, latencies);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Load test client failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void awaitAll(List<? extends Future<?>> futures) throws InterruptedException, ExecutionException {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private String createSession() throws IOException {
+        Response response = send("POST", "/games?rows=" + rows + "&columns=" + columns + "&mines=" + numberOfMines);
+        if (response.code != 201) {
+            throw new IOException("Creating a session failed with status " + response.code + ": " + response.body);
+        }
+        // The body is {"id":"...","status":"..."}
+        int start = response.body.indexOf("\"id\":\"") + 6;
+        return response.body.substring(start, response.body.indexOf('"', start));
+    }
+
+    private Response send(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        int code = connection.getResponseCode();
+        InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String body = "";
+        if (in != null) {
+            // Reading the whole body lets the connection be reused for the next request
+            try (InputStream stream = in) {
+                body = new String(readAll(stream), StandardCharsets.UTF_8);
+            }
+        }
+        return new Response(code, body);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        byte[] buffer = new byte[4096];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static class Response {
+
+        private final int code;
+        private final String body;
+
+        Response(int code, String body) {
+            this.code = code;
+            this.body = body;
+        }
+    }
+
+    private class Client implements Callable<Client> {
+
+        private final AtomicReferenceArray<String> ids;
+        private final SplittableRandom random;
+        private final AtomicLong nextRequest;
+        private final long requests;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long errors;
+
+        Client(AtomicReferenceArray<String> ids, SplittableRandom random, AtomicLong nextRequest, long requests) {
+            this.ids = ids;
+            this.random = random;
+            this.nextRequest = nextRequest;
+            this.requests = requests;
+        }
+
+        @Override
+        public Client call() {
+            while (nextRequest.getAndIncrement() < requests) {
+                int slot = random.nextInt(ids.length());
+                String id = ids.get(slot);
+                boolean reveal = random.nextInt(4) != 0;
+                String path = reveal
+                        ? "/games/" + id + "/reveal?row=" + random.nextInt(rows) + "&col=" + random.nextInt(columns)
+                        : "/games/" + id;
+
+                Response response;
+                long start = System.nanoTime();
+                try {
+                    response = send(reveal ? "POST" : "GET", path);
+                } catch (IOException e) {
+                    errors++;
+                    continue;
+                } finally {
+                    latencies.record(System.nanoTime() - start);
+                }
+
+                // 409 and 404 mean another client finished the game first, and is replacing or has replaced it
+                if (response.code != 200 && response.code != 409 && response.code != 404) {
+                    errors++;
+                } else if (reveal && response.code == 200 && !response.body.contains(IN_PROGRESS)) {
+                    replace(slot, id);
+                }
+            }
+            return this;
+        }
+
+        private void replace(int slot, String id) {
+            try {
+                String fresh = createSession();
+                send("DELETE", "/games/" + (ids.compareAndSet(slot, id, fresh) ? id : fresh));
+            } catch (IOException e) {
+                errors++;
+            }
+        }
+    }
+}
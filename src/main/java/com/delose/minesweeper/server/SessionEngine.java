@@ -0,0 +1,53 @@
+package com.delose.minesweeper.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Runs requests against the games hosted by the server. Requests on one session are applied one
+ * at a time, in the order they are submitted from a given thread; the engine decides on which
+ * thread.
+ */
+public interface SessionEngine {
+
+    /**
+     * Hosts a game under a new session id.
+     *
+     * @param game the game to host
+     * @return the new session id, or null if the engine hosts as many games as it allows
+     */
+    CompletableFuture<String> create(GameController game);
+
+    /**
+     * Runs an action on a game while no other request can touch it. Like {@link java.util.Map#compute},
+     * the action is also run when there is no such session, and is then given null.
+     *
+     * @param id the session id
+     * @param action the action to run, given the game or null
+     * @param <T> the type of the action's result
+     * @return the action's result, or the exception it threw
+     */
+    <T> CompletableFuture<T> apply(String id, Function<GameController, T> action);
+
+    /**
+     * Stops hosting a game.
+     *
+     * @param id the session id
+     * @return whether there was a session with that id
+     */
+    CompletableFuture<Boolean> remove(String id);
+
+    /**
+     * Gets the number of sessions.
+     *
+     * @return the number of sessions
+     */
+    int size();
+
+    /**
+     * Stops the engine's threads. Must not be called while requests are still being submitted.
+     */
+    void close();
+}
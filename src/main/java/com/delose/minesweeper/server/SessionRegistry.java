@@ -0,0 +1,40 @@
+package com.delose.minesweeper.server;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Keeps track of the games hosted by the server, by session id.
+ */
+public interface SessionRegistry {
+
+    /**
+     * Registers a game under a new session id.
+     *
+     * @param game the game to host
+     * @return the new session, or null if the registry is full
+     */
+    GameSession create(GameController game);
+
+    /**
+     * Gets a session.
+     *
+     * @param id the session id
+     * @return the session, or null if there is none with that id
+     */
+    GameSession get(String id);
+
+    /**
+     * Removes a session.
+     *
+     * @param id the session id
+     * @return whether there was a session with that id
+     */
+    boolean remove(String id);
+
+    /**
+     * Gets the number of sessions.
+     *
+     * @return the number of sessions
+     */
+    int size();
+}
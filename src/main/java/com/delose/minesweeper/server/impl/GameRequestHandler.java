@@ -0,0 +1,237 @@
+package com.delose.minesweeper.server.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.export.impl.JsonBoardWriter;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.pool.BoardPool;
+import com.delose.minesweeper.server.SessionEngine;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Handles the requests under {@code /games}, as listed in {@link com.delose.minesweeper.server.GameServer}.
+ *
+ * Responses are built by the {@link SessionEngine} as part of the request and sent afterwards,
+ * so a slow client never holds up other requests on its game.
+ */
+class GameRequestHandler implements HttpHandler {
+
+    static final String GAMES_PATH = "/games";
+
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int NO_CONTENT = 204;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONFLICT = 409;
+    private static final int SERVER_ERROR = 500;
+    private static final int UNAVAILABLE = 503;
+
+    private final SessionEngine sessions;
+    private final BoardPool boardPool;
+    private final long maxSquares;
+    private final JsonBoardWriter boardWriter = new JsonBoardWriter();
+
+    GameRequestHandler(SessionEngine sessions, BoardPool boardPool, long maxSquares) {
+        this.sessions = sessions;
+        this.boardPool = boardPool;
+        this.maxSquares = maxSquares;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            try {
+                route(exchange);
+            } catch (CompletionException e) {
+                // Rethrow what the request itself threw
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        } catch (GameInputException e) {
+            sendError(exchange, BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            LoggerUtil.error("Request " + exchange.getRequestURI() + " failed: " + e);
+            sendError(exchange, SERVER_ERROR, e.getClass().getSimpleName());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        // "/games/{id}/reveal" splits into "", "games", the id and "reveal"
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        if (parts.length < 2 || !"games".equals(parts[1])) {
+            sendError(exchange, NOT_FOUND, exchange.getRequestURI().getPath());
+            return;
+        }
+        if (parts.length == 2) {
+            if ("POST".equals(method)) {
+                create(exchange);
+                return;
+            }
+        } else if (parts.length == 3) {
+            if ("GET".equals(method)) {
+                board(exchange, parts[2]);
+                return;
+            }
+            if ("DELETE".equals(method)) {
+                delete(exchange, parts[2]);
+                return;
+            }
+        } else if (parts.length == 4 && "reveal".equals(parts[3])) {
+            if ("POST".equals(method)) {
+                reveal(exchange, parts[2]);
+                return;
+            }
+        } else {
+            sendError(exchange, NOT_FOUND, exchange.getRequestURI().getPath());
+            return;
+        }
+        sendError(exchange, METHOD_NOT_ALLOWED, method);
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange);
+        int rows = intParameter(query, "rows");
+        int columns = intParameter(query, "columns");
+        int mines = intParameter(query, "mines");
+        if ((long) rows * columns > maxSquares) {
+            throw new GameInputException(MessageProvider.getMessage("server.boardTooLarge") + maxSquares + " squares.");
+        }
+
+        GameController game = boardPool.take(rows, columns, mines);
+        String status = game.getGameStatus().toString();
+        String id = sessions.create(game).join();
+        if (id == null) {
+            sendError(exchange, UNAVAILABLE, MessageProvider.getMessage("server.tooManySessions"));
+            return;
+        }
+        exchange.getResponseHeaders().set("Location", GAMES_PATH + "/" + id);
+        sendJson(exchange, CREATED, "{\"id\":\"" + id + "\",\"status\":\"" + status + "\"}");
+    }
+
+    private void board(HttpExchange exchange, String id) throws IOException {
+        send(exchange, sessions.apply(id, game -> {
+            if (game == null) {
+                return sessionNotFound(id);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                boardWriter.write(game, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Reply(OK, out.toByteArray());
+        }).join());
+    }
+
+    private void reveal(HttpExchange exchange, String id) throws IOException {
+        Map<String, String> query = parseQuery(exchange);
+        int row = intParameter(query, "row");
+        int col = intParameter(query, "col");
+        send(exchange, sessions.apply(id, game -> {
+            if (game == null) {
+                return sessionNotFound(id);
+            }
+            if (game.getGameStatus() != GameStatus.IN_PROGRESS) {
+                return error(CONFLICT, MessageProvider.getMessage("server.gameOver"));
+            }
+            game.revealSquare(row, col);
+            String json = "{\"status\":\"" + game.getGameStatus() + "\"";
+            json += game.isMineAt(row, col) ? "}" : ",\"adjacentMines\":" + game.getAdjacentMinesCount(row, col) + "}";
+            return json(OK, json);
+        }).join());
+    }
+
+    private void delete(HttpExchange exchange, String id) throws IOException {
+        if (sessions.remove(id).join()) {
+            exchange.sendResponseHeaders(NO_CONTENT, -1);
+        } else {
+            send(exchange, sessionNotFound(id));
+        }
+    }
+
+    private Map<String, String> parseQuery(HttpExchange exchange) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"),
+                        URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+            }
+        }
+        return parameters;
+    }
+
+    private int intParameter(Map<String, String> query, String name) {
+        try {
+            int value = Integer.parseInt(query.get(name));
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like a negative value
+        }
+        throw new GameInputException(MessageProvider.getMessage("server.invalidParameter") + name);
+    }
+
+    private static Reply sessionNotFound(String id) {
+        return error(NOT_FOUND, MessageProvider.getMessage("server.sessionNotFound") + id);
+    }
+
+    private static Reply error(int code, String message) {
+        String escaped = message.replace("\\", "\\\\").replace("\"", "\\\"");
+        return json(code, "{\"error\":\"" + escaped + "\"}");
+    }
+
+    private static Reply json(int code, String json) {
+        return new Reply(code, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        send(exchange, error(code, message));
+    }
+
+    private void sendJson(HttpExchange exchange, int code, String json) throws IOException {
+        send(exchange, json(code, json));
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.code, reply.body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(reply.body);
+        }
+    }
+
+    private static final class Reply {
+
+        private final int code;
+        private final byte[] body;
+
+        Reply(int code, byte[] body) {
+            this.code = code;
+            this.body = body;
+        }
+    }
+}
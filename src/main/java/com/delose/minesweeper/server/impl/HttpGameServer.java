@@ -0,0 +1,112 @@
+package com.delose.minesweeper.server.impl;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.pool.BoardPool;
+import com.delose.minesweeper.pool.impl.BoardPoolImpl;
+import com.delose.minesweeper.server.GameServer;
+import com.delose.minesweeper.server.SessionEngine;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves games with the JDK's built-in HTTP server, handling each request on its own virtual
+ * thread where the JVM supports them. New games are taken from a {@link BoardPool}, so creating
+ * a game rarely waits for its board.
+ *
+ * The JDK server writes the headers and body of a response separately, so without
+ * {@link #NODELAY_PROPERTY} set to true before its classes load, each body waits for the client's
+ * delayed acknowledgement, adding about 40 ms to every request. The applications set it on startup.
+ */
+public class HttpGameServer implements GameServer {
+
+    /**
+     * The system property that turns on TCP_NODELAY for the JDK server's connections.
+     */
+    public static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final int port;
+    private final SessionEngine sessions;
+    private final BoardPool boardPool;
+    private final boolean ownsBoardPool;
+    private final GameRequestHandler handler;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Constructs a server with the configured session engine and a board pool of its own, which is
+     * closed when the server stops.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     */
+    public HttpGameServer(int port) {
+        this(port, newConfiguredEngine(GameConfig.getInstance().getServerMaxSessions()), new BoardPoolImpl(),
+                GameConfig.getInstance().getServerMaxSquares(), true);
+    }
+
+    /**
+     * Constructs a server.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param sessions the engine hosting the games, which is closed when the server stops
+     * @param boardPool the pool new games are taken from, which is left open when the server stops
+     * @param maxSquares the largest board, in squares, a client may create
+     */
+    public HttpGameServer(int port, SessionEngine sessions, BoardPool boardPool, long maxSquares) {
+        this(port, sessions, boardPool, maxSquares, false);
+    }
+
+    private HttpGameServer(int port, SessionEngine sessions, BoardPool boardPool, long maxSquares, boolean ownsBoardPool) {
+        this.port = port;
+        this.sessions = sessions;
+        this.boardPool = boardPool;
+        this.ownsBoardPool = ownsBoardPool;
+        this.handler = new GameRequestHandler(sessions, boardPool, maxSquares);
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = RequestExecutors.newPerRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext(GameRequestHandler.GAMES_PATH, handler);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+        sessions.close();
+        if (ownsBoardPool) {
+            boardPool.close();
+        }
+    }
+
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    /**
+     * Creates the session engine chosen in the configuration: "sharded", with the configured number
+     * of shards or one per core, or "locking".
+     *
+     * @param maxSessions the most sessions hosted at once
+     * @return the engine
+     */
+    public static SessionEngine newConfiguredEngine(int maxSessions) {
+        GameConfig config = GameConfig.getInstance();
+        if ("locking".equals(config.getServerEngine())) {
+            return new LockingSessionEngine(new InMemorySessionRegistry(maxSessions));
+        }
+        int shards = config.getServerShards() > 0 ? config.getServerShards() : Runtime.getRuntime().availableProcessors();
+        String parkDirectory = config.getServerParkDirectory();
+        return new ShardedSessionEngine(shards, maxSessions, TimeUnit.SECONDS.toMillis(config.getServerIdleTimeoutSeconds()),
+                Paths.get(parkDirectory.isEmpty() ? System.getProperty("java.io.tmpdir") : parkDirectory));
+    }
+}
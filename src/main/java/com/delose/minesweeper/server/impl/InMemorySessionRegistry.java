@@ -0,0 +1,58 @@
+package com.delose.minesweeper.server.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.server.GameSession;
+import com.delose.minesweeper.server.SessionRegistry;
+
+/**
+ * Keeps every session on the heap in a concurrent map, up to a maximum number of sessions.
+ */
+public class InMemorySessionRegistry implements SessionRegistry {
+
+    private final ConcurrentMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSessions;
+
+    /**
+     * Constructs a registry.
+     *
+     * @param maxSessions the most sessions kept at once
+     */
+    public InMemorySessionRegistry(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    public GameSession create(GameController game) {
+        // Reserve a place first, so concurrent creations cannot overshoot the maximum
+        if (size.incrementAndGet() > maxSessions) {
+            size.decrementAndGet();
+            return null;
+        }
+        while (true) {
+            GameSession session = new GameSession(SessionIds.newId(), game);
+            if (sessions.putIfAbsent(session.getId(), session) == null) {
+                return session;
+            }
+        }
+    }
+
+    public GameSession get(String id) {
+        return sessions.get(id);
+    }
+
+    public boolean remove(String id) {
+        if (sessions.remove(id) == null) {
+            return false;
+        }
+        size.decrementAndGet();
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.delose.minesweeper.server.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.server.GameSession;
+import com.delose.minesweeper.server.SessionEngine;
+import com.delose.minesweeper.server.SessionRegistry;
+
+/**
+ * Runs every request on the thread that submits it, holding the lock of its {@link GameSession}.
+ * Sessions are shared between threads through a {@link SessionRegistry}.
+ */
+public class LockingSessionEngine implements SessionEngine {
+
+    private final SessionRegistry sessions;
+
+    public LockingSessionEngine(SessionRegistry sessions) {
+        this.sessions = sessions;
+    }
+
+    public CompletableFuture<String> create(GameController game) {
+        GameSession session = sessions.create(game);
+        return CompletableFuture.completedFuture(session == null ? null : session.getId());
+    }
+
+    public <T> CompletableFuture<T> apply(String id, Function<GameController, T> action) {
+        GameSession session = sessions.get(id);
+        try {
+            return CompletableFuture.completedFuture(session == null ? action.apply(null) : session.apply(action));
+        } catch (RuntimeException e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    public CompletableFuture<Boolean> remove(String id) {
+        return CompletableFuture.completedFuture(sessions.remove(id));
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public void close() {
+        // Requests run on their callers' threads, so there is nothing to stop
+    }
+}
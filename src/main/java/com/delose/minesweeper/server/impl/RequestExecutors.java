@@ -0,0 +1,36 @@
+package com.delose.minesweeper.server.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor that handles server requests.
+ */
+final class RequestExecutors {
+
+    private RequestExecutors() {
+        throw new IllegalStateException("RequestExecutors class");
+    }
+
+    /**
+     * Creates an executor running every request on a virtual thread of its own when the JVM has them
+     * (Java 21 and later), so a request waiting on a busy session costs no platform thread. On older
+     * JVMs, looked up by reflection since the code targets Java 8, it falls back to a cached pool of
+     * daemon threads.
+     *
+     * @return the executor
+     */
+    static ExecutorService newPerRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "game-server-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.delose.minesweeper.server.impl;
+
+import java.security.SecureRandom;
+
+/**
+ * Creates session ids.
+ */
+final class SessionIds {
+
+    private static final int LENGTH = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private SessionIds() {
+        throw new IllegalStateException("SessionIds class");
+    }
+
+    /**
+     * Creates a random 128-bit id from a {@link SecureRandom}, as the id is all that stands between a
+     * client and someone else's game, so it must not be guessed from ids seen before.
+     *
+     * @return the id, as 32 hexadecimal digits
+     */
+    static String newId() {
+        return String.format("%016x%016x", RANDOM.nextLong(), RANDOM.nextLong());
+    }
+
+    /**
+     * Checks that an id has the form {@link #newId()} gives, exactly 32 lowercase hexadecimal digits,
+     * so a client's id is safe to use in a file name.
+     *
+     * @param id the id to check
+     * @return true if it could be an id
+     */
+    static boolean isWellFormed(String id) {
+        if (id == null || id.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
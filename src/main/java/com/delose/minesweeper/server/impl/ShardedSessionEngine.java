@@ -0,0 +1,395 @@
+package com.delose.minesweeper.server.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.util.collection.MpscQueue;
+import com.delose.minesweeper.core.util.collection.TimingWheel;
+import com.delose.minesweeper.core.util.logging.LoggerUtil;
+import com.delose.minesweeper.export.impl.MappedSnapshotStore;
+import com.delose.minesweeper.server.SessionEngine;
+
+/**
+ * Splits the sessions between shards, each owning its games outright and running every request
+ * on them from a single thread. A session belongs to the shard picked by the hash of its id.
+ *
+ * Requests are handed to their shard through a lock-free {@link MpscQueue}, and the shard drains
+ * its queue in batches, parking when it is empty. Since only the shard's thread ever touches its
+ * games and its map of sessions, neither needs any synchronisation, and nothing is shared between
+ * shards except the counts of sessions.
+ *
+ * With an idle timeout, games nobody has touched for that long are parked: written to a file in
+ * a {@link MappedSnapshotStore} snapshot, seed included, and dropped from the heap, then read back
+ * when their next request arrives, so the heap only holds the games in use. Each shard tracks idleness with a
+ * {@link TimingWheel} of 100 ms ticks holding one timer per game in memory. A request only
+ * records the tick it ran on; when a timer expires, a game used since is given a new timer
+ * instead of being parked.
+ *
+ * Ids come from clients, so any that {@link SessionIds#newId()} could not have produced are
+ * treated as unknown before they get near a file name.
+ */
+public class ShardedSessionEngine implements SessionEngine {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final String PARKED_SUFFIX = ".msws";
+
+    private final Shard[] shards;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger parkedCount = new AtomicInteger();
+    private final int maxSessions;
+    private final long idleTicks;
+    private final Path parkDirectory;
+    // Not mapped, as Windows keeps a mapped file from being deleted until its buffer is collected
+    private final MappedSnapshotStore snapshots = new MappedSnapshotStore(false);
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Constructs an engine that keeps every game in memory and starts its shards.
+     *
+     * @param shardCount the number of shards, usually one per core
+     * @param maxSessions the most sessions hosted at once
+     */
+    public ShardedSessionEngine(int shardCount, int maxSessions) {
+        this(shardCount, maxSessions, 0, null);
+    }
+
+    /**
+     * Constructs an engine that parks idle games on disk and starts its shards.
+     *
+     * @param shardCount the number of shards, usually one per core
+     * @param maxSessions the most sessions hosted at once, parked or not
+     * @param idleTimeoutMillis how long a game is kept in memory after its last request, or 0 to keep every game
+     * @param parkDirectory the directory in which a private directory for parked games is created,
+     *                      and deleted again when the engine closes
+     */
+    public ShardedSessionEngine(int shardCount, int maxSessions, long idleTimeoutMillis, Path parkDirectory) {
+        this.maxSessions = maxSessions;
+        this.idleTicks = idleTimeoutMillis > 0 ? Math.max(1, TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis) / TICK_NANOS) : 0;
+        try {
+            this.parkDirectory = idleTicks > 0 ? Files.createTempDirectory(parkDirectory, "parked-sessions") : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.shards = new Shard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard("session-shard-" + i);
+        }
+    }
+
+    public CompletableFuture<String> create(GameController game) {
+        // Reserve a place first, so concurrent creations cannot overshoot the maximum
+        if (size.incrementAndGet() > maxSessions) {
+            size.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+        String id = SessionIds.newId();
+        return shardOf(id).submit(shard -> shard.add(id, game)).thenCompose(created -> {
+            if (created) {
+                return CompletableFuture.completedFuture(id);
+            }
+            size.decrementAndGet();  // The id is taken, try another
+            return create(game);
+        });
+    }
+
+    public <T> CompletableFuture<T> apply(String id, Function<GameController, T> action) {
+        return shardOf(id).submit(shard -> action.apply(shard.find(id)));
+    }
+
+    public CompletableFuture<Boolean> remove(String id) {
+        return shardOf(id).submit(shard -> {
+            if (!shard.remove(id)) {
+                return false;
+            }
+            size.decrementAndGet();
+            return true;
+        });
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the number of games parked on disk.
+     *
+     * @return the number of parked games
+     */
+    public int getParkedCount() {
+        return parkedCount.get();
+    }
+
+    public void close() {
+        for (Shard shard : shards) {
+            shard.running = false;
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            shard.rejectRemaining();
+        }
+        if (parkDirectory != null) {
+            deleteParkDirectory();
+        }
+    }
+
+    private Shard shardOf(String id) {
+        int hash = id.hashCode();
+        hash ^= hash >>> 16;
+        return shards[(hash & Integer.MAX_VALUE) % shards.length];
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / TICK_NANOS;
+    }
+
+    /**
+     * Gets the file of a parked game, spread over 256 subdirectories by the first two characters of its id.
+     */
+    private Path parkedFile(String id) {
+        return parkDirectory.resolve(id.substring(0, Math.min(2, id.length()))).resolve(id + PARKED_SUFFIX);
+    }
+
+    private void deleteParkDirectory() {
+        try (Stream<Path> paths = Files.walk(parkDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            LoggerUtil.warn("Could not delete parked games in " + parkDirectory + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Task<T> {
+
+        private final Function<Shard, T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Function<Shard, T> action) {
+            this.action = action;
+        }
+
+        void run(Shard shard) {
+            try {
+                result.complete(action.apply(shard));
+            } catch (Throwable e) {
+                // Errors too, as one escaping would end the shard's thread and strand every later request
+                result.completeExceptionally(e);
+            }
+        }
+
+        void reject() {
+            result.completeExceptionally(new RejectedExecutionException("Session engine closed"));
+        }
+    }
+
+    /**
+     * A game held in memory, with the tick of its last request.
+     */
+    private static final class Session {
+
+        private final String id;
+        private final GameController game;
+        private long lastUsedTick;
+
+        Session(String id, GameController game, long lastUsedTick) {
+            this.id = id;
+            this.game = game;
+            this.lastUsedTick = lastUsedTick;
+        }
+    }
+
+    private final class Shard implements Runnable {
+
+        private final MpscQueue<Task<?>> tasks = new MpscQueue<>();
+        private final Map<String, Session> sessions = new HashMap<>();
+        private final TimingWheel<Session> idleTimers = new TimingWheel<>(currentTick());
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean parked;
+
+        Shard(String name) {
+            this.thread = new Thread(this, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        <T> CompletableFuture<T> submit(Function<Shard, T> action) {
+            Task<T> task = new Task<>(action);
+            if (!running) {
+                task.reject();
+                return task.result;
+            }
+            tasks.offer(task);
+            if (!running) {
+                // Closed since the check above, perhaps after the shard's last drain
+                rejectRemaining();
+            } else if (parked) {
+                // Pairs with the check in run(): either the shard sees the task or this sees it parked
+                LockSupport.unpark(thread);
+            }
+            return task.result;
+        }
+
+        /**
+         * Rejects the tasks left in the queue once the shard's thread has ended, so none waits forever.
+         * The thread is then no longer polling, and the lock keeps callers from polling at once.
+         */
+        synchronized void rejectRemaining() {
+            if (Thread.currentThread() == thread) {
+                return;  // The loop drains the queue on its way out
+            }
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            for (Task<?> task = tasks.poll(); task != null; task = tasks.poll()) {
+                task.reject();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                int drained = drain();
+                if (idleTicks > 0) {
+                    idleTimers.advance(currentTick(), this::checkIdle);
+                }
+                if (drained == 0) {
+                    parked = true;
+                    if (tasks.isEmpty() && running) {
+                        if (idleTimers.size() > 0) {
+                            LockSupport.parkNanos(this, TICK_NANOS);
+                        } else {
+                            LockSupport.park(this);
+                        }
+                    }
+                    parked = false;
+                }
+            }
+            for (Task<?> task = tasks.poll(); task != null; task = tasks.poll()) {
+                task.reject();
+            }
+        }
+
+        private int drain() {
+            int drained = 0;
+            for (Task<?> task; drained < BATCH_SIZE && (task = tasks.poll()) != null; drained++) {
+                task.run(this);
+            }
+            return drained;
+        }
+
+        boolean add(String id, GameController game) {
+            if (sessions.containsKey(id) || (parkDirectory != null && Files.exists(parkedFile(id)))) {
+                return false;
+            }
+            keep(new Session(id, game, idleTimers.getCurrentTick()));
+            return true;
+        }
+
+        /**
+         * Gets a game, reading it back first if it is parked, and records the request.
+         *
+         * @return the game, or null if there is no session with that id
+         */
+        GameController find(String id) {
+            if (!SessionIds.isWellFormed(id)) {
+                return null;
+            }
+            Session session = sessions.get(id);
+            if (session == null) {
+                session = unpark(id);
+                if (session == null) {
+                    return null;
+                }
+            }
+            session.lastUsedTick = idleTimers.getCurrentTick();
+            return session.game;
+        }
+
+        boolean remove(String id) {
+            if (!SessionIds.isWellFormed(id)) {
+                return false;
+            }
+            if (sessions.remove(id) != null) {
+                return true;
+            }
+            try {
+                if (parkDirectory != null && Files.deleteIfExists(parkedFile(id))) {
+                    parkedCount.decrementAndGet();
+                    return true;
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void keep(Session session) {
+            sessions.put(session.id, session);
+            if (idleTicks > 0) {
+                idleTimers.schedule(session, session.lastUsedTick + idleTicks);
+            }
+        }
+
+        private void checkIdle(Session session) {
+            if (sessions.get(session.id) != session) {
+                return;  // Removed since the timer was set
+            }
+            long idleUntil = session.lastUsedTick + idleTicks;
+            if (idleUntil > idleTimers.getCurrentTick()) {
+                idleTimers.schedule(session, idleUntil);
+                return;
+            }
+            Path file = parkedFile(session.id);
+            try {
+                Files.createDirectories(file.getParent());
+                snapshots.save(session.game, file);
+                sessions.remove(session.id);
+                parkedCount.incrementAndGet();
+            } catch (IOException e) {
+                LoggerUtil.error("Could not park game " + session.id + ": " + e.getMessage());
+                idleTimers.schedule(session, idleTimers.getCurrentTick() + idleTicks);
+            }
+        }
+
+        private Session unpark(String id) {
+            if (parkDirectory == null) {
+                return null;
+            }
+            Path file = parkedFile(id);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try {
+                GameController game = snapshots.load(file);
+                Files.delete(file);
+                parkedCount.decrementAndGet();
+                Session session = new Session(id, game, idleTimers.getCurrentTick());
+                keep(session);
+                return session;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
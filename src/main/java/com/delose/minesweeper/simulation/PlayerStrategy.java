@@ -0,0 +1,29 @@
+package com.delose.minesweeper.simulation;
+
+import java.util.SplittableRandom;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Chooses the moves of a player in a headless game.
+ *
+ * A strategy plays one game at a time and may keep state between the moves of a game.
+ * The simulation creates one strategy per worker thread, so implementations need not be thread-safe.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Starts a new game, discarding any state kept from the previous one.
+     *
+     * @param game the game to play, with its mines already placed
+     * @param random the random stream to draw moves from
+     */
+    void startGame(GameController game, SplittableRandom random);
+
+    /**
+     * Chooses the next square to reveal. Only called while the game is in progress.
+     *
+     * @return the linear index (row * columns + col) of an unrevealed square
+     */
+    int nextMove();
+}
@@ -0,0 +1,70 @@
+package com.delose.minesweeper.simulation;
+
+import java.util.Locale;
+
+/**
+ * Statistics gathered from a batch of simulated games.
+ */
+public class SimulationResult {
+
+    private final long games;
+    private final long wins;
+    private final long moves;
+    private final long elapsedNanos;
+    private final LatencyHistogram moveLatencies;
+
+    SimulationResult(long games, long wins, long moves, long elapsedNanos, LatencyHistogram moveLatencies) {
+        this.games = games;
+        this.wins = wins;
+        this.moves = moves;
+        this.elapsedNanos = elapsedNanos;
+        this.moveLatencies = moveLatencies;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return games - wins;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Gets a percentile of the time the engine took to carry out a move, from the call to
+     * {@code revealSquare} to its return. The time strategies spend choosing moves is not included.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds, to within about 6%
+     */
+    public long getMoveLatencyNanos(double percentile) {
+        return moveLatencies.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d games in %.2f s (%.0f games/s), win rate %.2f%%, %d moves, move latency p50 %d ns, p99 %d ns, p99.9 %d ns",
+                games, elapsedNanos / 1e9, getGamesPerSecond(), getWinRate() * 100, moves,
+                getMoveLatencyNanos(50), getMoveLatencyNanos(99), getMoveLatencyNanos(99.9));
+    }
+}
@@ -0,0 +1,144 @@
+package com.delose.minesweeper.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.GameStatus;
+
+/**
+ * Plays games without a terminal, spread over a pool of worker threads.
+ *
+ * Every game runs on its own {@link GameControllerImpl}. Each worker has its own strategy and a
+ * random stream split from the run's seed, which lays out its boards and drives its strategy,
+ * and workers take games from a shared counter until the requested number has been played.
+ * With a single worker a seed always replays the same games.
+ */
+public class SimulationRunner {
+
+    private final int rows;
+    private final int columns;
+    private final int numberOfMines;
+    private final Supplier<? extends PlayerStrategy> strategies;
+    private final int threads;
+
+    /**
+     * Constructs a runner for games on boards of the given size.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines on each board
+     * @param strategies creates the strategy of each worker
+     * @param threads the number of worker threads
+     */
+    public SimulationRunner(int rows, int columns, int numberOfMines, Supplier<? extends PlayerStrategy> strategies, int threads) {
+        if (threads < 1) {
+            throw new GameInputException(MessageProvider.getMessage("simulation.invalidThreads"));
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.numberOfMines = numberOfMines;
+        this.strategies = strategies;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the given number of games and gathers their statistics.
+     *
+     * @param games the number of games to play
+     * @param seed the seed from which every worker's random stream is split
+     * @return the statistics of the games played
+     */
+    public SimulationResult run(long games, long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        AtomicLong nextGame = new AtomicLong();
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(strategies.get(), root.split(), nextGame, games));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<Worker>> results = pool.invokeAll(workers);
+            long elapsed = System.nanoTime() - start;
+
+            long wins = 0;
+            long moves = 0;
+            LatencyHistogram latencies = new LatencyHistogram();
+            for (Future<Worker> result : results) {
+                Worker worker = result.get();
+                wins += worker.wins;
+                moves += worker.moves;
+                latencies.add(worker.latencies);
+            }
+            return new SimulationResult(games, wins, moves, elapsed, latencies);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private class Worker implements Callable<Worker> {
+
+        private final PlayerStrategy strategy;
+        private final SplittableRandom random;
+        private final AtomicLong nextGame;
+        private final long games;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long wins;
+        private long moves;
+
+        Worker(PlayerStrategy strategy, SplittableRandom random, AtomicLong nextGame, long games) {
+            this.strategy = strategy;
+            this.random = random;
+            this.nextGame = nextGame;
+            this.games = games;
+        }
+
+        @Override
+        public Worker call() {
+            while (nextGame.getAndIncrement() < games) {
+                if (play() == GameStatus.WON) {
+                    wins++;
+                }
+            }
+            return this;
+        }
+
+        private GameStatus play() {
+            GameController game = new GameControllerImpl(rows, columns, numberOfMines);
+            game.placeMinesRandmly(random.nextLong());
+            strategy.startGame(game, random);
+
+            // Every move reveals at least one square, so a game takes at most one move per square
+            long maxMoves = (long) rows * columns;
+            for (long move = 0; game.getGameStatus() == GameStatus.IN_PROGRESS; move++) {
+                int index = strategy.nextMove();
+                if (move == maxMoves || index < 0 || game.isSquareRevealed(index / columns, index % columns)) {
+                    throw new IllegalStateException("Strategy chose an invalid move: " + index);
+                }
+                long start = System.nanoTime();
+                game.revealSquare(index / columns, index % columns);
+                latencies.record(System.nanoTime() - start);
+                moves++;
+            }
+            return game.getGameStatus();
+        }
+    }
+}
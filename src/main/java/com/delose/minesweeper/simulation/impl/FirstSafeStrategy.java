@@ -0,0 +1,51 @@
+package com.delose.minesweeper.simulation.impl;
+
+import java.util.SplittableRandom;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Plays randomly, but never loses on the first move.
+ *
+ * The engine places its mines before the first move, so this strategy stands in for the
+ * first-click protection of classic Minesweeper by opening the game on a random safe square.
+ */
+public class FirstSafeStrategy extends RandomStrategy {
+
+    private boolean firstMove;
+
+    @Override
+    public void startGame(GameController game, SplittableRandom random) {
+        super.startGame(game, random);
+        this.firstMove = true;
+    }
+
+    @Override
+    public int nextMove() {
+        if (firstMove) {
+            firstMove = false;
+            return randomSafeSquare();
+        }
+        return nextDeliberateMove();
+    }
+
+    /**
+     * Chooses every move after the first.
+     *
+     * @return the linear index of an unrevealed square
+     */
+    protected int nextDeliberateMove() {
+        return randomCandidate();
+    }
+
+    private int randomSafeSquare() {
+        int start = random.nextInt(cellCount);
+        for (int i = 0; i < cellCount; i++) {
+            int index = (start + i) % cellCount;
+            if (!board.isMineAt(index / columns, index % columns)) {
+                return index;
+            }
+        }
+        return start;  // Every square is a mine
+    }
+}
@@ -0,0 +1,66 @@
+package com.delose.minesweeper.simulation.impl;
+
+import java.util.SplittableRandom;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.simulation.PlayerStrategy;
+
+/**
+ * Reveals unrevealed squares chosen uniformly at random.
+ */
+public class RandomStrategy implements PlayerStrategy {
+
+    private static final int RANDOM_ATTEMPTS = 32;
+
+    protected GameController game;
+    protected BoardView board;
+    protected SplittableRandom random;
+    protected int columns;
+    protected int cellCount;
+
+    public void startGame(GameController game, SplittableRandom random) {
+        this.game = game;
+        this.board = game.getBoardView();
+        this.random = random;
+        this.columns = board.getColumns();
+        this.cellCount = board.getRows() * columns;
+    }
+
+    public int nextMove() {
+        return randomCandidate();
+    }
+
+    /**
+     * Whether the square may be chosen by {@link #randomCandidate()}.
+     *
+     * @param index the linear index of the square
+     * @return true if the square is unrevealed
+     */
+    protected boolean isCandidate(int index) {
+        return !board.isRevealed(index / columns, index % columns);
+    }
+
+    /**
+     * Picks a random candidate square. A few random probes find one quickly while most of the
+     * board is unrevealed; late in a game the board is scanned from a random starting point.
+     *
+     * @return the linear index of a candidate square, or -1 if there is none
+     */
+    protected int randomCandidate() {
+        for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+            int index = random.nextInt(cellCount);
+            if (isCandidate(index)) {
+                return index;
+            }
+        }
+        int start = random.nextInt(cellCount);
+        for (int i = 0; i < cellCount; i++) {
+            int index = (start + i) % cellCount;
+            if (isCandidate(index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.delose.minesweeper.simulation.impl;
+
+import java.util.SplittableRandom;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.solver.ConstraintSolver;
+import com.delose.minesweeper.solver.ProbabilityEngine;
+import com.delose.minesweeper.solver.impl.ConstraintSolverImpl;
+
+/**
+ * Opens on a safe square, then reveals squares the {@link ConstraintSolver} proves safe and only
+ * guesses when it cannot. Guesses avoid squares known to be mines, and with a
+ * {@link ProbabilityEngine} they go to the square least likely to hold a mine.
+ *
+ * The solver becomes the game's reveal listener, so it keeps up with each move incrementally.
+ */
+public class SolverStrategy extends FirstSafeStrategy {
+
+    private final ConstraintSolver solver;
+    private final ProbabilityEngine probabilityEngine;
+
+    public SolverStrategy() {
+        this(new ConstraintSolverImpl(), null);
+    }
+
+    /**
+     * Constructs a strategy.
+     *
+     * @param solver the solver finding safe squares
+     * @param probabilityEngine the engine choosing guesses, or null to guess at random
+     */
+    public SolverStrategy(ConstraintSolver solver, ProbabilityEngine probabilityEngine) {
+        this.solver = solver;
+        this.probabilityEngine = probabilityEngine;
+    }
+
+    @Override
+    public void startGame(GameController game, SplittableRandom random) {
+        super.startGame(game, random);
+        solver.attach(game);
+    }
+
+    @Override
+    protected int nextDeliberateMove() {
+        int safe = solver.nextSafeSquare();
+        if (safe >= 0) {
+            return safe;
+        }
+        return probabilityEngine != null ? probabilityEngine.compute(game).getSafestSquare() : randomCandidate();
+    }
+
+    @Override
+    protected boolean isCandidate(int index) {
+        return !solver.isKnownMine(index) && super.isCandidate(index);
+    }
+}
@@ -0,0 +1,40 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Deduces which unrevealed squares of a game are certainly safe or certainly mined.
+ *
+ * The solver follows the game through its {@link com.delose.minesweeper.controller.RevealListener}
+ * and keeps one constraint per revealed number on the frontier: the number of mines among that
+ * square's hidden neighbours. Each move only re-examines the constraints it changed.
+ */
+public interface ConstraintSolver {
+
+    /**
+     * Starts following a game, forgetting everything deduced about the previous one. The squares
+     * the game has already revealed are read once, and the solver becomes its reveal listener.
+     *
+     * @param game the game to follow
+     */
+    void attach(GameController game);
+
+    /**
+     * Gets an unrevealed square proven safe, running any deductions the last moves made possible.
+     * Each safe square is handed out once.
+     *
+     * @return the linear index (row * columns + col) of a safe square, or -1 if none is known
+     */
+    int nextSafeSquare();
+
+    /**
+     * Whether the square is proven to hold a mine. Only reflects deductions made by
+     * {@link #nextSafeSquare()} so far.
+     *
+     * @param index the linear index of the square
+     * @return true if the square is known to be mined
+     */
+    boolean isKnownMine(int index);
+
+    int getKnownMineCount();
+}
@@ -0,0 +1,45 @@
+package com.delose.minesweeper.solver;
+
+/**
+ * The probability of a mine on each square of a board, indexed by linear index (row * columns + col).
+ * Revealed squares have no probability and report {@link Double#NaN}.
+ */
+public class MineProbabilities {
+
+    private final double[] probabilities;
+    private final boolean exact;
+
+    /**
+     * Constructs the result of a probability computation.
+     *
+     * @param probabilities the probability of each square, NaN for revealed squares
+     * @param exact false if part of the board was estimated by sampling
+     */
+    public MineProbabilities(double[] probabilities, boolean exact) {
+        this.probabilities = probabilities;
+        this.exact = exact;
+    }
+
+    public double getProbability(int index) {
+        return probabilities[index];
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Gets the unrevealed square least likely to hold a mine, the first one in index order on ties.
+     *
+     * @return the linear index of the square, or -1 if every square is revealed
+     */
+    public int getSafestSquare() {
+        int safest = -1;
+        for (int index = 0; index < probabilities.length; index++) {
+            if (probabilities[index] < (safest < 0 ? Double.POSITIVE_INFINITY : probabilities[safest])) {
+                safest = index;
+            }
+        }
+        return safest;
+    }
+}
@@ -0,0 +1,33 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Generates boards that can be solved from their opening without guessing.
+ */
+public interface NoGuessGenerator {
+
+    /**
+     * Generates a board on which every safe square can be proven safe, starting from an opening
+     * around the centre square. The opening is already revealed on the returned game.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     * @return a game in progress with its opening revealed
+     * @throws com.delose.minesweeper.core.exception.GameInputException if no such board was found
+     */
+    GameController generate(int rows, int columns, int numberOfMines);
+
+    /**
+     * Generates a board like {@link #generate(int, int, int)}, drawing every candidate from the seed.
+     * Candidates race each other, so the board returned may still differ between runs.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param numberOfMines the number of mines
+     * @param seed the seed the candidates are drawn from
+     * @return a game in progress with its opening revealed
+     */
+    GameController generate(int rows, int columns, int numberOfMines, long seed);
+}
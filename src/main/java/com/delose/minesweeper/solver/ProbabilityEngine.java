@@ -0,0 +1,18 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+
+/**
+ * Computes the probability that each unrevealed square of a game holds a mine, given every
+ * revealed number and the total number of mines.
+ */
+public interface ProbabilityEngine {
+
+    /**
+     * Computes the mine probabilities for the current state of the game.
+     *
+     * @param game the game in progress
+     * @return the probability of a mine on every square
+     */
+    MineProbabilities compute(GameController game);
+}
@@ -0,0 +1,51 @@
+package com.delose.minesweeper.solver.impl;
+
+/**
+ * The layouts of a {@link FrontierComponent}, counted by number of mines.
+ */
+class ComponentSolution {
+
+    private final double[] weights;
+    private final double[][] squareWeights;
+    private final boolean exact;
+
+    /**
+     * Constructs a solution, scaling the counts so the largest is 1. Only ratios between
+     * counts matter, and scaling keeps products over many components within range.
+     *
+     * @param weights the number of layouts with each number of mines
+     * @param squareWeights for each square, the number of layouts with each number of mines that mine it
+     * @param exact false if the counts were sampled
+     */
+    ComponentSolution(double[] weights, double[][] squareWeights, boolean exact) {
+        double max = 0;
+        for (double weight : weights) {
+            max = Math.max(max, weight);
+        }
+        if (max > 0) {
+            for (int m = 0; m < weights.length; m++) {
+                weights[m] /= max;
+            }
+            for (double[] square : squareWeights) {
+                for (int m = 0; m < square.length; m++) {
+                    square[m] /= max;
+                }
+            }
+        }
+        this.weights = weights;
+        this.squareWeights = squareWeights;
+        this.exact = exact;
+    }
+
+    double[] getWeights() {
+        return weights;
+    }
+
+    double[] getSquareWeights(int position) {
+        return squareWeights[position];
+    }
+
+    boolean isExact() {
+        return exact;
+    }
+}
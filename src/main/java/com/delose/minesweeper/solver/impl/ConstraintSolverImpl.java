@@ -0,0 +1,301 @@
+package com.delose.minesweeper.solver.impl;
+
+import java.util.Arrays;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.RevealListener;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.solver.ConstraintSolver;
+
+/**
+ * Solves the frontier with the single-square rules and pairwise constraint reduction.
+ *
+ * Every revealed number with hidden neighbours holds a constraint over those neighbours. A
+ * constraint with no mines left makes all its squares safe and one with as many mines as squares
+ * makes them all mines. Two overlapping constraints are compared as well: when the difference in
+ * their mines equals the squares only the larger one covers, those squares are mines and the
+ * squares only the smaller one covers are safe, which includes the subset rule as a special case.
+ *
+ * Reveals and deductions remove squares from the constraints around them and queue those
+ * constraints for another look, so the work per move follows what the move changed. Only
+ * constraints within two squares of each other can overlap, so each comparison looks at a
+ * small fixed neighbourhood.
+ */
+public class ConstraintSolverImpl implements ConstraintSolver, RevealListener {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte MINE = 2;
+    private static final byte REVEALED = 3;
+
+    private final IntQueue safeSquares = new IntQueue();
+    private final IntQueue dirtyConstraints = new IntQueue();
+    private final int[] scratch = new int[8];
+    private BoardView board;
+    private int rows;
+    private int columns;
+    private byte[] states = new byte[0];
+    private Constraint[] constraints = new Constraint[0];
+    private int knownMines;
+
+    public void attach(GameController game) {
+        this.board = game.getBoardView();
+        game.setRevealListener(this);
+        reset();
+    }
+
+    private void reset() {
+        rows = board.getRows();
+        columns = board.getColumns();
+        int cellCount = rows * columns;
+        if (states.length != cellCount) {
+            states = new byte[cellCount];
+            constraints = new Constraint[cellCount];
+        } else {
+            Arrays.fill(states, UNKNOWN);
+            Arrays.fill(constraints, null);
+        }
+        safeSquares.clear();
+        dirtyConstraints.clear();
+        knownMines = 0;
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (board.isRevealed(row, col)) {
+                    states[row * columns + col] = REVEALED;
+                }
+            }
+        }
+        for (int index = 0; index < cellCount; index++) {
+            if (states[index] == REVEALED) {
+                addConstraint(index);
+            }
+        }
+    }
+
+    public int nextSafeSquare() {
+        solve();
+        while (!safeSquares.isEmpty()) {
+            int index = safeSquares.poll();
+            if (states[index] == SAFE) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isKnownMine(int index) {
+        return states[index] == MINE;
+    }
+
+    public int getKnownMineCount() {
+        return knownMines;
+    }
+
+    public void squareRevealed(int row, int col) {
+        int index = row * columns + col;
+        byte previous = states[index];
+        if (previous == REVEALED) {
+            return;
+        }
+        states[index] = REVEALED;
+        if (board.isMineAt(row, col)) {
+            return;  // The game is lost, nothing more to deduce
+        }
+        if (previous == UNKNOWN) {
+            removeFromNeighbours(index, false);
+        }
+        addConstraint(index);
+    }
+
+    public void boardChanged() {
+        reset();
+    }
+
+    private void addConstraint(int index) {
+        int row = index / columns;
+        int col = index % columns;
+        if (board.isMineAt(row, col)) {
+            return;
+        }
+        Constraint constraint = new Constraint(index);
+        constraint.mines = board.getAdjacentMinesCount(row, col);
+        for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(columns - 1, col + 1); j++) {
+                int neighbour = i * columns + j;
+                if (states[neighbour] == UNKNOWN) {
+                    constraint.cells[constraint.size++] = neighbour;
+                } else if (states[neighbour] == MINE) {
+                    constraint.mines--;
+                }
+            }
+        }
+        if (constraint.size > 0) {
+            constraints[index] = constraint;
+            markDirty(constraint);
+        }
+    }
+
+    private void solve() {
+        while (!dirtyConstraints.isEmpty()) {
+            Constraint constraint = constraints[dirtyConstraints.poll()];
+            if (constraint == null) {
+                continue;
+            }
+            constraint.dirty = false;
+            if (constraint.mines == 0 || constraint.mines == constraint.size) {
+                int count = constraint.copyCells(scratch);
+                boolean mines = constraint.mines != 0;
+                for (int i = 0; i < count; i++) {
+                    mark(scratch[i], mines);
+                }
+            } else {
+                reduceWithNeighbours(constraint);
+            }
+        }
+    }
+
+    private void reduceWithNeighbours(Constraint constraint) {
+        int row = constraint.owner / columns;
+        int col = constraint.owner % columns;
+        for (int i = Math.max(0, row - 2); i <= Math.min(rows - 1, row + 2); i++) {
+            for (int j = Math.max(0, col - 2); j <= Math.min(columns - 1, col + 2); j++) {
+                Constraint other = constraints[i * columns + j];
+                if (other != null && other != constraint && (reduce(constraint, other) || reduce(other, constraint))) {
+                    // Queued again to try its other pairs: when it is the smaller of the two, none of the
+                    // marked squares are its own, so the marks did not queue it
+                    if (constraints[constraint.owner] == constraint) {
+                        markDirty(constraint);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the pair rule: the mines {@code larger} has over {@code smaller} can only lie in the
+     * squares {@code smaller} does not cover, so if there are exactly as many of those squares,
+     * they are all mines and the squares only {@code smaller} covers are all safe.
+     *
+     * @return true if any square was marked
+     */
+    private boolean reduce(Constraint smaller, Constraint larger) {
+        int shared = larger.overlap(smaller);
+        int onlyLarger = larger.size - shared;
+        int onlySmaller = smaller.size - shared;
+        if (shared == 0 || onlyLarger + onlySmaller == 0 || larger.mines - smaller.mines != onlyLarger) {
+            return false;
+        }
+        // Squares only in the larger constraint hold all of its extra mines; squares only in the smaller hold none
+        int[] largerCells = Arrays.copyOf(larger.cells, larger.size);
+        int[] smallerCells = Arrays.copyOf(smaller.cells, smaller.size);
+        for (int cell : largerCells) {
+            if (!contains(smallerCells, cell)) {
+                mark(cell, true);
+            }
+        }
+        for (int cell : smallerCells) {
+            if (!contains(largerCells, cell)) {
+                mark(cell, false);
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] cells, int cell) {
+        for (int value : cells) {
+            if (value == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void mark(int index, boolean mine) {
+        if (states[index] != UNKNOWN) {
+            return;
+        }
+        if (mine) {
+            states[index] = MINE;
+            knownMines++;
+        } else {
+            states[index] = SAFE;
+            safeSquares.add(index);
+        }
+        removeFromNeighbours(index, mine);
+    }
+
+    private void removeFromNeighbours(int index, boolean mine) {
+        int row = index / columns;
+        int col = index % columns;
+        for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(columns - 1, col + 1); j++) {
+                int neighbour = i * columns + j;
+                Constraint constraint = constraints[neighbour];
+                if (constraint != null && constraint.remove(index)) {
+                    if (mine) {
+                        constraint.mines--;
+                    }
+                    if (constraint.size == 0) {
+                        constraints[neighbour] = null;
+                    } else {
+                        markDirty(constraint);
+                    }
+                }
+            }
+        }
+    }
+
+    private void markDirty(Constraint constraint) {
+        if (!constraint.dirty) {
+            constraint.dirty = true;
+            dirtyConstraints.add(constraint.owner);
+        }
+    }
+
+    /**
+     * The number of mines among the hidden, undecided neighbours of a revealed square.
+     */
+    private static class Constraint {
+
+        private final int owner;
+        private final int[] cells = new int[8];
+        private int size;
+        private int mines;
+        private boolean dirty;
+
+        Constraint(int owner) {
+            this.owner = owner;
+        }
+
+        boolean remove(int cell) {
+            for (int i = 0; i < size; i++) {
+                if (cells[i] == cell) {
+                    cells[i] = cells[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int overlap(Constraint other) {
+            int shared = 0;
+            for (int i = 0; i < size; i++) {
+                for (int k = 0; k < other.size; k++) {
+                    if (cells[i] == other.cells[k]) {
+                        shared++;
+                        break;
+                    }
+                }
+            }
+            return shared;
+        }
+
+        int copyCells(int[] target) {
+            System.arraycopy(cells, 0, target, 0, size);
+            return size;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.delose.minesweeper.solver.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A connected part of the frontier: hidden squares linked by the revealed numbers they share,
+ * which can be solved independently of every other part.
+ *
+ * Squares are assigned in order, and after each square the only thing the rest of the
+ * enumeration depends on is the running mine total of every constraint that is partly assigned.
+ * Assignments are memoised on those totals, packed into a long as digits whose base is one more
+ * than the most mines the constraint allows, so a forward pass counts the partial layouts reaching
+ * each state by number of mines, a backward pass counts the ways each state can be completed, and
+ * the two give, for every square and number of mines, how many layouts put a mine on that square.
+ * The number of states stays small when the squares are ordered along the frontier.
+ */
+class FrontierComponent {
+
+    private static final int MAX_STATES = 1 << 16;
+    private static final int MAX_SQUARES = 900;
+    private static final int MAX_SAMPLES = 20000;
+
+    private final int[] squares;
+    private final int[][] constraintSquares;
+    private final int[] counts;
+    private final int[] lastPosition;
+    private final int[][] constraintsOfSquare;
+    private final int[][] activeConstraints;
+    private final int[][] slots;
+    private final long[][] placeValues;
+    private final boolean packable;
+
+    /**
+     * Constructs a component.
+     *
+     * @param squares the linear indices of the hidden squares, in the order to assign them
+     * @param constraintSquares for each constraint, the positions in {@code squares} it covers
+     * @param counts for each constraint, the number of mines among its squares
+     */
+    FrontierComponent(int[] squares, int[][] constraintSquares, int[] counts) {
+        this.squares = squares;
+        this.constraintSquares = constraintSquares;
+        this.counts = counts;
+
+        int constraints = counts.length;
+        int[] firstPosition = new int[constraints];
+        this.lastPosition = new int[constraints];
+        List<List<Integer>> bySquare = new ArrayList<>(squares.length);
+        for (int i = 0; i < squares.length; i++) {
+            bySquare.add(new ArrayList<>());
+        }
+        for (int k = 0; k < constraints; k++) {
+            firstPosition[k] = Integer.MAX_VALUE;
+            for (int position : constraintSquares[k]) {
+                firstPosition[k] = Math.min(firstPosition[k], position);
+                lastPosition[k] = Math.max(lastPosition[k], position);
+                bySquare.get(position).add(k);
+            }
+        }
+        this.constraintsOfSquare = new int[squares.length][];
+        for (int i = 0; i < squares.length; i++) {
+            constraintsOfSquare[i] = bySquare.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // A constraint is active in layer i when squares on both sides of position i belong to it
+        this.activeConstraints = new int[squares.length + 1][];
+        this.slots = new int[squares.length + 1][];
+        this.placeValues = new long[squares.length + 1][];
+        boolean fits = true;
+        for (int i = 0; i <= squares.length; i++) {
+            int[] slot = new int[constraints];
+            Arrays.fill(slot, -1);
+            int active = 0;
+            for (int k = 0; k < constraints; k++) {
+                if (firstPosition[k] < i && lastPosition[k] >= i) {
+                    slot[k] = active++;
+                }
+            }
+            int[] list = new int[active];
+            for (int k = 0; k < constraints; k++) {
+                if (slot[k] >= 0) {
+                    list[slot[k]] = k;
+                }
+            }
+            activeConstraints[i] = list;
+            slots[i] = slot;
+
+            // Each total is a digit in base count + 1, and the state must fit in a long
+            placeValues[i] = new long[active + 1];
+            placeValues[i][0] = 1;
+            for (int s = 0; s < active && fits; s++) {
+                long next = placeValues[i][s] * (counts[list[s]] + 1);
+                fits = next > 0 && next / (counts[list[s]] + 1) == placeValues[i][s];
+                placeValues[i][s + 1] = next;
+            }
+        }
+        this.packable = fits;
+    }
+
+    int[] getSquares() {
+        return squares;
+    }
+
+    int[][] getConstraintSquares() {
+        return constraintSquares;
+    }
+
+    int[] getCounts() {
+        return counts;
+    }
+
+    /**
+     * Counts every layout of mines consistent with the constraints.
+     *
+     * @param deadline the {@link System#nanoTime()} from which to give up
+     * @return the exact counts, or null if the deadline passed or the component has too many states
+     */
+    ComponentSolution enumerate(long deadline) {
+        int n = squares.length;
+        if (n > MAX_SQUARES || !packable) {
+            return null;
+        }
+
+        List<Map<Long, double[]>> forward = new ArrayList<>(n + 1);
+        Map<Long, double[]> layer = new HashMap<>();
+        layer.put(0L, new double[] {1});
+        forward.add(layer);
+        for (int i = 0; i < n; i++) {
+            Map<Long, double[]> next = new HashMap<>();
+            int length = i + 2;
+            for (Map.Entry<Long, double[]> entry : layer.entrySet()) {
+                for (int mine = 0; mine <= 1; mine++) {
+                    long target = transition(i, entry.getKey(), mine);
+                    if (target >= 0) {
+                        addShifted(next.computeIfAbsent(target, key -> new double[length]), entry.getValue(), mine);
+                    }
+                }
+            }
+            if (next.size() > MAX_STATES || System.nanoTime() >= deadline) {
+                return null;
+            }
+            forward.add(next);
+            layer = next;
+        }
+
+        double[][] squareWeights = new double[n][n + 1];
+        Map<Long, double[]> completions = new HashMap<>();
+        completions.put(0L, new double[] {1});
+        for (int i = n - 1; i >= 0; i--) {
+            Map<Long, double[]> previous = new HashMap<>();
+            for (Map.Entry<Long, double[]> entry : forward.get(i).entrySet()) {
+                double[] ways = new double[n - i + 1];
+                boolean completes = false;
+                for (int mine = 0; mine <= 1; mine++) {
+                    double[] rest = completions.get(transition(i, entry.getKey(), mine));
+                    if (rest != null) {
+                        addShifted(ways, rest, mine);
+                        completes = true;
+                        if (mine == 1) {
+                            addProduct(squareWeights[i], entry.getValue(), rest, 1);
+                        }
+                    }
+                }
+                if (completes) {
+                    previous.put(entry.getKey(), ways);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                return null;
+            }
+            completions = previous;
+        }
+
+        double[] weights = completions.containsKey(0L) ? completions.get(0L) : new double[n + 1];
+        return new ComponentSolution(weights, squareWeights, true);
+    }
+
+    /**
+     * Estimates the counts from layouts drawn by assigning squares in order at random and
+     * starting over on a dead end. The layouts are not drawn uniformly, so the result is approximate.
+     *
+     * @param random the source of randomness
+     * @param density the probability of trying a mine first on each square
+     * @param deadline the {@link System#nanoTime()} from which to stop sampling
+     * @return the sampled counts
+     */
+    ComponentSolution sample(SplittableRandom random, double density, long deadline) {
+        int n = squares.length;
+        double[] weights = new double[n + 1];
+        double[][] squareWeights = new double[n][n + 1];
+        boolean[] mines = new boolean[n];
+        int[] totals = new int[counts.length];
+        for (int samples = 0; samples < MAX_SAMPLES && System.nanoTime() < deadline; ) {
+            Arrays.fill(totals, 0);
+            int mineCount = 0;
+            int i = 0;
+            for (; i < n; i++) {
+                int mine = random.nextDouble() < density ? 1 : 0;
+                if (!fits(i, totals, mine)) {
+                    mine = 1 - mine;
+                    if (!fits(i, totals, mine)) {
+                        break;  // Dead end, start over
+                    }
+                }
+                mines[i] = mine == 1;
+                for (int k : constraintsOfSquare[i]) {
+                    totals[k] += mine;
+                }
+                mineCount += mine;
+            }
+            if (i == n) {
+                weights[mineCount]++;
+                for (int k = 0; k < n; k++) {
+                    if (mines[k]) {
+                        squareWeights[k][mineCount]++;
+                    }
+                }
+                samples++;
+            }
+        }
+        return new ComponentSolution(weights, squareWeights, false);
+    }
+
+    /**
+     * Whether square i can take the given value, with the running total of every constraint unpacked.
+     */
+    private boolean fits(int i, int[] totals, int mine) {
+        for (int k : constraintsOfSquare[i]) {
+            int total = totals[k] + mine;
+            if (total > counts[k] || total + remainingAfter(k, i) < counts[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves from layer i to layer i + 1 by assigning square i.
+     *
+     * @return the packed totals of the next layer, or -1 if the assignment breaks a constraint
+     */
+    private long transition(int i, long state, int mine) {
+        int[] slot = slots[i];
+        for (int k : constraintsOfSquare[i]) {
+            int total = (slot[k] >= 0 ? total(state, i, slot[k]) : 0) + mine;
+            if (lastPosition[k] == i) {
+                if (total != counts[k]) {
+                    return -1;
+                }
+            } else if (total > counts[k] || total + remainingAfter(k, i) < counts[k]) {
+                return -1;
+            }
+        }
+
+        long next = 0;
+        int[] active = activeConstraints[i + 1];
+        for (int s = 0; s < active.length; s++) {
+            int k = active[s];
+            int total = slot[k] >= 0 ? total(state, i, slot[k]) : 0;
+            if (covers(k, i)) {
+                total += mine;
+            }
+            next += total * placeValues[i + 1][s];
+        }
+        return next;
+    }
+
+    private int total(long state, int layer, int slot) {
+        return (int) (state / placeValues[layer][slot] % (placeValues[layer][slot + 1] / placeValues[layer][slot]));
+    }
+
+    private boolean covers(int constraint, int position) {
+        for (int k : constraintsOfSquare[position]) {
+            if (k == constraint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int remainingAfter(int constraint, int position) {
+        int remaining = 0;
+        for (int p : constraintSquares[constraint]) {
+            if (p > position) {
+                remaining++;
+            }
+        }
+        return remaining;
+    }
+
+    private static void addShifted(double[] target, double[] source, int shift) {
+        for (int m = 0; m < source.length && m + shift < target.length; m++) {
+            target[m + shift] += source[m];
+        }
+    }
+
+    private static void addProduct(double[] target, double[] left, double[] right, int shift) {
+        for (int a = 0; a < left.length; a++) {
+            if (left[a] == 0) {
+                continue;
+            }
+            for (int b = 0; b < right.length && a + b + shift < target.length; b++) {
+                target[a + b + shift] += left[a] * right[b];
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.delose.minesweeper.solver.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+import com.delose.minesweeper.solver.ConstraintSolver;
+import com.delose.minesweeper.solver.NoGuessGenerator;
+
+/**
+ * Generates no-guess boards by solving candidates and repairing the ones the solver gets stuck on.
+ *
+ * A candidate keeps the centre square and its neighbours free of mines, then the
+ * {@link ConstraintSolver} plays it from that opening. Whenever the solver runs out of safe
+ * squares, one undecided mine next to the revealed area is moved to a square away from it and the
+ * board is solved again from the start. A candidate that cannot be repaired is dropped for a new one.
+ *
+ * Several candidates are generated at once with {@link ExecutorService#invokeAny}: the first
+ * solvable board is returned and the other candidates are cancelled.
+ */
+public class NoGuessGeneratorImpl implements NoGuessGenerator {
+
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "no-guess-generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService executor;
+    private final int candidates;
+    private final int maxAttempts;
+
+    public NoGuessGeneratorImpl() {
+        this(SHARED_EXECUTOR, GameConfig.getInstance().getNoGuessCandidates(), GameConfig.getInstance().getNoGuessMaxAttempts());
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param executor the executor running the candidates
+     * @param candidates the number of candidates generated at once
+     * @param maxAttempts the number of boards each candidate tries before giving up
+     */
+    public NoGuessGeneratorImpl(ExecutorService executor, int candidates, int maxAttempts) {
+        this.executor = executor;
+        this.candidates = Math.max(1, candidates);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public GameController generate(int rows, int columns, int numberOfMines) {
+        return generate(rows, columns, numberOfMines, ThreadLocalRandom.current().nextLong());
+    }
+
+    public GameController generate(int rows, int columns, int numberOfMines, long seed) {
+        new Minefield(rows, columns, numberOfMines);  // Validates the settings before any candidate starts
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<GameController>> tasks = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            tasks.add(new Candidate(rows, columns, numberOfMines, root.split()));
+        }
+        try {
+            return executor.invokeAny(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GameInputException(MessageProvider.getMessage("minefield.noGuessFailed"));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GameInputException) {
+                throw (GameInputException) e.getCause();
+            }
+            throw new IllegalStateException("No-guess generation failed", e.getCause());
+        }
+    }
+
+    private class Candidate implements Callable<GameController> {
+
+        private final int rows;
+        private final int columns;
+        private final int numberOfMines;
+        private final SplittableRandom random;
+        private final int startRow;
+        private final int startCol;
+        private final ConstraintSolver solver = new ConstraintSolverImpl();
+        private final boolean[] layout;
+        private final int[] choices;
+
+        Candidate(int rows, int columns, int numberOfMines, SplittableRandom random) {
+            this.rows = rows;
+            this.columns = columns;
+            this.numberOfMines = numberOfMines;
+            this.random = random;
+            this.startRow = rows / 2;
+            this.startCol = columns / 2;
+            this.layout = new boolean[rows * columns];
+            this.choices = new int[rows * columns];
+        }
+
+        @Override
+        public GameController call() {
+            for (int attempt = 0; attempt < maxAttempts; attempt++) {
+                Minefield minefield = new Minefield(rows, columns, numberOfMines);
+                minefield.placeMines(random.nextLong(), startRow, startCol);
+                for (int index = 0; index < layout.length; index++) {
+                    layout[index] = minefield.isMineAt(index);
+                }
+                if (solveWithRepairs()) {
+                    return opening();
+                }
+            }
+            throw new GameInputException(MessageProvider.getMessage("minefield.noGuessFailed"));
+        }
+
+        /**
+         * Solves the layout, repairing it each time the solver gets stuck.
+         *
+         * @return true once the layout is solvable, false if it could not be repaired
+         */
+        private boolean solveWithRepairs() {
+            for (int repair = 0; repair <= numberOfMines; repair++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException();  // Another candidate won
+                }
+                GameController game = opening();
+                solver.attach(game);
+                int safe;
+                while (game.getGameStatus() == GameStatus.IN_PROGRESS && (safe = solver.nextSafeSquare()) >= 0) {
+                    game.revealSquare(safe / columns, safe % columns);
+                }
+                if (game.getGameStatus() == GameStatus.WON) {
+                    return true;
+                }
+                if (!moveUndecidedMine(game)) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private GameController opening() {
+            Minefield minefield = new Minefield(rows, columns, numberOfMines);
+            for (int index = 0; index < layout.length; index++) {
+                if (layout[index]) {
+                    minefield.placeMine(index / columns, index % columns);
+                }
+            }
+            GameController game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+            game.revealSquare(startRow, startCol);
+            return game;
+        }
+
+        /**
+         * Moves a mine the solver could not decide, within two squares of the revealed area,
+         * to a random square not touching the revealed area.
+         *
+         * @return false if there is no such mine or no square to move it to
+         */
+        private boolean moveUndecidedMine(GameController game) {
+            int sources = 0;
+            for (int index = 0; index < layout.length; index++) {
+                if (layout[index] && !solver.isKnownMine(index) && nearRevealed(game, index, 2)) {
+                    choices[sources++] = index;
+                }
+            }
+            if (sources == 0) {
+                return false;
+            }
+            int source = choices[random.nextInt(sources)];
+
+            int targets = 0;
+            for (int index = 0; index < layout.length; index++) {
+                if (!layout[index] && !nearRevealed(game, index, 1)) {
+                    choices[targets++] = index;
+                }
+            }
+            if (targets == 0) {
+                return false;
+            }
+            layout[source] = false;
+            layout[choices[random.nextInt(targets)]] = true;
+            return true;
+        }
+
+        private boolean nearRevealed(GameController game, int index, int distance) {
+            int row = index / columns;
+            int col = index % columns;
+            for (int i = Math.max(0, row - distance); i <= Math.min(rows - 1, row + distance); i++) {
+                for (int j = Math.max(0, col - distance); j <= Math.min(columns - 1, col + distance); j++) {
+                    if (game.isSquareRevealed(i, j)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.delose.minesweeper.solver.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.util.config.GameConfig;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.solver.MineProbabilities;
+import com.delose.minesweeper.solver.ProbabilityEngine;
+
+/**
+ * Computes exact mine probabilities by solving each connected part of the frontier on its own.
+ *
+ * The frontier is split into {@link FrontierComponent}s, which are counted in parallel on a
+ * fork/join pool. A component that cannot be counted within its time budget is sampled instead,
+ * and the result is then marked as not exact. The counts of all components are combined with the
+ * squares off the frontier by weighting every total number of frontier mines with the number of
+ * ways to place the remaining mines among those squares, a binomial coefficient.
+ *
+ * Components are remembered between calls, so a move only recounts the parts of the frontier it changed.
+ */
+public class ProbabilityEngineImpl implements ProbabilityEngine {
+
+    private static final int CACHE_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetNanos;
+    private final Map<ComponentKey, ComponentSolution> solved = Collections.synchronizedMap(
+            new LinkedHashMap<ComponentKey, ComponentSolution>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ComponentKey, ComponentSolution> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    public ProbabilityEngineImpl() {
+        this(ForkJoinPool.commonPool(), GameConfig.getInstance().getProbabilityTimeBudgetMillis());
+    }
+
+    /**
+     * Constructs an engine.
+     *
+     * @param pool the pool counting the components
+     * @param timeBudgetMillis the time allowed for counting each component exactly, and again for sampling it
+     */
+    public ProbabilityEngineImpl(ForkJoinPool pool, long timeBudgetMillis) {
+        this.pool = pool;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+    }
+
+    public MineProbabilities compute(GameController game) {
+        Frontier frontier = new Frontier(game.getBoardView());
+        int remainingMines = game.getNumberOfMines();
+        int interior = frontier.hidden - frontier.frontierSquares;
+        double density = frontier.hidden == 0 ? 0 : (double) remainingMines / frontier.hidden;
+
+        List<FrontierComponent> components = frontier.components();
+        ComponentSolution[] solutions = solveAll(components, density);
+
+        double[] probabilities = new double[frontier.cellCount];
+        boolean exact = true;
+        for (ComponentSolution solution : solutions) {
+            exact &= solution.isExact();
+        }
+
+        double[][] weights = new double[solutions.length][];
+        int maxFrontierMines = 0;
+        for (int c = 0; c < solutions.length; c++) {
+            weights[c] = solutions[c].getWeights();
+            maxFrontierMines += weights[c].length - 1;
+        }
+        double[] interiorWeights = interiorWeights(interior, remainingMines, maxFrontierMines);
+
+        // Convolutions of all components before and after each one, to combine the others
+        double[][] prefix = new double[solutions.length + 1][];
+        double[][] suffix = new double[solutions.length + 1][];
+        prefix[0] = new double[] {1};
+        suffix[solutions.length] = new double[] {1};
+        for (int c = 0; c < solutions.length; c++) {
+            prefix[c + 1] = convolve(prefix[c], weights[c]);
+            suffix[solutions.length - 1 - c] = convolve(weights[solutions.length - 1 - c], suffix[solutions.length - c]);
+        }
+
+        double[] all = prefix[solutions.length];
+        double total = 0;
+        double interiorMines = 0;
+        for (int t = 0; t < all.length; t++) {
+            total += all[t] * interiorWeights[t];
+            interiorMines += all[t] * interiorWeights[t] * (remainingMines - t);
+        }
+        if (total <= 0) {
+            // No consistent layout was found, which only happens when sampling came up empty
+            fillHidden(probabilities, frontier, density);
+            return new MineProbabilities(probabilities, false);
+        }
+
+        fillHidden(probabilities, frontier, interior == 0 ? 0 : interiorMines / total / interior);
+        for (int c = 0; c < solutions.length; c++) {
+            double[] others = convolve(prefix[c], suffix[c + 1]);
+            double[] otherWeights = new double[weights[c].length];
+            for (int m = 0; m < otherWeights.length; m++) {
+                for (int j = 0; j < others.length; j++) {
+                    otherWeights[m] += others[j] * interiorWeights[m + j];
+                }
+            }
+            int[] squares = components.get(c).getSquares();
+            for (int position = 0; position < squares.length; position++) {
+                double[] squareWeights = solutions[c].getSquareWeights(position);
+                double mined = 0;
+                for (int m = 0; m < squareWeights.length; m++) {
+                    mined += squareWeights[m] * otherWeights[m];
+                }
+                probabilities[squares[position]] = mined / total;
+            }
+        }
+        return new MineProbabilities(probabilities, exact);
+    }
+
+    private ComponentSolution[] solveAll(List<FrontierComponent> components, double density) {
+        ComponentSolution[] solutions = new ComponentSolution[components.size()];
+        List<RecursiveTask<ComponentSolution>> tasks = new ArrayList<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int c = 0; c < components.size(); c++) {
+            FrontierComponent component = components.get(c);
+            ComponentKey key = new ComponentKey(component);
+            solutions[c] = solved.get(key);
+            if (solutions[c] == null) {
+                tasks.add(new RecursiveTask<ComponentSolution>() {
+                    @Override
+                    protected ComponentSolution compute() {
+                        return solve(component, key, density);
+                    }
+                });
+                pending.add(c);
+            }
+        }
+        if (tasks.size() == 1) {
+            solutions[pending.get(0)] = tasks.get(0).invoke();
+        } else if (!tasks.isEmpty()) {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+            for (int i = 0; i < tasks.size(); i++) {
+                solutions[pending.get(i)] = tasks.get(i).join();
+            }
+        }
+        return solutions;
+    }
+
+    private ComponentSolution solve(FrontierComponent component, ComponentKey key, double density) {
+        ComponentSolution solution = component.enumerate(System.nanoTime() + timeBudgetNanos);
+        if (solution != null) {
+            solved.put(key, solution);
+            return solution;
+        }
+        return component.sample(new SplittableRandom(key.hashCode()), density, System.nanoTime() + timeBudgetNanos);
+    }
+
+    /**
+     * Weighs each total number of frontier mines by the ways to place the remaining mines off the frontier.
+     *
+     * @return the weights, scaled so the largest is 1, for every total from 0 to maxFrontierMines
+     */
+    private static double[] interiorWeights(int interior, int remainingMines, int maxFrontierMines) {
+        double[] logFactorials = new double[interior + 1];
+        for (int k = 1; k <= interior; k++) {
+            logFactorials[k] = logFactorials[k - 1] + Math.log(k);
+        }
+        double[] logWeights = new double[maxFrontierMines + 1];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int t = 0; t <= maxFrontierMines; t++) {
+            int rest = remainingMines - t;
+            logWeights[t] = rest < 0 || rest > interior
+                    ? Double.NEGATIVE_INFINITY
+                    : logFactorials[interior] - logFactorials[rest] - logFactorials[interior - rest];
+            max = Math.max(max, logWeights[t]);
+        }
+        double[] weights = new double[maxFrontierMines + 1];
+        for (int t = 0; t <= maxFrontierMines; t++) {
+            weights[t] = max == Double.NEGATIVE_INFINITY ? 0 : Math.exp(logWeights[t] - max);
+        }
+        return weights;
+    }
+
+    private static double[] convolve(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        return result;
+    }
+
+    private static void fillHidden(double[] probabilities, Frontier frontier, double probability) {
+        for (int index = 0; index < probabilities.length; index++) {
+            probabilities[index] = frontier.revealed[index] ? Double.NaN : probability;
+        }
+    }
+
+    /**
+     * The revealed numbers next to hidden squares, and the hidden squares they constrain.
+     */
+    private static class Frontier {
+
+        private final int cellCount;
+        private final boolean[] revealed;
+        private final int[] parent;
+        private final List<int[]> constraintSquares = new ArrayList<>();
+        private final List<Integer> constraintCounts = new ArrayList<>();
+        private final List<List<Integer>> constraintsOfSquare;
+        private int hidden;
+        private int frontierSquares;
+
+        Frontier(BoardView board) {
+            int rows = board.getRows();
+            int columns = board.getColumns();
+            this.cellCount = rows * columns;
+            this.revealed = new boolean[cellCount];
+            this.parent = new int[cellCount];
+            Arrays.fill(parent, -1);
+            this.constraintsOfSquare = new ArrayList<>(Collections.nCopies(cellCount, (List<Integer>) null));
+
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < columns; col++) {
+                    revealed[row * columns + col] = board.isRevealed(row, col);
+                    hidden += revealed[row * columns + col] ? 0 : 1;
+                }
+            }
+            int[] neighbours = new int[8];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < columns; col++) {
+                    if (!revealed[row * columns + col] || board.isMineAt(row, col) || board.getAdjacentMinesCount(row, col) == 0) {
+                        continue;
+                    }
+                    int size = 0;
+                    for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+                        for (int j = Math.max(0, col - 1); j <= Math.min(columns - 1, col + 1); j++) {
+                            if (!revealed[i * columns + j]) {
+                                neighbours[size++] = i * columns + j;
+                            }
+                        }
+                    }
+                    if (size > 0) {
+                        addConstraint(Arrays.copyOf(neighbours, size), board.getAdjacentMinesCount(row, col));
+                    }
+                }
+            }
+        }
+
+        private void addConstraint(int[] squares, int count) {
+            int id = constraintSquares.size();
+            constraintSquares.add(squares);
+            constraintCounts.add(count);
+            for (int square : squares) {
+                if (parent[square] < 0) {
+                    parent[square] = square;
+                    constraintsOfSquare.set(square, new ArrayList<>(4));
+                    frontierSquares++;
+                }
+                constraintsOfSquare.get(square).add(id);
+                union(squares[0], square);
+            }
+        }
+
+        private int find(int square) {
+            while (parent[square] != square) {
+                parent[square] = parent[parent[square]];
+                square = parent[square];
+            }
+            return square;
+        }
+
+        private void union(int a, int b) {
+            parent[find(a)] = find(b);
+        }
+
+        /**
+         * Splits the frontier into components. Each one's squares are ordered breadth first from a
+         * square at one end of it, found as the last square of a first breadth-first pass, so that
+         * the order runs along the frontier and few constraints are partly assigned at any point.
+         */
+        List<FrontierComponent> components() {
+            List<FrontierComponent> components = new ArrayList<>();
+            int[] visits = new int[cellCount];
+            int[] constraintVisits = new int[constraintSquares.size()];
+            int pass = 0;
+            for (int start = 0; start < cellCount; start++) {
+                if (parent[start] < 0 || visits[start] != 0) {
+                    continue;
+                }
+                int[] probe = breadthFirst(start, visits, constraintVisits, ++pass);
+                int[] squares = breadthFirst(probe[probe.length - 1], visits, constraintVisits, ++pass);
+                components.add(component(squares));
+            }
+            return components;
+        }
+
+        private int[] breadthFirst(int start, int[] visits, int[] constraintVisits, int pass) {
+            List<Integer> order = new ArrayList<>();
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            visits[start] = pass;
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                int square = queue.poll();
+                order.add(square);
+                for (int k : constraintsOfSquare.get(square)) {
+                    if (constraintVisits[k] == pass) {
+                        continue;
+                    }
+                    constraintVisits[k] = pass;
+                    for (int neighbour : constraintSquares.get(k)) {
+                        if (visits[neighbour] != pass) {
+                            visits[neighbour] = pass;
+                            queue.add(neighbour);
+                        }
+                    }
+                }
+            }
+            return order.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private FrontierComponent component(int[] squares) {
+            Map<Integer, Integer> position = new HashMap<>(squares.length * 2);
+            for (int i = 0; i < squares.length; i++) {
+                position.put(squares[i], i);
+            }
+            Set<Integer> seen = new LinkedHashSet<>();
+            for (int square : squares) {
+                seen.addAll(constraintsOfSquare.get(square));
+            }
+            List<Integer> constraints = new ArrayList<>(seen);
+            int[][] local = new int[constraints.size()][];
+            int[] counts = new int[constraints.size()];
+            for (int c = 0; c < constraints.size(); c++) {
+                int[] global = constraintSquares.get(constraints.get(c));
+                local[c] = new int[global.length];
+                for (int i = 0; i < global.length; i++) {
+                    local[c][i] = position.get(global[i]);
+                }
+                counts[c] = constraintCounts.get(constraints.get(c));
+            }
+            return new FrontierComponent(squares, local, counts);
+        }
+    }
+
+    /**
+     * Identifies a component by its squares and constraints, so an unchanged part of the frontier is not recounted.
+     */
+    private static class ComponentKey {
+
+        private final int[] data;
+        private final int hash;
+
+        ComponentKey(FrontierComponent component) {
+            int[] squares = component.getSquares();
+            int length = squares.length + 1;
+            int[][] constraints = component.getConstraintSquares();
+            for (int[] constraint : constraints) {
+                length += constraint.length + 2;
+            }
+            data = new int[length];
+            int i = 0;
+            data[i++] = squares.length;
+            for (int square : squares) {
+                data[i++] = square;
+            }
+            int[] counts = component.getCounts();
+            for (int c = 0; c < constraints.length; c++) {
+                data[i++] = counts[c];
+                data[i++] = constraints[c].length;
+                for (int position : constraints[c]) {
+                    data[i++] = position;
+                }
+            }
+            hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ComponentKey && Arrays.equals(data, ((ComponentKey) other).data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
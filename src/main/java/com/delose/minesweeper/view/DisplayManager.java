@@ -1,5 +1,7 @@
 package com.delose.minesweeper.view;
 
+import java.nio.ByteBuffer;
+
 public interface DisplayManager {
     /**
     * Renders the current state of the minefield to be displayed to the player.
@@ -8,6 +10,39 @@ public interface DisplayManager {
     */
    String renderMinefield();
 
+   /**
+    * Encodes the same display as {@link #renderMinefield()} as bytes, ready for a {@link FrameOutput}.
+    * The returned buffer is reused and only valid until the next call.
+    *
+    * @return a buffer holding the encoded frame between its position and limit
+    */
+   ByteBuffer encodeMinefield();
+
+   /**
+    * Renders the rows from rowFrom up to, but not including, rowTo and the columns from colFrom
+    * up to, but not including, colTo. Only squares inside the region are read, so the cost
+    * follows the size of the region rather than of the board.
+    *
+    * @param rowFrom the first row to render
+    * @param rowTo the row after the last one to render
+    * @param colFrom the first column to render
+    * @param colTo the column after the last one to render
+    * @return a String representing the region
+    */
+   String renderRegion(int rowFrom, int rowTo, int colFrom, int colTo);
+
+   /**
+    * Encodes the same display as {@link #renderRegion(int, int, int, int)} as bytes.
+    * The returned buffer is reused and only valid until the next call.
+    *
+    * @param rowFrom the first row to encode
+    * @param rowTo the row after the last one to encode
+    * @param colFrom the first column to encode
+    * @param colTo the column after the last one to encode
+    * @return a buffer holding the encoded frame between its position and limit
+    */
+   ByteBuffer encodeRegion(int rowFrom, int rowTo, int colFrom, int colTo);
+
    /**
     * Displays the end game message based on the game status.
     *
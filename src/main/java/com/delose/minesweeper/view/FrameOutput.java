@@ -0,0 +1,16 @@
+package com.delose.minesweeper.view;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The channel board frames are written to, kept apart from the logging used for diagnostics.
+ */
+public interface FrameOutput {
+
+    /**
+     * Writes the remaining bytes of an encoded frame.
+     *
+     * @param frame the frame, positioned at its first byte
+     */
+    void write(ByteBuffer frame);
+}
@@ -0,0 +1,95 @@
+package com.delose.minesweeper.view;
+
+/**
+ * The window of the board shown each turn when the board is larger than the screen.
+ *
+ * Bounds follow {@link DisplayManager#renderRegion(int, int, int, int)}: the start is
+ * inclusive and the end exclusive. The window always lies fully within the board.
+ */
+public class Viewport {
+
+    private final int boardRows;
+    private final int boardColumns;
+    private final int height;
+    private final int width;
+    private int rowFrom;
+    private int colFrom;
+
+    /**
+     * Constructs a viewport in the top-left corner of the board.
+     *
+     * @param boardRows the number of rows on the board
+     * @param boardColumns the number of columns on the board
+     * @param height the maximum number of rows shown at once
+     * @param width the maximum number of columns shown at once
+     */
+    public Viewport(int boardRows, int boardColumns, int height, int width) {
+        this.boardRows = boardRows;
+        this.boardColumns = boardColumns;
+        this.height = Math.max(0, Math.min(height, boardRows));
+        this.width = Math.max(0, Math.min(width, boardColumns));
+    }
+
+    /**
+     * Checks whether the board is too large to be shown whole.
+     *
+     * @return true if part of the board lies outside the viewport
+     */
+    public boolean isPartial() {
+        return height < boardRows || width < boardColumns;
+    }
+
+    /**
+     * Moves the viewport by the given number of rows and columns, stopping at the edges of the board.
+     *
+     * @param rows the number of rows to move down, or up if negative
+     * @param columns the number of columns to move right, or left if negative
+     */
+    public void scroll(int rows, int columns) {
+        rowFrom = clamp((long) rowFrom + rows, boardRows - height);
+        colFrom = clamp((long) colFrom + columns, boardColumns - width);
+    }
+
+    /**
+     * Centres the viewport on a square, unless the square is already visible.
+     *
+     * @param row the zero-based row index
+     * @param col the zero-based column index
+     */
+    public void show(int row, int col) {
+        if (row < rowFrom || row >= getRowTo()) {
+            rowFrom = clamp((long) row - height / 2, boardRows - height);
+        }
+        if (col < colFrom || col >= getColTo()) {
+            colFrom = clamp((long) col - width / 2, boardColumns - width);
+        }
+    }
+
+    private static int clamp(long value, int max) {
+        return (int) Math.max(0, Math.min(value, max));
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getRowFrom() {
+        return rowFrom;
+    }
+
+    public int getRowTo() {
+        return rowFrom + height;
+    }
+
+    public int getColFrom() {
+        return colFrom;
+    }
+
+    public int getColTo() {
+        return colFrom + width;
+    }
+}
@@ -0,0 +1,245 @@
+package com.delose.minesweeper.view.impl;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.RevealListener;
+import com.delose.minesweeper.core.util.PositionUtil;
+import com.delose.minesweeper.core.util.collection.IntQueue;
+import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.view.DisplayManager;
+
+/**
+ * Renders the minefield incrementally for ANSI terminals.
+ *
+ * The first frame clears the screen and draws the whole board. After that the renderer
+ * listens to the controller's reveals and each frame only moves the cursor to the squares
+ * revealed since the previous one and redraws them, so the cost of a frame follows the
+ * number of squares a move changed rather than the size of the board. The text of every
+ * row is cached and only rebuilt for rows touched by a reveal, for the next full redraw.
+ *
+ * Every square is padded to the width of the widest glyph, so a square's column on screen
+ * follows from its index whatever glyphs are configured.
+ */
+public class AnsiDisplayManagerImpl implements DisplayManager, RevealListener {
+
+    private static final String CSI = "\u001B[";
+
+    private final GameController gameController;
+    private final String separator;
+    private final String newline;
+    private final String mine;
+    private final String unrevealed;
+    private final int squareWidth;
+    private final IntQueue dirtySquares = new IntQueue();
+    private String[] rowCache;
+    private int labelWidth;
+    private boolean fullRedraw = true;
+    private ByteBuffer frame = ByteBuffer.allocateDirect(0);
+
+    /**
+     * Constructs the renderer and registers it as the controller's reveal listener.
+     *
+     * @param gameController the controller managing the game's state
+     */
+    public AnsiDisplayManagerImpl(GameController gameController) {
+        this(gameController, MessageProvider.getMessage("display.col"), MessageProvider.getMessage("display.newline"),
+                MessageProvider.getMessage("display.mineSpace"), MessageProvider.getMessage("display.unrevealed"));
+    }
+
+    /**
+     * Constructs the renderer with the given glyphs and registers it as the controller's reveal listener.
+     *
+     * @param gameController the controller managing the game's state
+     * @param separator the text after the row labels, each column number and each mine count
+     * @param newline the text ending each line
+     * @param mine the glyph of a revealed mine
+     * @param unrevealed the glyph of a hidden square
+     */
+    public AnsiDisplayManagerImpl(GameController gameController, String separator, String newline, String mine, String unrevealed) {
+        this.gameController = gameController;
+        this.separator = separator;
+        this.newline = newline;
+        this.mine = mine;
+        this.unrevealed = unrevealed;
+        // A mine count is a single digit followed by the separator
+        this.squareWidth = Math.max(1 + separator.length(), Math.max(mine.length(), unrevealed.length()));
+        gameController.setRevealListener(this);
+    }
+
+    /**
+     * Renders the squares changed since the last frame, or the whole board if it has to be redrawn.
+     *
+     * @return the ANSI escape sequences and text that bring the terminal up to date
+     */
+    public String renderMinefield() {
+        BoardView board = gameController.getBoardView();
+        if (fullRedraw || rowCache == null) {
+            return renderFullFrame(board);
+        }
+
+        int columns = board.getColumns();
+        StringBuilder frame = new StringBuilder(dirtySquares.size() * 12 + 16);
+        while (!dirtySquares.isEmpty()) {
+            int index = dirtySquares.poll();
+            int row = index / columns;
+            int col = index % columns;
+            moveCursor(frame, row + 2, labelWidth + separator.length() + col * squareWidth + 1);
+            appendSquare(frame, board, row, col);
+        }
+        // Leave the cursor below the board and clear the previous prompt and input
+        moveCursor(frame, board.getRows() + 2, 1);
+        frame.append(CSI).append('J');
+        return frame.toString();
+    }
+
+    /**
+     * Encodes the frame from {@link #renderMinefield()}. Frames after the first are only a few
+     * bytes per changed square, so they are encoded from the String into a reused buffer.
+     *
+     * @return a buffer holding the encoded frame between its position and limit
+     */
+    public ByteBuffer encodeMinefield() {
+        return encode(renderMinefield());
+    }
+
+    /**
+     * Renders a region of the board on a cleared screen. Regions are drawn whole, and the next
+     * call to {@link #renderMinefield()} redraws the whole board.
+     *
+     * @param rowFrom the first row to render
+     * @param rowTo the row after the last one to render
+     * @param colFrom the first column to render
+     * @param colTo the column after the last one to render
+     * @return the ANSI escape sequences and text that draw the region
+     */
+    public String renderRegion(int rowFrom, int rowTo, int colFrom, int colTo) {
+        BoardView board = gameController.getBoardView();
+        DisplayManagerImpl.validateRegion(board, rowFrom, rowTo, colFrom, colTo);
+        fullRedraw = true;  // The screen no longer shows the board
+        dirtySquares.clear();
+
+        int width = PositionUtil.toRowLabel(Math.max(0, rowTo - 1)).length();
+        StringBuilder frame = new StringBuilder((rowTo - rowFrom + 1) * (width + 1 + (colTo - colFrom) * squareWidth + 1) + 16);
+        frame.append(CSI).append('H').append(CSI).append("2J");
+        appendHeader(frame, width, colFrom, colTo);
+        for (int row = rowFrom; row < rowTo; row++) {
+            appendRow(frame, board, row, width, colFrom, colTo).append(newline);
+        }
+        return frame.toString();
+    }
+
+    public ByteBuffer encodeRegion(int rowFrom, int rowTo, int colFrom, int colTo) {
+        return encode(renderRegion(rowFrom, rowTo, colFrom, colTo));
+    }
+
+    private ByteBuffer encode(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (frame.capacity() < bytes.length) {
+            frame = ByteBuffer.allocateDirect(bytes.length);
+        }
+        // Called through Buffer so the bytecode links on Java 8, where ByteBuffer does not override these
+        ((Buffer) frame).clear();
+        ((Buffer) frame.put(bytes)).flip();
+        return frame;
+    }
+
+    private String renderFullFrame(BoardView board) {
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        if (rowCache == null || rowCache.length != rows) {
+            rowCache = new String[rows];
+            labelWidth = PositionUtil.toRowLabel(rows - 1).length();
+        }
+        dirtySquares.clear();
+        fullRedraw = false;
+
+        StringBuilder frame = new StringBuilder((rows + 1) * (labelWidth + 1 + columns * squareWidth + 1) + 16);
+        frame.append(CSI).append('H').append(CSI).append("2J");
+        appendHeader(frame, labelWidth, 0, columns);
+        for (int row = 0; row < rows; row++) {
+            if (rowCache[row] == null) {
+                int length = labelWidth + separator.length() + columns * squareWidth;
+                rowCache[row] = appendRow(new StringBuilder(length), board, row, labelWidth, 0, columns).toString();
+            }
+            frame.append(rowCache[row]).append(newline);
+        }
+        return frame.toString();
+    }
+
+    private void appendHeader(StringBuilder target, int width, int colFrom, int colTo) {
+        for (int i = 0; i <= width; i++) {
+            target.append(separator);
+        }
+        for (int col = colFrom + 1; col <= colTo; col++) {
+            target.append(col).append(separator);
+        }
+        target.append(newline);
+    }
+
+    private StringBuilder appendRow(StringBuilder target, BoardView board, int row, int width, int colFrom, int colTo) {
+        int start = target.length();
+        PositionUtil.appendRowLabel(target, row);
+        while (target.length() - start < width) {
+            target.append(' ');
+        }
+        target.append(separator);
+        for (int col = colFrom; col < colTo; col++) {
+            appendSquare(target, board, row, col);
+        }
+        return target;
+    }
+
+    private void appendSquare(StringBuilder target, BoardView board, int row, int col) {
+        int start = target.length();
+        if (!board.isRevealed(row, col)) {
+            target.append(unrevealed);
+        } else if (board.isMineAt(row, col)) {
+            target.append(mine);
+        } else {
+            target.append(board.getAdjacentMinesCount(row, col)).append(separator);
+        }
+        while (target.length() - start < squareWidth) {
+            target.append(' ');
+        }
+    }
+
+    private static void moveCursor(StringBuilder target, int line, int column) {
+        target.append(CSI).append(line).append(';').append(column).append('H');
+    }
+
+    public void squareRevealed(int row, int col) {
+        if (rowCache == null) {
+            return;  // Nothing drawn yet, the first frame draws everything
+        }
+        rowCache[row] = null;
+        dirtySquares.add(row * gameController.getColumnCount() + col);
+    }
+
+    public void boardChanged() {
+        fullRedraw = true;
+        dirtySquares.clear();
+        if (rowCache != null) {
+            Arrays.fill(rowCache, null);
+        }
+    }
+
+    /**
+     * Displays the end game message based on the game status.
+     *
+     * @return a String containing the appropriate end game message
+     */
+    public String displayEndGameMessage() {
+        if (gameController.getGameStatus() == GameStatus.WON) {
+            return MessageProvider.getMessage("game.congratulations");
+        } else if (gameController.getGameStatus() == GameStatus.LOST) {
+            return MessageProvider.getMessage("game.gameOver");
+        }
+        return "";
+    }
+}
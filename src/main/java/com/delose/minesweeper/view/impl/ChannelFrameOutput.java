@@ -0,0 +1,40 @@
+package com.delose.minesweeper.view.impl;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import com.delose.minesweeper.view.FrameOutput;
+
+/**
+ * Writes frames straight to a byte channel, by default the process's standard output.
+ */
+public class ChannelFrameOutput implements FrameOutput {
+
+    private final WritableByteChannel channel;
+
+    /**
+     * Constructs an output writing to standard output through a {@link java.nio.channels.FileChannel}.
+     */
+    public ChannelFrameOutput() {
+        this(new FileOutputStream(FileDescriptor.out).getChannel());
+    }
+
+    public ChannelFrameOutput(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public void write(ByteBuffer frame) {
+        System.out.flush();  // Keep frames in order with prompts printed through System.out
+        try {
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write frame", e);
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package com.delose.minesweeper.view.impl;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.core.util.PositionUtil;
 import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
 import com.delose.minesweeper.model.GameStatus;
 import com.delose.minesweeper.view.DisplayManager;
 
@@ -11,7 +19,20 @@ import com.delose.minesweeper.view.DisplayManager;
  */
 public class DisplayManagerImpl implements DisplayManager {
 
+    // The state bits that decide how a square is drawn: revealed, mine and adjacent count
+    private static final int GLYPH_MASK = CellState.REVEALED | CellState.MINE | CellState.ADJACENT_MASK;
+
     private final GameController gameController;
+    private final StringBuilder rowLabel = new StringBuilder(8);
+    private byte[][] glyphs;
+    private byte[] separatorBytes;
+    private byte[] newlineBytes;
+    private byte[] header;
+    private int headerColFrom;
+    private int headerColTo;
+    private byte[] rowStates;
+    private byte[] line;
+    private ByteBuffer frame = ByteBuffer.allocateDirect(0);
 
     /**
      * Constructs a DisplayManager with a reference to the GameController.
@@ -28,39 +49,179 @@ public class DisplayManagerImpl implements DisplayManager {
      * @return a String representing the current minefield display
      */
     public String renderMinefield() {
+        BoardView board = gameController.getBoardView();
+        return renderRegion(0, board.getRows(), 0, board.getColumns());
+    }
+
+    /**
+     * Renders part of the minefield, with the headers and labels of the rows and columns shown.
+     * Squares outside the region are never read.
+     *
+     * @param rowFrom the first row to render
+     * @param rowTo the row after the last one to render
+     * @param colFrom the first column to render
+     * @param colTo the column after the last one to render
+     * @return a String representing the region
+     */
+    public String renderRegion(int rowFrom, int rowTo, int colFrom, int colTo) {
+        BoardView board = gameController.getBoardView();
+        validateRegion(board, rowFrom, rowTo, colFrom, colTo);
         StringBuilder display = new StringBuilder();
-        int gridSize = gameController.getMinefieldSize();
-    
+        String separator = MessageProvider.getMessage("display.col");
+        String newline = MessageProvider.getMessage("display.newline");
+        String mine = MessageProvider.getMessage("display.mineSpace");
+        String unrevealed = MessageProvider.getMessage("display.unrevealed");
+
         // Build the column headers
         display.append(MessageProvider.getMessage("display.header"));
-        for (int col = 1; col <= gridSize; col++) {
-            display.append(col).append(MessageProvider.getMessage("display.col"));
+        for (int col = colFrom + 1; col <= colTo; col++) {
+            display.append(col).append(separator);
         }
-        display.append(MessageProvider.getMessage("display.newline"));
-    
+        display.append(newline);
+
         // Build each row of the minefield
-        for (char row = 'A'; row < 'A' + gridSize; row++) {
-            display.append(row).append(MessageProvider.getMessage("display.col"));
-            for (int col = 1; col <= gridSize; col++) {
-                String position = "" + row + col;
-                if (gameController.isSquareRevealed(position)) {
+        for (int row = rowFrom; row < rowTo; row++) {
+            PositionUtil.appendRowLabel(display, row).append(separator);
+            for (int col = colFrom; col < colTo; col++) {
+                if (board.isRevealed(row, col)) {
                     // Check if the revealed square contains a mine
-                    if (gameController.isMineAt(position)) {
-                        display.append(MessageProvider.getMessage("display.mineSpace"));  // Display * for mines
+                    if (board.isMineAt(row, col)) {
+                        display.append(mine);  // Display * for mines
                     } else {
-                        int adjacentMines = gameController.getAdjacentMinesCount(position);
-                        display.append(adjacentMines).append(MessageProvider.getMessage("display.col"));
+                        display.append(board.getAdjacentMinesCount(row, col)).append(separator);
                     }
                 } else {
-                    display.append(MessageProvider.getMessage("display.unrevealed"));
+                    display.append(unrevealed);
                 }
             }
-            display.append(MessageProvider.getMessage("display.newline"));
+            display.append(newline);
         }
-    
+
         return display.toString();
     }
 
+    /**
+     * Encodes the whole minefield, as {@link #encodeRegion(int, int, int, int)} does for a region.
+     *
+     * @return a buffer holding the encoded frame between its position and limit
+     */
+    public ByteBuffer encodeMinefield() {
+        BoardView board = gameController.getBoardView();
+        return encodeRegion(0, board.getRows(), 0, board.getColumns());
+    }
+
+    /**
+     * Encodes part of the minefield straight into a reused direct buffer. Each square's glyph comes
+     * from a table indexed by its packed state, built once from the display messages, so a frame
+     * costs one table lookup per visible square and allocates nothing once the buffers have grown.
+     *
+     * @param rowFrom the first row to encode
+     * @param rowTo the row after the last one to encode
+     * @param colFrom the first column to encode
+     * @param colTo the column after the last one to encode
+     * @return a buffer holding the encoded frame between its position and limit
+     */
+    public ByteBuffer encodeRegion(int rowFrom, int rowTo, int colFrom, int colTo) {
+        BoardView board = gameController.getBoardView();
+        validateRegion(board, rowFrom, rowTo, colFrom, colTo);
+        int columns = colTo - colFrom;
+        if (glyphs == null) {
+            loadGlyphs();
+        }
+        if (rowStates == null || rowStates.length < columns) {
+            rowStates = new byte[columns];
+        }
+        if (header == null || headerColFrom != colFrom || headerColTo != colTo) {
+            header = encodeHeader(colFrom, colTo);
+            headerColFrom = colFrom;
+            headerColTo = colTo;
+        }
+
+        int maxGlyphLength = 0;
+        for (byte[] glyph : glyphs) {
+            maxGlyphLength = Math.max(maxGlyphLength, glyph.length);
+        }
+        int lineLength = PositionUtil.toRowLabel(Math.max(0, rowTo - 1)).length() + separatorBytes.length
+                + columns * maxGlyphLength + newlineBytes.length;
+        if (line == null || line.length < lineLength) {
+            line = new byte[lineLength];
+        }
+        long capacity = header.length + (long) (rowTo - rowFrom) * lineLength;
+        if (frame.capacity() < capacity) {
+            frame = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE));
+        }
+        // Called through Buffer so the bytecode links on Java 8, where ByteBuffer does not override these
+        ((Buffer) frame).clear();
+
+        // Each row is assembled in a heap array and copied to the direct buffer in one go
+        frame.put(header);
+        for (int row = rowFrom; row < rowTo; row++) {
+            rowLabel.setLength(0);
+            PositionUtil.appendRowLabel(rowLabel, row);
+            int length = 0;
+            for (int i = 0; i < rowLabel.length(); i++) {
+                line[length++] = (byte) rowLabel.charAt(i);
+            }
+            length = append(line, length, separatorBytes);
+            board.copyRow(row, colFrom, colTo, rowStates);
+            for (int col = 0; col < columns; col++) {
+                length = append(line, length, glyphs[rowStates[col] & GLYPH_MASK]);
+            }
+            length = append(line, length, newlineBytes);
+            frame.put(line, 0, length);
+        }
+        ((Buffer) frame).flip();
+        return frame;
+    }
+
+    /**
+     * Checks that a region lies within the board.
+     *
+     * @throws GameInputException if a bound is reversed or lies outside the board
+     */
+    static void validateRegion(BoardView board, int rowFrom, int rowTo, int colFrom, int colTo) {
+        if (rowFrom < 0 || rowFrom > rowTo || rowTo > board.getRows()
+                || colFrom < 0 || colFrom > colTo || colTo > board.getColumns()) {
+            throw new GameInputException(MessageProvider.getMessage("display.invalidRegion"));
+        }
+    }
+
+    private static int append(byte[] target, int offset, byte[] bytes) {
+        for (byte b : bytes) {
+            target[offset++] = b;
+        }
+        return offset;
+    }
+
+    private void loadGlyphs() {
+        String separator = MessageProvider.getMessage("display.col");
+        byte[] mine = MessageProvider.getMessage("display.mineSpace").getBytes(StandardCharsets.UTF_8);
+        byte[] unrevealed = MessageProvider.getMessage("display.unrevealed").getBytes(StandardCharsets.UTF_8);
+        separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        newlineBytes = MessageProvider.getMessage("display.newline").getBytes(StandardCharsets.UTF_8);
+
+        glyphs = new byte[GLYPH_MASK + 1][];
+        for (int state = 0; state <= GLYPH_MASK; state++) {
+            if (!CellState.isRevealed((byte) state)) {
+                glyphs[state] = unrevealed;
+            } else if (CellState.isMine((byte) state)) {
+                glyphs[state] = mine;
+            } else {
+                glyphs[state] = (CellState.adjacentMines((byte) state) + separator).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private byte[] encodeHeader(int colFrom, int colTo) {
+        StringBuilder line = new StringBuilder(MessageProvider.getMessage("display.header"));
+        String separator = MessageProvider.getMessage("display.col");
+        for (int col = colFrom + 1; col <= colTo; col++) {
+            line.append(col).append(separator);
+        }
+        line.append(MessageProvider.getMessage("display.newline"));
+        return line.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Displays the end game message based on the game status.
      * 
@@ -0,0 +1,174 @@
+package com.delose.minesweeper.controller;
+
+import com.delose.minesweeper.controller.impl.ConcurrentGameControllerImpl;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.model.GameStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGameControllerTest {
+
+    private static final int THREADS = 4;
+
+    @Nested
+    @DisplayName("Single-Threaded Tests")
+    class SingleThreadedTests {
+
+        @Test
+        @DisplayName("should play exactly like the sequential controller")
+        void testMatchesSequentialController() {
+            SplittableRandom random = new SplittableRandom(3L);
+            for (int game = 0; game < 50; game++) {
+                long seed = random.nextLong();
+                GameController sequential = new GameControllerImpl(12, 15, 30);
+                GameController concurrent = new ConcurrentGameControllerImpl(12, 15, 30);
+                sequential.placeMinesRandmly(seed);
+                concurrent.placeMinesRandmly(seed);
+
+                while (sequential.getGameStatus() == GameStatus.IN_PROGRESS) {
+                    int row = random.nextInt(12);
+                    int col = random.nextInt(15);
+                    sequential.revealSquare(row, col);
+                    concurrent.revealSquare(row, col);
+                    assertEquals(sequential.getGameStatus(), concurrent.getGameStatus());
+                }
+                assertArrayEquals(sequential.getBoardView().snapshot(), concurrent.getBoardView().snapshot());
+            }
+        }
+
+        @Test
+        @DisplayName("should ignore moves once the game is over")
+        void testMovesAfterGameOver() {
+            GameController game = new ConcurrentGameControllerImpl(3, 3, 1);
+            game.placeMineAt(0, 0);
+
+            game.revealSquare(0, 0);
+            game.revealSquare(2, 2);
+
+            assertEquals(GameStatus.LOST, game.getGameStatus());
+            assertFalse(game.isSquareRevealed(2, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Reveal Tests")
+    class ConcurrentRevealTests {
+
+        @Test
+        @DisplayName("should reveal and report every square exactly once when many threads' cascades overlap")
+        void testOverlappingCascades() throws Exception {
+            int rows = 600;
+            int columns = 600;
+            GameController game = new ConcurrentGameControllerImpl(rows, columns, 36000);
+            game.placeMinesRandmly(11L);
+            AtomicIntegerArray reports = new AtomicIntegerArray(rows * columns);
+            game.setRevealListener(new RevealListener() {
+                public void squareRevealed(int row, int col) {
+                    reports.incrementAndGet(row * columns + col);
+                }
+
+                public void boardChanged() {
+                    fail("The board should not change during play");
+                }
+            });
+
+            // Every thread reveals every safe square, each in its own order
+            runConcurrently(thread -> {
+                SplittableRandom random = new SplittableRandom(thread);
+                int[] order = shuffledSquares(rows * columns, random);
+                for (int index : order) {
+                    if (!game.isMineAt(index / columns, index % columns)) {
+                        game.revealSquare(index / columns, index % columns);
+                    }
+                }
+            });
+
+            assertEquals(GameStatus.WON, game.getGameStatus());
+            for (int index = 0; index < rows * columns; index++) {
+                boolean mine = game.isMineAt(index / columns, index % columns);
+                assertEquals(mine ? 0 : 1, reports.get(index), "Square " + index);
+                assertEquals(!mine, game.isSquareRevealed(index / columns, index % columns));
+            }
+        }
+
+        @Test
+        @DisplayName("should publish a single final status when a mine is hit while others are still revealing")
+        void testLossDuringConcurrentPlay() throws Exception {
+            int size = 300;
+            GameController game = new ConcurrentGameControllerImpl(size, size, 9000);
+            game.placeMinesRandmly(5L);
+            List<GameStatus> seen = new ArrayList<>();
+
+            runConcurrently(thread -> {
+                SplittableRandom random = new SplittableRandom(thread);
+                for (int index : shuffledSquares(size * size, random)) {
+                    // Thread 0 plays blind and soon hits a mine, the others only reveal safe squares
+                    if (thread == 0 || !game.isMineAt(index / size, index % size)) {
+                        game.revealSquare(index / size, index % size);
+                    }
+                    GameStatus status = game.getGameStatus();
+                    if (status != GameStatus.IN_PROGRESS) {
+                        synchronized (seen) {
+                            seen.add(status);
+                        }
+                        return;
+                    }
+                }
+            });
+
+            assertEquals(GameStatus.LOST, game.getGameStatus());
+            assertTrue(seen.stream().allMatch(status -> status == GameStatus.LOST));
+        }
+    }
+
+    private interface Player {
+        void play(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(Player player) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    player.play(thread);
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static int[] shuffledSquares(int count, SplittableRandom random) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+}
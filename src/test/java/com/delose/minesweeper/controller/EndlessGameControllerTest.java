@@ -0,0 +1,89 @@
+package com.delose.minesweeper.controller;
+
+import com.delose.minesweeper.controller.impl.EndlessGameControllerImpl;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.chunk.ChunkedMinefield;
+import com.delose.minesweeper.model.chunk.InMemoryChunkStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndlessGameControllerTest {
+
+    private EndlessGameController gameController;
+
+    @BeforeEach
+    void setUp() {
+        gameController = new EndlessGameControllerImpl(new ChunkedMinefield(42L, 0.1, 64, new InMemoryChunkStore()), 50_000);
+    }
+
+    @Test
+    @DisplayName("should lose the game when a mine is revealed")
+    void testRevealMine() {
+        int col = 0;
+        while (!gameController.isMineAt(0, col)) {
+            col++;
+        }
+        gameController.revealSquare(0, col);
+        assertEquals(GameStatus.LOST, gameController.getGameStatus());
+    }
+
+    @Test
+    @DisplayName("should cascade across chunk borders up to the cascade limit")
+    void testCascadeAcrossChunks() {
+        int col = 0;
+        while (gameController.isMineAt(0, col) || gameController.getAdjacentMinesCount(0, col) != 0) {
+            col++;
+        }
+        gameController.revealSquare(0, col);
+
+        assertEquals(GameStatus.IN_PROGRESS, gameController.getGameStatus());
+        assertTrue(gameController.getRevealedSquareCount() > 1);
+        assertTrue(gameController.getRevealedSquareCount() <= 50_000);
+    }
+
+    @Test
+    @DisplayName("should finish an opening cut short by the cascade limit on later moves")
+    void testOpeningFinishesLater() {
+        // A denser board than the default, so openings are small and finite
+        int col = 0;
+        long openingSize = 0;
+        while (openingSize <= 20) {
+            col++;
+            EndlessGameController unlimited = new EndlessGameControllerImpl(new ChunkedMinefield(7L, 0.2, 64, new InMemoryChunkStore()), 1_000_000);
+            if (!unlimited.isMineAt(0, col)) {
+                unlimited.revealSquare(0, col);
+                openingSize = unlimited.getRevealedSquareCount();
+            }
+        }
+        EndlessGameController limited = new EndlessGameControllerImpl(new ChunkedMinefield(7L, 0.2, 64, new InMemoryChunkStore()), 5);
+
+        limited.revealSquare(0, col);
+        assertEquals(5, limited.getRevealedSquareCount());
+        for (int move = 0; move < openingSize && limited.getRevealedSquareCount() < openingSize; move++) {
+            long before = limited.getRevealedSquareCount();
+            limited.revealSquare(0, col);  // Already revealed, so the move only carries the opening on
+            assertTrue(limited.getRevealedSquareCount() - before <= 5);
+        }
+
+        assertEquals(openingSize, limited.getRevealedSquareCount());
+        limited.revealSquare(0, col);
+        assertEquals(openingSize, limited.getRevealedSquareCount());
+    }
+
+    @Test
+    @DisplayName("should create a configured endless game from a seed")
+    void testConfiguredGame(@TempDir Path chunkDirectory) {
+        EndlessGameController configured = new EndlessGameControllerImpl(42L, chunkDirectory.resolve("a"));
+        EndlessGameController sameSeed = new EndlessGameControllerImpl(42L, chunkDirectory.resolve("b"));
+        assertEquals(GameStatus.IN_PROGRESS, configured.getGameStatus());
+        for (int col = -100; col < 100; col++) {
+            assertEquals(configured.isMineAt(-5, col), sameSeed.isMineAt(-5, col));
+        }
+    }
+}
@@ -3,12 +3,18 @@ package com.delose.minesweeper.controller;
 import com.delose.minesweeper.controller.impl.GameControllerImpl;
 import com.delose.minesweeper.core.exception.GameInputException;
 import com.delose.minesweeper.core.util.config.MessageProvider;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.CellState;
 import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameControllerTest {
@@ -99,6 +105,29 @@ class GameControllerTest {
             assertEquals(GameStatus.WON, gameController.getGameStatus());
         }
 
+        @Test
+        @DisplayName("should win only once every safe square of a new layout is revealed (4x4 grid)")
+        void testWinAfterReseeding_4x4() {
+            gameController.placeMinesRandmly(1L);
+            for (int index = 0; index < 16; index++) {
+                if (!gameController.isMineAt(index / 4, index % 4)) {
+                    gameController.revealSquare(index / 4, index % 4);
+                    break;
+                }
+            }
+            gameController.placeMinesRandmly(2L);
+
+            for (int index = 0; index < 16; index++) {
+                int row = index / 4;
+                int col = index % 4;
+                if (!gameController.isMineAt(row, col) && !gameController.isSquareRevealed(row, col)) {
+                    assertEquals(GameStatus.IN_PROGRESS, gameController.getGameStatus());
+                    gameController.revealSquare(row, col);
+                }
+            }
+            assertEquals(GameStatus.WON, gameController.getGameStatus());
+        }
+
         @Test
         @DisplayName("should lose the game if a mine is revealed (3x3 grid)")
         void testRevealSquareWithMine_3x3() {
@@ -123,6 +152,68 @@ class GameControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Cascade Tests")
+    class CascadeTests {
+
+        @Test
+        @DisplayName("should open every safe square of a large board from a single reveal (500x500 grid)")
+        void testCascadeOpensWholeBoard_500x500() {
+            gameController = new GameControllerImpl(500, 1);
+            gameController.placeMineAt(0, 0);
+            gameController.revealSquare(499, 499);
+            assertEquals(GameStatus.WON, gameController.getGameStatus());
+            assertFalse(gameController.isSquareRevealed(0, 0));
+            assertTrue(gameController.isSquareRevealed(0, 1));
+            assertTrue(gameController.isSquareRevealed(1, 1));
+        }
+
+        @Test
+        @DisplayName("should reveal the same squares with the parallel cascade as with the sequential one (1200x1200 grid)")
+        void testParallelCascadeMatchesSequential_1200x1200() {
+            int size = 1200;
+            int mines = size * size / 12;
+            GameController sequential = new GameControllerImpl(size, size, mines, Integer.MAX_VALUE);
+            GameController parallel = new GameControllerImpl(size, size, mines, 0);
+            Random random = new Random(42);
+            for (int placed = 0; placed < mines; placed++) {
+                int row = random.nextInt(size);
+                int col = random.nextInt(size);
+                sequential.placeMineAt(row, col);
+                parallel.placeMineAt(row, col);
+            }
+
+            int moves = 0;
+            while (moves < 20) {
+                int row = random.nextInt(size);
+                int col = random.nextInt(size);
+                if (!sequential.isMineAt(row, col) && sequential.getAdjacentMinesCount(row, col) == 0) {
+                    sequential.revealSquare(row, col);
+                    parallel.revealSquare(row, col);
+                    moves++;
+                }
+            }
+
+            assertArrayEquals(sequential.getBoardView().snapshot(), parallel.getBoardView().snapshot());
+            assertEquals(sequential.getGameStatus(), parallel.getGameStatus());
+        }
+
+        @Test
+        @DisplayName("should stop the cascade at numbered squares (5x5 grid)")
+        void testCascadeStopsAtNumbers_5x5() {
+            gameController = new GameControllerImpl(5, 5);
+            for (int row = 0; row < 5; row++) {
+                gameController.placeMineAt(row, 2);  // A wall of mines down the middle column
+            }
+            gameController.revealSquare("A5");
+            assertTrue(gameController.isSquareRevealed("E5"));
+            assertTrue(gameController.isSquareRevealed("C4"));
+            assertFalse(gameController.isSquareRevealed("C2"));
+            assertFalse(gameController.isSquareRevealed("A1"));
+            assertEquals(GameStatus.IN_PROGRESS, gameController.getGameStatus());
+        }
+    }
+
     @Nested
     @DisplayName("isMineAt method Tests")
     class IsMineAtTests {
@@ -319,4 +410,251 @@ class GameControllerTest {
             assertEquals(MessageProvider.getMessage("game.invalidInputSquare"), exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Integer Coordinate and Board View Tests")
+    class IntegerCoordinateTests {
+
+        @BeforeEach
+        void setUp() {
+            gameController = new GameControllerImpl(4, 2); // A 4x4 grid with 2 mines
+        }
+
+        @Test
+        @DisplayName("should address the same squares as the String overloads (4x4 grid)")
+        void testIntegerOverloads_4x4() {
+            gameController.placeMineAt(0, 1);
+            assertTrue(gameController.isMineAt("A2"));
+            assertTrue(gameController.isMineAt(0, 1));
+            assertEquals(gameController.getAdjacentMinesCount("B1"), gameController.getAdjacentMinesCount(1, 0));
+
+            gameController.revealSquare(3, 3);
+            assertTrue(gameController.isSquareRevealed("D4"));
+            assertTrue(gameController.isSquareRevealed(3, 3));
+        }
+
+        @Test
+        @DisplayName("should expose the whole board through the board view (4x4 grid)")
+        void testBoardView_4x4() {
+            gameController.placeMineAt("A1");
+            gameController.revealSquare("D4");
+            BoardView board = gameController.getBoardView();
+
+            assertEquals(4, board.getRows());
+            assertEquals(4, board.getColumns());
+            assertTrue(board.isMineAt(0, 0));
+            assertTrue(board.isRevealed(3, 3));
+            assertFalse(board.isRevealed(0, 0));
+            assertEquals(1, board.getAdjacentMinesCount(1, 1));
+
+            byte[] snapshot = board.snapshot();
+            assertEquals(16, snapshot.length);
+            assertTrue(CellState.isMine(snapshot[0]));
+            assertTrue(CellState.isRevealed(snapshot[15]));
+        }
+
+        @Test
+        @DisplayName("should play on a rectangular board with multi-letter rows (30x3 grid)")
+        void testRectangularBoard_30x3() {
+            gameController = new GameControllerImpl(30, 3, 1);
+            gameController.placeMineAt("AD3");
+            assertEquals(30, gameController.getRowCount());
+            assertEquals(3, gameController.getColumnCount());
+            assertTrue(gameController.isMineAt(29, 2));
+
+            gameController.revealSquare("A1");
+            assertTrue(gameController.isSquareRevealed("AC1"));
+            assertFalse(gameController.isSquareRevealed("AD3"));
+            assertEquals(GameStatus.WON, gameController.getGameStatus());
+        }
+
+        @Test
+        @DisplayName("should throw an exception for out of bounds indices (4x4 grid)")
+        void testIntegerOverloads_OutOfBounds_4x4() {
+            assertThrows(GameInputException.class, () -> gameController.revealSquare(4, 0));
+            assertThrows(GameInputException.class, () -> gameController.isSquareRevealed(0, -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Win Detection Tests")
+    class WinDetectionTests {
+
+        @Test
+        @DisplayName("should win the game when a cascade reveals every safe square (3x3 grid)")
+        void testWinByCascade_3x3() {
+            gameController = new GameControllerImpl(3, 1);
+            gameController.placeMineAt("A1");
+            gameController.revealSquare("C3");
+            assertEquals(GameStatus.WON, gameController.getGameStatus());
+        }
+
+        @Test
+        @DisplayName("should not win while fewer mines are placed than configured (3x3 grid)")
+        void testNoWinWithMissingMines_3x3() {
+            gameController = new GameControllerImpl(3, 2);
+            gameController.placeMineAt("A1");
+            gameController.revealSquare("C3");
+            assertEquals(GameStatus.IN_PROGRESS, gameController.getGameStatus());
+        }
+
+        @Test
+        @DisplayName("should do the same work per move whatever the board size")
+        void testMoveWorkIndependentOfBoardSize() {
+            long smallBoardReads = countSingleSquareRevealReads(100);
+            long largeBoardReads = countSingleSquareRevealReads(2000);
+
+            // A full-board scan per move would read every square, 4 million of them on the large board
+            assertTrue(smallBoardReads <= 100 * 10, "100 moves read " + smallBoardReads + " squares on 100x100");
+            assertTrue(largeBoardReads <= 100 * 10, "100 moves read " + largeBoardReads + " squares on 2000x2000");
+        }
+
+        /**
+         * Builds a board where every even (row, col) square holds a mine, so each reveal
+         * uncovers exactly one numbered square, and counts the squares read by 100 such reveals.
+         */
+        private long countSingleSquareRevealReads(int size) {
+            int mines = ((size + 1) / 2) * ((size + 1) / 2);
+            CountingMinefield minefield = new CountingMinefield(size, mines);
+            for (int row = 0; row < size; row += 2) {
+                for (int col = 0; col < size; col += 2) {
+                    minefield.placeMine(row, col);
+                }
+            }
+            GameController controller = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+            RecordingListener listener = new RecordingListener(size);
+            controller.setRevealListener(listener);
+
+            minefield.reads = 0;
+            for (int move = 0; move < 100; move++) {
+                controller.revealSquare(1, move);
+            }
+
+            int reported = 0;
+            for (boolean square : listener.revealed) {
+                reported += square ? 1 : 0;
+            }
+            assertEquals(100, reported);
+            assertEquals(GameStatus.IN_PROGRESS, controller.getGameStatus());
+            return minefield.reads;
+        }
+    }
+
+    /**
+     * Counts the squares the controller reads, through every per-square accessor it uses.
+     */
+    private static class CountingMinefield extends Minefield {
+
+        long reads;
+
+        CountingMinefield(int size, int numberOfMines) {
+            super(size, numberOfMines);
+        }
+
+        @Override
+        public boolean isRevealed(int index) {
+            reads++;
+            return super.isRevealed(index);
+        }
+
+        @Override
+        public boolean isMineAt(int index) {
+            reads++;
+            return super.isMineAt(index);
+        }
+
+        @Override
+        public int getAdjacentMinesCount(int index) {
+            reads++;
+            return super.getAdjacentMinesCount(index);
+        }
+
+        @Override
+        public boolean reveal(int index) {
+            reads++;
+            return super.reveal(index);
+        }
+
+        @Override
+        public int countMines() {
+            reads += getCellCount();
+            return super.countMines();
+        }
+
+        @Override
+        public byte[] snapshot() {
+            reads += getCellCount();
+            return super.snapshot();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reveal Listener Tests")
+    class RevealListenerTests {
+
+        @Test
+        @DisplayName("should report exactly the squares a move reveals, sequentially and in parallel")
+        void testListenerSeesEveryRevealedSquare() {
+            for (int threshold : new int[]{Integer.MAX_VALUE, 0}) {
+                int size = 600;
+                GameController controller = new GameControllerImpl(size, size, size * size / 12, threshold);
+                Random random = new Random(7);
+                for (int placed = 0; placed < size * size / 12; placed++) {
+                    controller.placeMineAt(random.nextInt(size), random.nextInt(size));
+                }
+                RecordingListener listener = new RecordingListener(size);
+                controller.setRevealListener(listener);
+
+                for (int move = 0; move < 10; move++) {
+                    byte[] before = controller.getBoardView().snapshot();
+                    controller.revealSquare(random.nextInt(size), random.nextInt(size));
+                    byte[] after = controller.getBoardView().snapshot();
+                    for (int index = 0; index < after.length; index++) {
+                        boolean newlyRevealed = !CellState.isRevealed(before[index]) && CellState.isRevealed(after[index]);
+                        assertEquals(newlyRevealed, listener.revealed[index], "Square " + index);
+                    }
+                    Arrays.fill(listener.revealed, false);
+                    if (controller.getGameStatus() != GameStatus.IN_PROGRESS) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should ask for a full redraw when the whole board changes (4x4 grid)")
+        void testBoardChanged() {
+            gameController = new GameControllerImpl(4, 2);
+            RecordingListener listener = new RecordingListener(4);
+            gameController.setRevealListener(listener);
+            gameController.placeMinesRandmly(5L);
+            gameController.revealAllCells();
+            assertEquals(2, listener.boardChanges);
+
+            gameController.setRevealListener(null);
+            gameController.placeMinesRandmly(6L);
+            assertEquals(2, listener.boardChanges);
+        }
+    }
+
+    private static class RecordingListener implements RevealListener {
+
+        private final int columns;
+        private final boolean[] revealed;
+        private int boardChanges;
+
+        RecordingListener(int size) {
+            this.columns = size;
+            this.revealed = new boolean[size * size];
+        }
+
+        public void squareRevealed(int row, int col) {
+            assertFalse(revealed[row * columns + col], "Reported twice");
+            revealed[row * columns + col] = true;
+        }
+
+        public void boardChanged() {
+            boardChanges++;
+        }
+    }
+}
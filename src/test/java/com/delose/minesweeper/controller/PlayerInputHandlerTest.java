@@ -28,6 +28,15 @@ class PlayerInputHandlerTest {
         });
     }
 
+    @Test
+    @DisplayName("Multi-letter rows should be accepted on boards with more than 26 rows")
+    void testValidInput_MultiLetterRow() {
+        PlayerInputHandler largeInputHandler = new PlayerInputHandlerImpl(30, 120);
+        assertEquals("AD120", largeInputHandler.parseInput("ad120"));
+        assertThrows(GameInputException.class, () -> largeInputHandler.parseInput("AE1"));
+        assertThrows(GameInputException.class, () -> largeInputHandler.parseInput("A121"));
+    }
+
     @Nested
     @DisplayName("Throw GameInputException Scenarios")
     class ThrowGameInputExceptionScenarios {
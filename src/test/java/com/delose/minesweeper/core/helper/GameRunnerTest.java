@@ -4,6 +4,7 @@ import com.delose.minesweeper.controller.GameController;
 import com.delose.minesweeper.model.GameStatus;
 import com.delose.minesweeper.core.exception.GameInputException;
 import com.delose.minesweeper.view.DisplayManager;
+import com.delose.minesweeper.view.FrameOutput;
 import com.delose.minesweeper.controller.PlayerInputHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,7 @@ class GameRunnerTest {
     private GameController gameController;
     private DisplayManager displayManager;
     private PlayerInputHandler inputHandler;
+    private FrameOutput frameOutput;
     private GameComponents components;
 
     @BeforeEach
@@ -29,6 +31,7 @@ class GameRunnerTest {
         gameController = mock(GameController.class);
         displayManager = mock(DisplayManager.class);
         inputHandler = mock(PlayerInputHandler.class);
+        frameOutput = mock(FrameOutput.class);
 
         components = new GameComponents(gameController, displayManager, inputHandler);
     }
@@ -46,12 +49,13 @@ class GameRunnerTest {
             InputStream in = new ByteArrayInputStream(userInput.getBytes());
             System.setIn(in);
 
-            gameRunner = new GameRunner(components);
+            gameRunner = new GameRunner(components, frameOutput);
             gameRunner.runGameLoop();
 
             verify(gameController, times(1)).revealSquare(any());
             verify(gameController, times(1)).revealAllCells();
-            verify(displayManager, times(2)).renderMinefield();
+            verify(displayManager, times(2)).encodeMinefield();
+            verify(frameOutput, times(2)).write(any());
             verify(displayManager, times(1)).displayEndGameMessage();
         }
         
@@ -65,7 +69,7 @@ class GameRunnerTest {
             InputStream in = new ByteArrayInputStream(userInput.getBytes());
             System.setIn(in);
 
-            gameRunner = new GameRunner(components);
+            gameRunner = new GameRunner(components, frameOutput);
             gameRunner.runGameLoop();
 
             verify(gameController, times(0)).revealSquare(anyString());
@@ -74,6 +78,35 @@ class GameRunnerTest {
         }
     }
 
+    @Nested
+    @DisplayName("When the board is larger than the viewport")
+    class ViewportTests {
+
+        @Test
+        @DisplayName("It should draw only the viewport, scroll on W/A/S/D and follow revealed squares")
+        void testRunGameLoop_ScrollsViewport() {
+            when(gameController.getRowCount()).thenReturn(1000);
+            when(gameController.getColumnCount()).thenReturn(1000);
+            when(gameController.getGameStatus()).thenReturn(GameStatus.IN_PROGRESS, GameStatus.IN_PROGRESS,
+                    GameStatus.IN_PROGRESS, GameStatus.LOST);
+            when(inputHandler.parseInput("Z500")).thenReturn("Z500");
+
+            String userInput = "s\nd\nZ500\n"; // Scroll down, scroll right, then reveal far away
+            InputStream in = new ByteArrayInputStream(userInput.getBytes());
+            System.setIn(in);
+
+            gameRunner = new GameRunner(components, frameOutput);
+            gameRunner.runGameLoop();
+
+            verify(displayManager).encodeRegion(0, 40, 0, 40);
+            verify(displayManager).encodeRegion(20, 60, 0, 40);
+            verify(displayManager).encodeRegion(20, 60, 20, 60);
+            verify(displayManager).encodeRegion(20, 60, 479, 519);  // Row Z is in view, so only the columns follow Z500
+            verify(displayManager, never()).encodeMinefield();
+            verify(gameController, times(1)).revealSquare("Z500");
+        }
+    }
+
     @Nested
     @DisplayName("When prompting for replay")
     class PromptReplayTests {
@@ -85,7 +118,7 @@ class GameRunnerTest {
             InputStream in = new ByteArrayInputStream(userInput.getBytes());
             System.setIn(in);
 
-            gameRunner = new GameRunner(components);
+            gameRunner = new GameRunner(components, frameOutput);
             boolean shouldReplay = gameRunner.promptReplay();
 
             assertTrue(shouldReplay, "Expected to replay the game");
@@ -98,7 +131,7 @@ class GameRunnerTest {
             InputStream in = new ByteArrayInputStream(userInput.getBytes());
             System.setIn(in);
 
-            gameRunner = new GameRunner(components);
+            gameRunner = new GameRunner(components, frameOutput);
             boolean shouldReplay = gameRunner.promptReplay();
 
             assertFalse(shouldReplay, "Expected to exit the game");
@@ -46,7 +46,7 @@ class GameSetupHelperTest {
         @DisplayName("Should throw GameInputException for invalid grid size")
         void testInitializeGameComponents_InvalidGridSize_Failure() {
             // Given: User input for invalid grid size
-            String userInput = "100\n3\n"; 
+            String userInput = "100000\n3\n"; 
             InputStream in = new ByteArrayInputStream(userInput.getBytes());
             System.setIn(in);
 
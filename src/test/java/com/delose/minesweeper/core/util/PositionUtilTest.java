@@ -0,0 +1,66 @@
+package com.delose.minesweeper.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionUtilTest {
+
+    @Nested
+    @DisplayName("Row labels")
+    class RowLabelTests {
+
+        @Test
+        @DisplayName("should label rows spreadsheet style")
+        void testToRowLabel() {
+            assertEquals("A", PositionUtil.toRowLabel(0));
+            assertEquals("Z", PositionUtil.toRowLabel(25));
+            assertEquals("AA", PositionUtil.toRowLabel(26));
+            assertEquals("AZ", PositionUtil.toRowLabel(51));
+            assertEquals("BA", PositionUtil.toRowLabel(52));
+            assertEquals("ZZ", PositionUtil.toRowLabel(701));
+            assertEquals("AAA", PositionUtil.toRowLabel(702));
+        }
+
+        @Test
+        @DisplayName("should format positions with one-based columns")
+        void testToPosition() {
+            assertEquals("A1", PositionUtil.toPosition(0, 0));
+            assertEquals("NTP10000", PositionUtil.toPosition(9999, 9999));
+        }
+    }
+
+    @Nested
+    @DisplayName("Position parsing")
+    class ParsePositionTests {
+
+        @Test
+        @DisplayName("should round-trip every row label up to 10,000 rows")
+        void testRoundTrip() {
+            for (int row = 0; row < 10_000; row++) {
+                int[] indices = PositionUtil.parsePosition(PositionUtil.toPosition(row, row));
+                assertArrayEquals(new int[]{row, row}, indices);
+            }
+        }
+
+        @Test
+        @DisplayName("should accept lower-case row letters")
+        void testLowerCase() {
+            assertArrayEquals(new int[]{27, 11}, PositionUtil.parsePosition("ab12"));
+        }
+
+        @Test
+        @DisplayName("should return null for malformed positions")
+        void testMalformed() {
+            assertNull(PositionUtil.parsePosition(null));
+            assertNull(PositionUtil.parsePosition("A"));
+            assertNull(PositionUtil.parsePosition("12"));
+            assertNull(PositionUtil.parsePosition("A#"));
+            assertNull(PositionUtil.parsePosition("A1B"));
+            assertNull(PositionUtil.parsePosition("AAAAAAA1"));
+            assertNull(PositionUtil.parsePosition("A12345678901"));
+        }
+    }
+}
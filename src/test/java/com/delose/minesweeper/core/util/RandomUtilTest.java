@@ -0,0 +1,77 @@
+package com.delose.minesweeper.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomUtilTest {
+
+    @Nested
+    @DisplayName("Hypergeometric draws")
+    class HypergeometricTests {
+
+        @Test
+        @DisplayName("should stay within the possible range")
+        void testBounds() {
+            SplittableRandom random = new SplittableRandom(1L);
+            for (int i = 0; i < 10000; i++) {
+                long marked = random.nextLong(1000);
+                long unmarked = random.nextLong(1000);
+                long sample = random.nextLong(marked + unmarked + 1);
+                long drawn = RandomUtil.hypergeometric(random, marked, unmarked, sample);
+                assertTrue(drawn >= Math.max(0, sample - unmarked) && drawn <= Math.min(marked, sample));
+            }
+        }
+
+        @Test
+        @DisplayName("should be exact at the edges of the population")
+        void testDegenerateCases() {
+            SplittableRandom random = new SplittableRandom(2L);
+            assertEquals(0, RandomUtil.hypergeometric(random, 50, 50, 0));
+            assertEquals(50, RandomUtil.hypergeometric(random, 50, 50, 100));
+            assertEquals(0, RandomUtil.hypergeometric(random, 0, 100, 40));
+            assertEquals(40, RandomUtil.hypergeometric(random, 100, 0, 40));
+        }
+
+        @Test
+        @DisplayName("should match the expected mean and variance")
+        void testMoments() {
+            // Large enough to use rejection sampling, with the marked items in the minority and the majority
+            assertMoments(350_000, 650_000, 250_000);
+            assertMoments(900_000, 100_000, 700_000);
+            // Small samples drawn item by item
+            assertMoments(30, 70, 8);
+        }
+
+        private void assertMoments(long marked, long unmarked, long sample) {
+            SplittableRandom random = new SplittableRandom(3L);
+            long population = marked + unmarked;
+            double mean = (double) sample * marked / population;
+            double variance = mean * unmarked / population * (population - sample) / (population - 1);
+            int draws = 20000;
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (int i = 0; i < draws; i++) {
+                double drawn = RandomUtil.hypergeometric(random, marked, unmarked, sample);
+                sum += drawn;
+                sumOfSquares += drawn * drawn;
+            }
+            double sampleMean = sum / draws;
+            double sampleVariance = sumOfSquares / draws - sampleMean * sampleMean;
+            assertEquals(mean, sampleMean, 5 * Math.sqrt(variance / draws));
+            assertEquals(variance, sampleVariance, 0.1 * variance);
+        }
+
+        @Test
+        @DisplayName("should reject impossible parameters")
+        void testInvalidParameters() {
+            SplittableRandom random = new SplittableRandom(4L);
+            assertThrows(IllegalArgumentException.class, () -> RandomUtil.hypergeometric(random, 5, 5, 11));
+            assertThrows(IllegalArgumentException.class, () -> RandomUtil.hypergeometric(random, -1, 5, 1));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.delose.minesweeper.core.util.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntQueueTest {
+
+    private IntQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new IntQueue(4);
+    }
+
+    @Test
+    @DisplayName("should return elements in insertion order")
+    void testFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        assertEquals(3, queue.size());
+        assertEquals(1, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(3, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should keep order when growing after the ring buffer has wrapped")
+    void testGrowAfterWrap() {
+        for (int i = 0; i < 3; i++) {
+            queue.add(i);
+        }
+        queue.poll();
+        queue.poll();
+        for (int i = 3; i < 20; i++) {
+            queue.add(i);
+        }
+        for (int expected = 2; expected < 20; expected++) {
+            assertEquals(expected, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should be empty after clear and throw when polled")
+    void testClear() {
+        queue.add(7);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> queue.poll());
+    }
+}
@@ -0,0 +1,95 @@
+package com.delose.minesweeper.core.util.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("should expire every element exactly at its deadline, across all levels")
+    void testExpiresOnDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000);
+        SplittableRandom random = new SplittableRandom(1L);
+        Map<Long, Long> firedAt = new HashMap<>();
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // Delays from one tick up to past the range of the third level
+            long deadline = 1000 + 1 + random.nextLong(1L << (6 * (1 + i % 3)));
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        assertEquals(2000, wheel.size());
+
+        long lastDeadline = deadlines.stream().mapToLong(Long::longValue).max().getAsLong();
+        for (long tick = 1001; tick < lastDeadline + 7; tick += 7) {
+            long now = tick;
+            wheel.advance(now, deadline -> {
+                assertTrue(deadline <= now && deadline > now - 7, "Expired " + deadline + " at " + now);
+                firedAt.put(deadline, now);
+            });
+        }
+        wheel.advance(lastDeadline + 100, deadline -> fail("Expired twice"));
+
+        assertEquals(0, wheel.size());
+        assertTrue(firedAt.keySet().containsAll(deadlines));
+    }
+
+    @Test
+    @DisplayName("should expire elements scheduled at or before the current tick on the next tick")
+    void testPastDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("past", 3);
+        wheel.schedule("now", 10);
+
+        wheel.advance(10, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advance(11, fired::add);
+        assertEquals(2, fired.size());
+    }
+
+    @Test
+    @DisplayName("should hold deadlines beyond its range until they are due")
+    void testBeyondRange() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        long far = (1L << 24) * 3 + 5;
+        List<Long> fired = new ArrayList<>();
+        wheel.schedule("far", far);
+        wheel.schedule("near", 100);
+
+        for (long tick = 0; tick <= far; tick += 4096) {
+            long now = tick;
+            wheel.advance(now, element -> fired.add(now));
+        }
+        wheel.advance(far, element -> fired.add(far));
+
+        assertEquals(2, fired.size());
+        assertEquals(far, (long) fired.get(1));
+    }
+
+    @Test
+    @DisplayName("should let expired elements be scheduled again")
+    void testReschedule() {
+        TimingWheel<int[]> wheel = new TimingWheel<>(0);
+        int[] expirations = new int[1];
+        wheel.schedule(expirations, 50);
+
+        wheel.advance(500, element -> {
+            element[0]++;
+            if (element[0] < 5) {
+                wheel.schedule(element, wheel.getCurrentTick() + 50);
+            }
+        });
+
+        assertEquals(5, expirations[0]);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,173 @@
+package com.delose.minesweeper.export;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.export.impl.BinaryBoardReader;
+import com.delose.minesweeper.export.impl.BinaryBoardWriter;
+import com.delose.minesweeper.export.impl.JsonBoardWriter;
+import com.delose.minesweeper.model.GameStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardWriterTest {
+
+    private byte[] write(BoardWriter writer, GameController game) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(game, out);
+        return out.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("JSON writer")
+    class JsonWriterTests {
+
+        @Test
+        @DisplayName("should write one string per row with the visible state only")
+        void testJsonOutput() throws IOException {
+            GameController game = new GameControllerImpl(2, 3, 1);
+            game.placeMineAt(1, 2);
+            game.revealSquare(0, 0);
+
+            String json = new String(write(new JsonBoardWriter(), game), StandardCharsets.US_ASCII);
+
+            assertEquals("{\"rows\":2,\"columns\":3,\"mines\":1,\"status\":\"IN_PROGRESS\",\"board\":[\n"
+                    + "\"01_\",\n"
+                    + "\"01_\"]}", json);
+        }
+
+        @Test
+        @DisplayName("should show revealed mines once the game is lost")
+        void testJsonLostGame() throws IOException {
+            GameController game = new GameControllerImpl(2, 3, 1);
+            game.placeMineAt(1, 2);
+            game.revealSquare(1, 2);
+
+            String json = new String(write(new JsonBoardWriter(), game), StandardCharsets.US_ASCII);
+
+            assertTrue(json.contains("\"status\":\"LOST\""));
+            assertTrue(json.endsWith("\"___\",\n\"__*\"]}"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary writer and reader")
+    class BinaryRoundTripTests {
+
+        private GameController roundTrip(GameController game) throws IOException {
+            byte[] data = write(new BinaryBoardWriter(), game);
+            return new BinaryBoardReader().read(new ByteArrayInputStream(data));
+        }
+
+        private void assertSameGame(GameController expected, GameController actual) {
+            assertEquals(expected.getRowCount(), actual.getRowCount());
+            assertEquals(expected.getColumnCount(), actual.getColumnCount());
+            assertEquals(expected.getNumberOfMines(), actual.getNumberOfMines());
+            assertEquals(expected.getGameStatus(), actual.getGameStatus());
+            assertArrayEquals(expected.getBoardView().snapshot(), actual.getBoardView().snapshot());
+        }
+
+        @Test
+        @DisplayName("should restore mines, reveals and status of a game in progress")
+        void testRoundTripInProgress() throws IOException {
+            GameController game = new GameControllerImpl(300, 200, 6000);
+            game.placeMinesRandmly(11L);
+            Random random = new Random(11);
+            for (int move = 0; move < 40 && game.getGameStatus() == GameStatus.IN_PROGRESS; move++) {
+                int row = random.nextInt(300);
+                int col = random.nextInt(200);
+                if (!game.isMineAt(row, col)) {
+                    game.revealSquare(row, col);
+                }
+            }
+
+            assertSameGame(game, roundTrip(game));
+        }
+
+        @Test
+        @DisplayName("should restore a lost game with its detonated mine")
+        void testRoundTripLost() throws IOException {
+            GameController game = new GameControllerImpl(5, 4);
+            game.placeMineAt(2, 2);
+            game.revealSquare(0, 0);
+            game.revealSquare(2, 2);
+
+            assertSameGame(game, roundTrip(game));
+        }
+
+        @Test
+        @DisplayName("should restore a game that can be played on to a win")
+        void testRestoredGameIsPlayable() throws IOException {
+            GameController game = new GameControllerImpl(3, 1);
+            game.placeMineAt(1, 1);  // Every other square touches the mine, so nothing cascades
+            game.revealSquare(0, 0);
+
+            GameController restored = roundTrip(game);
+            for (int index = 1; index < 8; index++) {
+                assertEquals(GameStatus.IN_PROGRESS, restored.getGameStatus());
+                int square = index < 4 ? index : index + 1;  // Skip the mine in the centre
+                restored.revealSquare(square / 3, square % 3);
+            }
+            assertEquals(GameStatus.WON, restored.getGameStatus());
+        }
+
+        @Test
+        @DisplayName("should write a large fresh board in a few bytes per mine")
+        void testCompactFreshBoard() throws IOException {
+            GameController game = new GameControllerImpl(3000, 3000, 1000);
+            game.placeMinesRandmly(5L);
+            CountingStream out = new CountingStream();
+
+            new BinaryBoardWriter().write(game, Channels.newChannel(out));
+
+            assertTrue(out.count < 20 + 1000 * 4, "Wrote " + out.count + " bytes");
+        }
+
+        @Test
+        @DisplayName("should reject data that is not a board or does not match its mines")
+        void testCorruptData() throws IOException {
+            GameController game = new GameControllerImpl(4, 2);
+            game.placeMineAt(0, 0);
+            game.placeMineAt(3, 3);
+            game.revealSquare(3, 0);
+            byte[] data = write(new BinaryBoardWriter(), game);
+
+            byte[] badMagic = data.clone();
+            badMagic[0] = 'X';
+            assertThrows(IOException.class, () -> new BinaryBoardReader().read(new ByteArrayInputStream(badMagic)));
+
+            byte[] badCount = data.clone();
+            badCount[badCount.length - 2] ^= 0x10;  // The revealed square's count nibble
+            assertThrows(IOException.class, () -> new BinaryBoardReader().read(new ByteArrayInputStream(badCount)));
+
+            byte[] truncated = Arrays.copyOf(data, data.length - 2);
+            assertThrows(IOException.class, () -> new BinaryBoardReader().read(new ByteArrayInputStream(truncated)));
+        }
+    }
+
+    private static class CountingStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.delose.minesweeper.export;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.ConcurrentGameControllerImpl;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.export.impl.MappedSnapshotStore;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+
+    private final SnapshotStore store = new MappedSnapshotStore();
+
+    @TempDir
+    Path directory;
+
+    private GameController roundTrip(GameController game) throws IOException {
+        Path file = directory.resolve("game.snapshot");
+        store.save(game, file);
+        return store.load(file);
+    }
+
+    @Test
+    @DisplayName("should restore mines, reveals, flags, status and seed of a game in progress")
+    void testRoundTripInProgress() throws IOException {
+        // 201 columns, so rows straddle the 64-square words of the bitmaps
+        Minefield minefield = new Minefield(300, 201, 6000);
+        minefield.placeMines(11L);
+        minefield.toggleFlag(7);
+        minefield.toggleFlag(60_299);
+        GameController game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+        Random random = new Random(11);
+        for (int move = 0; move < 40 && game.getGameStatus() == GameStatus.IN_PROGRESS; move++) {
+            int row = random.nextInt(300);
+            int col = random.nextInt(201);
+            if (!game.isMineAt(row, col)) {
+                game.revealSquare(row, col);
+            }
+        }
+
+        GameController restored = roundTrip(game);
+
+        assertEquals(300, restored.getRowCount());
+        assertEquals(201, restored.getColumnCount());
+        assertEquals(6000, restored.getNumberOfMines());
+        assertEquals(11L, restored.getSeed());
+        assertEquals(game.getGameStatus(), restored.getGameStatus());
+        assertArrayEquals(game.getBoardView().snapshot(), restored.getBoardView().snapshot());
+    }
+
+    @Test
+    @DisplayName("should restore a game that can be played on to a win")
+    void testRestoredGameIsPlayable() throws IOException {
+        GameController game = new GameControllerImpl(3, 1);
+        game.placeMineAt(1, 1);  // Every other square touches the mine, so nothing cascades
+        game.revealSquare(0, 0);
+
+        GameController restored = roundTrip(game);
+        for (int index = 1; index < 8; index++) {
+            assertEquals(GameStatus.IN_PROGRESS, restored.getGameStatus());
+            int square = index < 4 ? index : index + 1;  // Skip the mine in the centre
+            restored.revealSquare(square / 3, square % 3);
+        }
+        assertEquals(GameStatus.WON, restored.getGameStatus());
+    }
+
+    @Test
+    @DisplayName("should save the squares revealed on a concurrent game")
+    void testConcurrentGame() throws IOException {
+        GameController game = new ConcurrentGameControllerImpl(50, 50, 200);
+        game.placeMinesRandmly(3L);
+        for (int col = 0; col < 50; col++) {
+            if (!game.isMineAt(25, col)) {
+                game.revealSquare(25, col);
+            }
+        }
+
+        GameController restored = roundTrip(game);
+
+        assertEquals(3L, restored.getSeed());
+        assertArrayEquals(game.getBoardView().snapshot(), restored.getBoardView().snapshot());
+    }
+
+    @Test
+    @DisplayName("should write the same snapshot through the heap as through a mapping")
+    void testUnmapped() throws IOException {
+        Minefield minefield = new Minefield(70, 70, 500);
+        minefield.placeMines(5L);
+        minefield.toggleFlag(3);
+        GameController game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+        game.revealSquare(35, 35);
+        SnapshotStore unmapped = new MappedSnapshotStore(false);
+        Path mappedFile = directory.resolve("mapped.snapshot");
+        Path unmappedFile = directory.resolve("unmapped.snapshot");
+        store.save(game, mappedFile);
+        unmapped.save(game, unmappedFile);
+
+        assertArrayEquals(Files.readAllBytes(mappedFile), Files.readAllBytes(unmappedFile));
+        GameController restored = unmapped.load(mappedFile);
+        assertEquals(5L, restored.getSeed());
+        assertEquals(game.getGameStatus(), restored.getGameStatus());
+        assertArrayEquals(game.getBoardView().snapshot(), restored.getBoardView().snapshot());
+        Files.delete(unmappedFile);
+
+        byte[] data = Files.readAllBytes(mappedFile);
+        Path truncated = Files.write(directory.resolve("truncated"), Arrays.copyOf(data, data.length - 8));
+        assertThrows(IOException.class, () -> unmapped.load(truncated));
+    }
+
+    @Test
+    @DisplayName("should reject files that are not a snapshot or do not match their board")
+    void testCorruptData() throws IOException {
+        GameController game = new GameControllerImpl(4, 2);
+        game.placeMineAt(0, 0);
+        game.placeMineAt(3, 3);
+        Path file = directory.resolve("game.snapshot");
+        store.save(game, file);
+        byte[] data = Files.readAllBytes(file);
+
+        byte[] badMagic = data.clone();
+        badMagic[0] = 'X';
+        assertThrows(IOException.class, () -> store.load(Files.write(directory.resolve("magic"), badMagic)));
+
+        byte[] truncated = Arrays.copyOf(data, data.length - 8);
+        assertThrows(IOException.class, () -> store.load(Files.write(directory.resolve("truncated"), truncated)));
+
+        byte[] badCount = data.clone();
+        ByteBuffer.wrap(badCount).order(ByteOrder.LITTLE_ENDIAN).putInt(20, 3);
+        assertThrows(IOException.class, () -> store.load(Files.write(directory.resolve("count"), badCount)));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MinefieldTest {
@@ -42,6 +44,42 @@ class MinefieldTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rectangular Minefield")
+    class RectangularMinefieldTests {
+
+        @Test
+        @DisplayName("should support boards with different row and column counts")
+        void testRectangularMinefield() {
+            Minefield rectangle = new Minefield(3, 7, 2);
+            assertEquals(3, rectangle.getRows());
+            assertEquals(7, rectangle.getColumns());
+            assertEquals(21, rectangle.getCellCount());
+
+            rectangle.placeMine(2, 6);
+            assertTrue(rectangle.isMineAt(2, 6));
+            assertEquals(1, rectangle.getAdjacentMinesCount(1, 5));
+            assertThrows(GameInputException.class, () -> rectangle.placeMine(3, 0));
+            assertThrows(GameInputException.class, () -> rectangle.placeMine(0, 7));
+        }
+
+        @Test
+        @DisplayName("should allocate a 10,000 x 10,000 board")
+        void testLargeMinefield() {
+            Minefield large = new Minefield(10_000, 10_000, 1);
+            assertEquals(100_000_000, large.getCellCount());
+            large.placeMine(9_999, 9_999);
+            assertEquals(1, large.getAdjacentMinesCount(9_998, 9_998));
+        }
+
+        @Test
+        @DisplayName("should throw exception for empty or oversized dimensions")
+        void testInvalidDimensions() {
+            assertThrows(GameInputException.class, () -> new Minefield(0, 5, 0));
+            assertThrows(GameInputException.class, () -> new Minefield(100_000, 100_000, 0));
+        }
+    }
+
     @Nested
     @DisplayName("Mine Placement")
     class MinePlacementTests {
@@ -70,6 +108,62 @@ class MinefieldTest {
             assertEquals(2, minefield.countMines());
         }
 
+        @Test
+        @DisplayName("should produce the same layout from the same seed")
+        void testSeededPlacementIsReproducible() {
+            Minefield first = new Minefield(30, 40, 300);
+            Minefield second = new Minefield(30, 40, 300);
+            first.placeMines(1234L);
+            second.placeMines(1234L);
+            assertArrayEquals(first.snapshot(), second.snapshot());
+            assertEquals(1234L, first.getSeed());
+
+            second.placeMines(4321L);
+            assertFalse(Arrays.equals(first.snapshot(), second.snapshot()));
+        }
+
+        @Test
+        @DisplayName("should place exactly the configured number of mines at the maximum ratio")
+        void testPlacementAtMaximumRatio() {
+            int mines = (int) (50 * 50 * 0.35);
+            Minefield dense = new Minefield(50, 50, mines);
+            for (long seed = 0; seed < 20; seed++) {
+                dense.placeMines(seed);
+                assertEquals(mines, dense.countMines());
+                assertEquals(mines, dense.getPlacedMineCount());
+            }
+        }
+
+        @Test
+        @DisplayName("should replace mines placed before a seeded placement")
+        void testSeededPlacementReplacesExistingMines() {
+            Minefield reference = new Minefield(4, 2);
+            reference.placeMines(99L);
+            minefield.placeMine(0, 0);
+            minefield.placeMine(3, 3);
+            minefield.placeMines(99L);
+            assertArrayEquals(reference.snapshot(), minefield.snapshot());
+        }
+
+        @Test
+        @DisplayName("should keep a square and its neighbours free when asked to")
+        void testPlacementAroundSafeSquare() {
+            int[][] safeSquares = {{0, 0}, {5, 7}, {9, 9}, {0, 9}};
+            Minefield dense = new Minefield(10, 10, 35);
+            for (long seed = 0; seed < 50; seed++) {
+                int[] safe = safeSquares[(int) (seed % safeSquares.length)];
+                dense.placeMines(seed, safe[0], safe[1]);
+                assertEquals(35, dense.countMines());
+                assertEquals(0, dense.getAdjacentMinesCount(safe[0], safe[1]));
+            }
+
+            // With too little room for a free block only the square itself stays free
+            Minefield cramped = new Minefield(2, 3, 2);
+            cramped.placeMines(7L, 0, 1);
+            assertEquals(2, cramped.countMines());
+            assertFalse(cramped.isMineAt(0, 1));
+        }
+
         @Test
         @DisplayName("should correctly count the number of mines placed")
         void testCountMines() {
@@ -84,6 +178,72 @@ class MinefieldTest {
         }
     }
 
+    @Nested
+    @DisplayName("Parallel Mine Placement")
+    class ParallelMinePlacementTests {
+
+        @Test
+        @DisplayName("should produce the same layout from the same seed and stripe count")
+        void testParallelPlacementIsReproducible() {
+            Minefield first = new Minefield(200, 150, 6000);
+            Minefield second = new Minefield(200, 150, 6000);
+            first.placeMinesInParallel(42L, 8);
+            second.placeMinesInParallel(42L, 8);
+            assertArrayEquals(first.snapshot(), second.snapshot());
+            assertEquals(42L, first.getSeed());
+
+            second.placeMinesInParallel(43L, 8);
+            assertFalse(Arrays.equals(first.snapshot(), second.snapshot()));
+        }
+
+        @Test
+        @DisplayName("should place exactly the configured number of mines for any stripe count")
+        void testParallelPlacementCount() {
+            int mines = (int) (97 * 61 * 0.35);
+            Minefield dense = new Minefield(97, 61, mines);
+            for (int stripes : new int[]{1, 2, 7, 16, 97, 500}) {
+                dense.placeMinesInParallel(stripes, stripes);
+                assertEquals(mines, dense.countMines());
+                assertEquals(mines, dense.getPlacedMineCount());
+            }
+        }
+
+        @Test
+        @DisplayName("should compute the same adjacent counts as a full scan")
+        void testParallelPlacementAdjacentCounts() {
+            Minefield field = new Minefield(123, 45, 1500);
+            field.placeMine(0, 0);
+            field.placeMinesInParallel(7L, 5);
+            for (int row = 0; row < field.getRows(); row++) {
+                for (int col = 0; col < field.getColumns(); col++) {
+                    assertEquals(field.calculateAdjacentMines(row, col), field.getAdjacentMinesCount(row, col));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should spread mines evenly across stripes")
+        void testParallelPlacementIsUniform() {
+            int rows = 40;
+            int[] minesPerRow = new int[rows];
+            Minefield field = new Minefield(rows, 50, 400);
+            for (long seed = 0; seed < 200; seed++) {
+                field.placeMinesInParallel(seed, 4);
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < 50; col++) {
+                        if (field.isMineAt(row, col)) {
+                            minesPerRow[row]++;
+                        }
+                    }
+                }
+            }
+            // Each row expects 200 * 400 / 40 = 2000 mines
+            for (int count : minesPerRow) {
+                assertTrue(Math.abs(count - 2000) < 200, "Row mine total " + count + " is far from 2000");
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Mine Location Checks")
     class MineLocationTests {
@@ -122,6 +282,30 @@ class MinefieldTest {
             assertEquals(0, minefield.calculateAdjacentMines(3, 3));  // (3, 3) is not adjacent to any mines
         }
 
+        @Test
+        @DisplayName("should keep precomputed counts in sync with single mine placement")
+        void testGetAdjacentMinesCount_PlaceMine() {
+            minefield.placeMine(0, 0);
+            minefield.placeMine(1, 1);
+            minefield.placeMine(1, 1);  // Placing the same mine twice must not double count
+
+            assertEquals(2, minefield.getAdjacentMinesCount(0, 1));
+            assertEquals(1, minefield.getAdjacentMinesCount(2, 2));
+            assertEquals(0, minefield.getAdjacentMinesCount(3, 3));
+        }
+
+        @Test
+        @DisplayName("should precompute counts matching a neighbourhood scan after random placement")
+        void testGetAdjacentMinesCount_RandomPlacement() {
+            Minefield largeMinefield = new Minefield(20, 100);
+            largeMinefield.placeMines();
+            for (int row = 0; row < 20; row++) {
+                for (int col = 0; col < 20; col++) {
+                    assertEquals(largeMinefield.calculateAdjacentMines(row, col), largeMinefield.getAdjacentMinesCount(row, col));
+                }
+            }
+        }
+
         @Test
         @DisplayName("should throw exception when calculating adjacent mines out of bounds")
         void testCalculateAdjacentMinesOutOfBounds() {
@@ -131,4 +315,68 @@ class MinefieldTest {
             assertEquals("Coordinates are out of bounds.", exception.getMessage());
         }
     }
+
+    @Nested
+    @DisplayName("Packed Cell State")
+    class PackedCellStateTests {
+
+        @Test
+        @DisplayName("should reveal a square only once")
+        void testReveal() {
+            int index = minefield.indexOf(2, 3);
+            assertFalse(minefield.isRevealed(index));
+            assertTrue(minefield.reveal(index));
+            assertTrue(minefield.isRevealed(index));
+            assertFalse(minefield.reveal(index));  // Already revealed
+        }
+
+        @Test
+        @DisplayName("should toggle the flag without affecting the mine")
+        void testToggleFlag() {
+            minefield.placeMine(1, 2);
+            int index = minefield.indexOf(1, 2);
+            minefield.toggleFlag(index);
+            assertTrue(minefield.isFlagged(index));
+            assertTrue(minefield.isMineAt(index));
+            minefield.toggleFlag(index);
+            assertFalse(minefield.isFlagged(index));
+        }
+
+        @Test
+        @DisplayName("should expose cells as views over the minefield state")
+        void testCellView() {
+            Cell cell = minefield.getCell(3, 0);
+            cell.setMine(true);
+            cell.reveal();
+            assertTrue(minefield.isMineAt(3, 0));
+            assertTrue(minefield.isRevealed(minefield.indexOf(3, 0)));
+            assertEquals(1, minefield.countMines());
+        }
+
+        @Test
+        @DisplayName("should keep the mine count and neighbouring counts right when a cell view places a mine")
+        void testCellViewPlacesMine() {
+            Cell cell = minefield.getCell(3, 0);
+            cell.setMine(true);
+            cell.setMine(true);
+            assertEquals(1, minefield.getPlacedMineCount());
+            assertEquals(1, minefield.getAdjacentMinesCount(2, 0));
+            assertEquals(1, minefield.getAdjacentMinesCount(3, 1));
+            assertEquals(0, minefield.getAdjacentMinesCount(1, 0));
+
+            minefield.getCell(0, 0).setMine(false);  // Already free of mines
+            assertThrows(UnsupportedOperationException.class, () -> cell.setMine(false));
+            assertTrue(minefield.isMineAt(3, 0));
+        }
+
+        @Test
+        @DisplayName("should reveal all squares")
+        void testRevealAll() {
+            minefield.placeMine(0, 0);
+            minefield.revealAll();
+            for (int index = 0; index < minefield.getCellCount(); index++) {
+                assertTrue(minefield.isRevealed(index));
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.delose.minesweeper.model.chunk;
+
+import com.delose.minesweeper.core.exception.GameInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedMinefieldTest {
+
+    @Nested
+    @DisplayName("Chunk Generation")
+    class ChunkGenerationTests {
+
+        @Test
+        @DisplayName("should generate the same layout from the same seed regardless of visiting order")
+        void testDeterministicLayout() {
+            ChunkedMinefield first = new ChunkedMinefield(7L, 0.2, 4, new InMemoryChunkStore());
+            ChunkedMinefield second = new ChunkedMinefield(7L, 0.2, 4, new InMemoryChunkStore());
+            for (int row = 200; row >= -200; row -= 3) {
+                for (int col = -200; col <= 200; col += 7) {
+                    first.isMineAt(row, col);
+                }
+            }
+            for (int row = -200; row <= 200; row += 3) {
+                for (int col = -200; col <= 200; col += 7) {
+                    assertEquals(first.isMineAt(row, col), second.isMineAt(row, col));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should compute adjacent counts that match the mines across chunk borders")
+        void testAdjacentCountsAcrossChunkBorders() {
+            ChunkedMinefield minefield = new ChunkedMinefield(11L, 0.3, 16, new InMemoryChunkStore());
+            for (int row = -66; row <= 66; row++) {
+                for (int col = -66; col <= 66; col++) {
+                    int expected = 0;
+                    for (int i = row - 1; i <= row + 1; i++) {
+                        for (int j = col - 1; j <= col + 1; j++) {
+                            expected += minefield.isMineAt(i, j) ? 1 : 0;
+                        }
+                    }
+                    assertEquals(expected, minefield.getAdjacentMinesCount(row, col), "at " + row + "," + col);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should throw exception when the mine ratio exceeds the maximum")
+        void testTooManyMines() {
+            assertThrows(GameInputException.class, () -> new ChunkedMinefield(1L, 0.9, 4, new InMemoryChunkStore()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunk Eviction")
+    class ChunkEvictionTests {
+
+        @Test
+        @DisplayName("should keep at most the configured number of chunks in memory")
+        void testBoundedCache() {
+            ChunkedMinefield minefield = new ChunkedMinefield(3L, 0.2, 8, new InMemoryChunkStore());
+            for (int chunk = 0; chunk < 100; chunk++) {
+                minefield.isMineAt(0, chunk * 64);
+            }
+            assertEquals(8, minefield.getLoadedChunkCount());
+        }
+
+        @Test
+        @DisplayName("should restore revealed squares of evicted chunks from a file store")
+        void testRevealedStateSurvivesEviction(@TempDir Path directory) {
+            ChunkedMinefield minefield = new ChunkedMinefield(5L, 0.2, 2, new FileChunkStore(directory));
+            assertTrue(minefield.reveal(-1, -1));
+            assertTrue(minefield.reveal(10, 63));
+
+            // Touch enough other chunks to push both revealed chunks out of the cache
+            for (int chunk = 1; chunk <= 4; chunk++) {
+                minefield.isMineAt(chunk * 1000, 0);
+            }
+
+            assertTrue(minefield.isRevealed(-1, -1));
+            assertTrue(minefield.isRevealed(10, 63));
+            assertFalse(minefield.isRevealed(10, 62));
+            assertFalse(minefield.reveal(10, 63));
+        }
+    }
+}
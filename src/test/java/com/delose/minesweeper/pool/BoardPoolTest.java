@@ -0,0 +1,167 @@
+package com.delose.minesweeper.pool;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.pool.impl.BoardPoolImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardPoolTest {
+
+    private final List<GameController> created = new CopyOnWriteArrayList<>();
+    private final List<Thread> creators = new CopyOnWriteArrayList<>();
+    private BoardPool pool;
+
+    private final BoardFactory factory = (rows, columns, numberOfMines) -> {
+        GameController game = new GameControllerImpl(rows, columns, numberOfMines);
+        game.placeMinesRandmly();
+        created.add(game);
+        creators.add(Thread.currentThread());
+        return game;
+    };
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Nested
+    @DisplayName("Board Pool Tests")
+    class BoardPoolTests {
+
+        @Test
+        @DisplayName("should fill the pool up to its capacity in the background and stop there")
+        void testFillsToCapacity() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 3, 16, 2, 10000);
+            pool.prefill(9, 9, 10);
+
+            awaitReady(9, 9, 10, 3);
+            Thread.sleep(50);
+
+            assertEquals(3, created.size());
+            assertFalse(creators.contains(Thread.currentThread()));
+        }
+
+        @Test
+        @DisplayName("should hand out a ready board and replace it in the background")
+        void testTakeServesReadyBoard() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 2, 16, 1, 10000);
+            pool.prefill(9, 9, 10);
+            awaitReady(9, 9, 10, 2);
+
+            GameController game = pool.take(9, 9, 10);
+
+            assertTrue(created.contains(game));
+            assertEquals(GameStatus.IN_PROGRESS, game.getGameStatus());
+            assertEquals(10, game.getNumberOfMines());
+            assertFalse(creators.contains(Thread.currentThread()));
+            awaitReady(9, 9, 10, 2);
+            assertEquals(3, created.size());
+        }
+
+        @Test
+        @DisplayName("should create the board on the caller's thread when none is ready")
+        void testTakeFromEmptyPool() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 2, 16, 1, 10000);
+
+            GameController game = pool.take(5, 5, 3);
+
+            assertSame(Thread.currentThread(), creators.get(created.indexOf(game)));
+            awaitReady(5, 5, 3, 2);
+        }
+
+        @Test
+        @DisplayName("should keep separate boards for each size and number of mines")
+        void testSeparateShelves() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 1, 16, 1, 10000);
+            pool.prefill(5, 5, 3);
+            pool.prefill(5, 5, 4);
+            awaitReady(5, 5, 3, 1);
+            awaitReady(5, 5, 4, 1);
+
+            assertEquals(4, pool.take(5, 5, 4).getNumberOfMines());
+            assertEquals(3, pool.take(5, 5, 3).getNumberOfMines());
+        }
+
+        @Test
+        @DisplayName("should keep boards for a bounded number of settings, dropping the least recently used")
+        void testBoundedShelves() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 1, 2, 1, 10000);
+            for (int mines = 1; mines <= 10; mines++) {
+                pool.take(10, 10, mines);
+            }
+            awaitReady(10, 10, 10, 1);
+            awaitReady(10, 10, 9, 1);
+            Thread.sleep(50);
+
+            int ready = 0;
+            for (int mines = 1; mines <= 10; mines++) {
+                ready += pool.getReadyCount(10, 10, mines);
+            }
+            assertEquals(2, ready);
+        }
+
+        @Test
+        @DisplayName("should refill a shelf again after its producer failed with an error")
+        void testRefillAfterError() throws InterruptedException {
+            CountDownLatch failed = new CountDownLatch(1);
+            pool = new BoardPoolImpl((rows, columns, numberOfMines) -> {
+                if (failed.getCount() > 0) {
+                    failed.countDown();
+                    throw new OutOfMemoryError("Simulated");
+                }
+                return factory.create(rows, columns, numberOfMines);
+            }, 2, 16, 1, 10000);
+            pool.prefill(9, 9, 10);
+            assertTrue(failed.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+
+            pool.prefill(9, 9, 10);
+
+            awaitReady(9, 9, 10, 2);
+        }
+
+        @Test
+        @DisplayName("should not keep boards when the capacity is zero or the board is too large")
+        void testUnpooledBoards() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 0, 16, 1, 10000);
+            pool.take(5, 5, 3);
+            pool.close();
+            pool = new BoardPoolImpl(factory, 2, 16, 1, 20);
+            pool.take(5, 5, 3);
+            Thread.sleep(50);
+
+            assertEquals(0, pool.getReadyCount(5, 5, 3));
+            assertEquals(2, created.size());
+        }
+
+        @Test
+        @DisplayName("should reject invalid settings without keeping them")
+        void testInvalidSettings() throws InterruptedException {
+            pool = new BoardPoolImpl(factory, 2, 16, 1, 10000);
+
+            assertThrows(GameInputException.class, () -> pool.take(3, 3, 100));
+            Thread.sleep(50);
+            assertEquals(0, pool.getReadyCount(3, 3, 100));
+        }
+    }
+
+    private void awaitReady(int rows, int columns, int numberOfMines, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getReadyCount(rows, columns, numberOfMines) < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "Pool did not fill in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.delose.minesweeper.server;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.pool.impl.BoardPoolImpl;
+import com.delose.minesweeper.server.impl.HttpGameServer;
+import com.delose.minesweeper.server.impl.ShardedSessionEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    private SessionEngine sessions;
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sessions = new ShardedSessionEngine(2, 3);
+        // Every board has a single mine in its top-left corner
+        BoardPoolImpl boardPool = new BoardPoolImpl((rows, columns, numberOfMines) -> {
+            GameController game = new GameControllerImpl(rows, columns, numberOfMines);
+            game.placeMineAt(0, 0);
+            return game;
+        }, 0, 1, 1, 0);
+        server = new HttpGameServer(0, sessions, boardPool, 10000);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Nested
+    @DisplayName("Game Endpoint Tests")
+    class GameEndpointTests {
+
+        @Test
+        @DisplayName("should create a game and return its id")
+        void testCreate() throws IOException {
+            HttpURLConnection connection = open("POST", "/games?rows=3&columns=3&mines=1");
+
+            assertEquals(201, connection.getResponseCode());
+            String body = read(connection);
+            String id = idOf(body);
+            assertEquals("/games/" + id, connection.getHeaderField("Location"));
+            assertTrue(body.contains("\"status\":\"IN_PROGRESS\""));
+            assertTrue(sessions.apply(id, game -> game != null).join());
+        }
+
+        @Test
+        @DisplayName("should reveal squares and return the board")
+        void testRevealAndBoard() throws IOException {
+            String id = create();
+
+            assertEquals("{\"status\":\"IN_PROGRESS\",\"adjacentMines\":1}", request("POST", "/games/" + id + "/reveal?row=0&col=1"));
+            assertEquals("{\"status\":\"WON\",\"adjacentMines\":0}", request("POST", "/games/" + id + "/reveal?row=2&col=2"));
+            assertEquals("{\"rows\":3,\"columns\":3,\"mines\":1,\"status\":\"WON\",\"board\":[\n\"_10\",\n\"110\",\n\"000\"]}",
+                    request("GET", "/games/" + id));
+        }
+
+        @Test
+        @DisplayName("should refuse moves once the game is over")
+        void testMoveOnFinishedGame() throws IOException {
+            String id = create();
+
+            assertEquals("{\"status\":\"LOST\"}", request("POST", "/games/" + id + "/reveal?row=0&col=0"));
+            assertEquals(409, open("POST", "/games/" + id + "/reveal?row=2&col=2").getResponseCode());
+        }
+
+        @Test
+        @DisplayName("should delete games")
+        void testDelete() throws IOException {
+            String id = create();
+
+            assertEquals(204, open("DELETE", "/games/" + id).getResponseCode());
+            assertEquals(404, open("GET", "/games/" + id).getResponseCode());
+            assertEquals(0, sessions.size());
+        }
+
+        @Test
+        @DisplayName("should reject invalid requests")
+        void testInvalidRequests() throws IOException {
+            String id = create();
+
+            assertEquals(400, open("POST", "/games?rows=3&columns=x&mines=1").getResponseCode());
+            assertEquals(400, open("POST", "/games?rows=1000&columns=1000&mines=1").getResponseCode());
+            assertEquals(400, open("POST", "/games/" + id + "/reveal?row=3&col=0").getResponseCode());
+            assertEquals(404, open("POST", "/games/unknown/reveal?row=0&col=0").getResponseCode());
+            assertEquals(404, open("GET", "/games/" + id + "/unknown").getResponseCode());
+            assertEquals(405, open("PUT", "/games/" + id).getResponseCode());
+        }
+
+        @Test
+        @DisplayName("should refuse new games when it hosts as many as allowed")
+        void testTooManySessions() throws IOException {
+            create();
+            create();
+            create();
+
+            assertEquals(503, open("POST", "/games?rows=3&columns=3&mines=1").getResponseCode());
+            assertEquals(3, sessions.size());
+        }
+
+        @Test
+        @DisplayName("should apply concurrent moves on one game one at a time")
+        void testConcurrentMoves() throws Exception {
+            String id = create();
+            ExecutorService clients = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int square = 1; square < 9; square++) {
+                    String path = "/games/" + id + "/reveal?row=" + square / 3 + "&col=" + square % 3;
+                    results.add(clients.submit(() -> open("POST", path).getResponseCode()));
+                }
+                for (Future<Integer> result : results) {
+                    // A move arriving after a cascade has won the game is refused
+                    int code = result.get();
+                    assertTrue(code == 200 || code == 409, "Unexpected status " + code);
+                }
+            } finally {
+                clients.shutdownNow();
+            }
+
+            assertEquals("{\"rows\":3,\"columns\":3,\"mines\":1,\"status\":\"WON\",\"board\":[\n\"_10\",\n\"110\",\n\"000\"]}",
+                    request("GET", "/games/" + id));
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Test Tests")
+    class LoadTestTests {
+
+        @Test
+        @DisplayName("should send the requested number of requests without errors")
+        void testLoadTest() throws IOException {
+            // Each client may hold one extra session while it replaces a finished game
+            LoadTestResult result = new LoadTestRunner("http://localhost:" + server.getPort(), 3, 3, 1, 2).run(1, 200, 1L);
+
+            assertEquals(200, result.getRequests());
+            assertEquals(0, result.getErrors());
+            assertTrue(result.getLatencyNanos(99) > 0);
+            assertEquals(0, sessions.size());
+        }
+    }
+
+    private String create() throws IOException {
+        return idOf(request("POST", "/games?rows=3&columns=3&mines=1"));
+    }
+
+    private static String idOf(String body) {
+        int start = body.indexOf("\"id\":\"") + 6;
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    private HttpURLConnection open(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private String request(String method, String path) throws IOException {
+        HttpURLConnection connection = open(method, path);
+        assertTrue(connection.getResponseCode() < 300, method + " " + path + " failed with " + connection.getResponseCode());
+        return read(connection);
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[1024];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
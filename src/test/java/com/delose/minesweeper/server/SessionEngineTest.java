@@ -0,0 +1,257 @@
+package com.delose.minesweeper.server;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+import com.delose.minesweeper.server.impl.InMemorySessionRegistry;
+import com.delose.minesweeper.server.impl.LockingSessionEngine;
+import com.delose.minesweeper.server.impl.ShardedSessionEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionEngineTest {
+
+    private static final String[] ENGINES = {"sharded", "locking"};
+
+    private static SessionEngine engine(String name, int maxSessions) {
+        return "sharded".equals(name)
+                ? new ShardedSessionEngine(4, maxSessions)
+                : new LockingSessionEngine(new InMemorySessionRegistry(maxSessions));
+    }
+
+    @Test
+    @DisplayName("should create, run requests on and remove sessions")
+    void testLifecycle() {
+        for (String name : ENGINES) {
+            SessionEngine engine = engine(name, 2);
+            try {
+                GameController game = new GameControllerImpl(3, 3, 1);
+                String id = engine.create(game).join();
+                assertTrue(id.matches("[0-9a-f]{32}"), id);
+
+                assertSame(game, engine.apply(id, g -> g).join());
+                assertNull(engine.apply("unknown", g -> g).join());
+                assertNotNull(engine.create(new GameControllerImpl(3, 3, 1)).join());
+                assertNull(engine.create(new GameControllerImpl(3, 3, 1)).join());
+                assertEquals(2, engine.size());
+                assertTrue(engine.remove(id).join());
+                assertFalse(engine.remove(id).join());
+                assertEquals(1, engine.size());
+            } finally {
+                engine.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should hand back the exception a request throws")
+    void testFailedRequest() {
+        for (String name : ENGINES) {
+            SessionEngine engine = engine(name, 1);
+            try {
+                String id = engine.create(new GameControllerImpl(3, 3, 1)).join();
+
+                CompletionException thrown = assertThrows(CompletionException.class,
+                        () -> engine.apply(id, game -> { game.revealSquare(5, 5); return null; }).join());
+                assertInstanceOf(GameInputException.class, thrown.getCause());
+                assertNotNull(engine.apply(id, game -> game).join());
+            } finally {
+                engine.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should apply the requests of many threads to a session one at a time")
+    void testConcurrentRequests() throws Exception {
+        for (String name : ENGINES) {
+            SessionEngine engine = engine(name, 8);
+            ExecutorService clients = Executors.newFixedThreadPool(4);
+            try {
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    ids.add(engine.create(new GameControllerImpl(3, 3, 1)).join());
+                }
+                // Each counter is a plain int, so lost updates show up unless requests on a session never overlap
+                int[][] counters = new int[8][1];
+                List<Future<?>> results = new ArrayList<>();
+                for (int c = 0; c < 4; c++) {
+                    results.add(clients.submit(() -> {
+                        List<CompletableFuture<Integer>> pending = new ArrayList<>();
+                        for (int i = 0; i < 20000; i++) {
+                            int session = i % 8;
+                            pending.add(engine.apply(ids.get(session), game -> counters[session][0]++));
+                        }
+                        pending.forEach(CompletableFuture::join);
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+
+                for (int session = 0; session < 8; session++) {
+                    int value = session;
+                    assertEquals(10000, engine.apply(ids.get(session), game -> counters[value][0]).join());
+                }
+            } finally {
+                clients.shutdownNow();
+                engine.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should park idle games on disk and reload them on their next request")
+    void testParkIdleSessions(@TempDir Path directory) throws Exception {
+        ShardedSessionEngine engine = new ShardedSessionEngine(2, 2, 200, directory);
+        try {
+            Minefield minefield = new Minefield(3, 3, 1);
+            minefield.placeMines(42L);
+            GameController game = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+            int mineRow = -1;
+            int mineCol = -1;
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    if (game.isMineAt(row, col)) {
+                        mineRow = row;
+                        mineCol = col;
+                    }
+                }
+            }
+            // A neighbour of the mine, so revealing it opens nothing else
+            int safeRow = mineRow == 0 ? 1 : mineRow - 1;
+            int safeCol = mineCol;
+            String id = engine.create(game).join();
+            engine.apply(id, g -> { g.revealSquare(safeRow, safeCol); return null; }).join();
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (engine.getParkedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(1, engine.getParkedCount());
+            assertEquals(1, engine.size());
+
+            GameController reloaded = engine.apply(id, g -> g).join();
+            assertNotSame(game, reloaded);
+            assertEquals(0, engine.getParkedCount());
+            assertEquals(42L, reloaded.getSeed());
+            assertTrue(reloaded.isMineAt(mineRow, mineCol));
+            assertTrue(reloaded.isSquareRevealed(safeRow, safeCol));
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    assertEquals(row == safeRow && col == safeCol, reloaded.isSquareRevealed(row, col));
+                }
+            }
+            for (int row = 0; row < 3; row++) {
+                for (int col = 0; col < 3; col++) {
+                    if (!reloaded.isMineAt(row, col)) {
+                        int r = row;
+                        int c = col;
+                        engine.apply(id, g -> { g.revealSquare(r, c); return null; }).join();
+                    }
+                }
+            }
+            assertEquals(GameStatus.WON, reloaded.getGameStatus());
+            assertTrue(engine.remove(id).join());
+        } finally {
+            engine.close();
+        }
+        try (Stream<Path> left = Files.list(directory)) {
+            assertEquals(0, left.count());
+        }
+    }
+
+    @Test
+    @DisplayName("should treat ids it could not have created as unknown, without touching the park directory")
+    void testMalformedIds(@TempDir Path directory) throws Exception {
+        Path outside = Files.createFile(directory.resolve("outside.msws"));
+        // The engine parks in a directory of its own inside this one, so "./../outside" names the file above
+        ShardedSessionEngine engine = new ShardedSessionEngine(2, 2, 200, directory);
+        try {
+            for (String id : new String[] {"", "..", "../outside", "./../outside", "abcdef", "0123456789ABCDEF0123456789ABCDEF", "0123456789abcdef0123456789abcdef0"}) {
+                assertNull(engine.apply(id, g -> g).join(), id);
+                assertFalse(engine.remove(id).join(), id);
+            }
+            assertTrue(Files.exists(outside));
+        } finally {
+            engine.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should hand back an error a request throws and keep serving the shard")
+    void testErrorInRequest() throws Exception {
+        SessionEngine engine = engine("sharded", 1);
+        try {
+            String id = engine.create(new GameControllerImpl(3, 3, 1)).join();
+
+            ExecutionException thrown = assertThrows(ExecutionException.class,
+                    () -> engine.apply(id, game -> { throw new StackOverflowError(); }).get(10, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, thrown.getCause());
+            assertNotNull(engine.apply(id, game -> game).get(10, TimeUnit.SECONDS));
+        } finally {
+            engine.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should complete every request submitted while the sharded engine closes")
+    void testRequestsRacingClose() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                SessionEngine engine = engine("sharded", 1);
+                List<Future<List<CompletableFuture<Object>>>> submitted = new ArrayList<>();
+                for (int client = 0; client < 4; client++) {
+                    submitted.add(clients.submit(() -> {
+                        List<CompletableFuture<Object>> results = new ArrayList<>();
+                        for (int request = 0; request < 2000; request++) {
+                            results.add(engine.apply("any", game -> null));
+                        }
+                        return results;
+                    }));
+                }
+                engine.close();
+                for (Future<List<CompletableFuture<Object>>> client : submitted) {
+                    for (CompletableFuture<Object> result : client.get(10, TimeUnit.SECONDS)) {
+                        try {
+                            result.get(10, TimeUnit.SECONDS);
+                        } catch (ExecutionException e) {
+                            assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                        }
+                    }
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject requests once the sharded engine is closed")
+    void testClosed() {
+        SessionEngine engine = engine("sharded", 1);
+        engine.close();
+
+        assertThrows(CompletionException.class, () -> engine.apply("any", game -> game).join());
+    }
+}
@@ -0,0 +1,118 @@
+package com.delose.minesweeper.simulation;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.simulation.impl.FirstSafeStrategy;
+import com.delose.minesweeper.simulation.impl.RandomStrategy;
+import com.delose.minesweeper.simulation.impl.SolverStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Nested
+    @DisplayName("Simulation Runs")
+    class SimulationRunTests {
+
+        @Test
+        @DisplayName("should play every requested game to the end across all workers")
+        void testAllGamesPlayed() {
+            SimulationResult result = new SimulationRunner(9, 9, 10, RandomStrategy::new, 4).run(500, 1L);
+
+            assertEquals(500, result.getGames());
+            assertEquals(500, result.getWins() + result.getLosses());
+            assertTrue(result.getMoves() >= 500);
+            assertTrue(result.getGamesPerSecond() > 0);
+            assertTrue(result.getMoveLatencyNanos(50) <= result.getMoveLatencyNanos(99));
+        }
+
+        @Test
+        @DisplayName("should replay the same games from the same seed on a single worker")
+        void testReproducible() {
+            SimulationResult first = new SimulationRunner(9, 9, 10, SolverStrategy::new, 1).run(200, 7L);
+            SimulationResult second = new SimulationRunner(9, 9, 10, SolverStrategy::new, 1).run(200, 7L);
+
+            assertEquals(first.getWins(), second.getWins());
+            assertEquals(first.getMoves(), second.getMoves());
+        }
+
+        @Test
+        @DisplayName("should reject a pool without workers")
+        void testInvalidThreads() {
+            assertThrows(GameInputException.class, () -> new SimulationRunner(9, 9, 10, RandomStrategy::new, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Player Strategies")
+    class PlayerStrategyTests {
+
+        @Test
+        @DisplayName("should never open on a mine with the first-safe strategy")
+        void testFirstSafe() {
+            SplittableRandom random = new SplittableRandom(3L);
+            PlayerStrategy strategy = new FirstSafeStrategy();
+            for (int i = 0; i < 200; i++) {
+                GameController game = new GameControllerImpl(3, 3, 3);
+                game.placeMinesRandmly(random.nextLong());
+                strategy.startGame(game, random);
+
+                int move = strategy.nextMove();
+                assertFalse(game.isMineAt(move / 3, move % 3));
+            }
+        }
+
+        @Test
+        @DisplayName("should lose some first moves with the random strategy")
+        void testRandom() {
+            SimulationResult result = new SimulationRunner(3, 3, 3, RandomStrategy::new, 2).run(200, 3L);
+
+            assertTrue(result.getWinRate() < 1.0);
+            assertTrue(result.getLosses() > 0);
+        }
+
+        @Test
+        @DisplayName("should win beginner boards far more often with the solver strategy")
+        void testSolver() {
+            SimulationResult random = new SimulationRunner(9, 9, 10, FirstSafeStrategy::new, 2).run(500, 5L);
+            SimulationResult solver = new SimulationRunner(9, 9, 10, SolverStrategy::new, 2).run(500, 5L);
+
+            assertTrue(solver.getWinRate() > 0.5);
+            assertTrue(solver.getWinRate() > random.getWinRate() + 0.3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Latency Histogram")
+    class LatencyHistogramTests {
+
+        @Test
+        @DisplayName("should report percentiles to within the bucket precision")
+        void testPercentiles() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long value = 1; value <= 10000; value++) {
+                histogram.record(value);
+            }
+
+            assertEquals(10000, histogram.getTotalCount());
+            assertEquals(5000, histogram.getValueAtPercentile(50), 5000 / 16.0);
+            assertEquals(9900, histogram.getValueAtPercentile(99), 9900 / 16.0);
+            assertEquals(1, histogram.getValueAtPercentile(0));
+        }
+
+        @Test
+        @DisplayName("should map every bucket back to a value in that bucket")
+        void testBuckets() {
+            for (int bucket = 0; bucket < 900; bucket++) {
+                assertEquals(bucket, LatencyHistogram.bucketOf(LatencyHistogram.lowestValueOf(bucket)));
+            }
+            assertEquals(LatencyHistogram.bucketOf(Long.MAX_VALUE), LatencyHistogram.bucketOf(Long.MAX_VALUE - 1));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.solver.impl.ConstraintSolverImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstraintSolverTest {
+
+    private ConstraintSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = new ConstraintSolverImpl();
+    }
+
+    @Nested
+    @DisplayName("Deduction Tests")
+    class DeductionTests {
+
+        private GameController game;
+
+        @BeforeEach
+        void setUp() {
+            // A hidden top row over three revealed 1s, with the mine above the middle one
+            game = new GameControllerImpl(2, 3, 1);
+            game.placeMineAt(0, 1);
+        }
+
+        @Test
+        @DisplayName("should find the safe squares and the mine by comparing overlapping constraints")
+        void testSubsetReduction() {
+            revealBottomRow();
+            solver.attach(game);
+
+            assertSafeSquares(0, 2);
+            assertTrue(solver.isKnownMine(1));
+            assertEquals(1, solver.getKnownMineCount());
+        }
+
+        @Test
+        @DisplayName("should follow reveals made after attaching")
+        void testIncrementalReveals() {
+            solver.attach(game);
+            assertEquals(-1, solver.nextSafeSquare());
+
+            revealBottomRow();
+
+            assertSafeSquares(0, 2);
+            assertTrue(solver.isKnownMine(1));
+        }
+
+        @Test
+        @DisplayName("should start over when the board changes")
+        void testBoardChanged() {
+            revealBottomRow();
+            solver.attach(game);
+            assertTrue(solver.nextSafeSquare() >= 0);
+
+            game.placeMineAt(0, 0);
+
+            assertFalse(solver.isKnownMine(1));
+            assertEquals(0, solver.getKnownMineCount());
+        }
+
+        @Test
+        @DisplayName("should compare a constraint with every constraint it is a subset of")
+        void testSubsetOfTwoConstraints() {
+            // # 1 *
+            // # # 2    The 1 in the corner covers {4, 7}, inside both {2, 4, 7} of the 2 and {3, 4, 7}
+            // 1 * 1    of the 1 on the left: one pair shows 2 is a mine, the other that 3 is safe
+            GameController board = new GameControllerImpl(3, 3, 2);
+            board.placeMineAt(0, 2);
+            board.placeMineAt(2, 1);
+            board.revealSquare(0, 1);
+            board.revealSquare(1, 2);
+            board.revealSquare(2, 0);
+            board.revealSquare(2, 2);
+            solver.attach(board);
+
+            Set<Integer> safe = new HashSet<>();
+            for (int index = solver.nextSafeSquare(); index >= 0; index = solver.nextSafeSquare()) {
+                safe.add(index);
+            }
+            assertEquals(new HashSet<>(Arrays.asList(0, 3, 4)), safe);
+            assertTrue(solver.isKnownMine(2));
+            assertTrue(solver.isKnownMine(7));
+            assertEquals(2, solver.getKnownMineCount());
+        }
+
+        private void revealBottomRow() {
+            for (int col = 0; col < 3; col++) {
+                game.revealSquare(1, col);
+            }
+        }
+
+        private void assertSafeSquares(int first, int second) {
+            int a = solver.nextSafeSquare();
+            int b = solver.nextSafeSquare();
+            assertEquals(first + second, a + b);
+            assertEquals(first * second, a * b);
+            assertEquals(-1, solver.nextSafeSquare());
+        }
+    }
+
+    @Nested
+    @DisplayName("Soundness Tests")
+    class SoundnessTests {
+
+        @Test
+        @DisplayName("should only ever report true safe squares and true mines over many games")
+        void testRandomGames() {
+            SplittableRandom random = new SplittableRandom(11L);
+            int solvedMoves = 0;
+            for (int i = 0; i < 300; i++) {
+                GameController game = new GameControllerImpl(16, 16, 40);
+                game.placeMinesRandmly(random.nextLong());
+                solver.attach(game);
+
+                while (game.getGameStatus() == GameStatus.IN_PROGRESS) {
+                    int safe = solver.nextSafeSquare();
+                    if (safe >= 0) {
+                        assertFalse(game.isMineAt(safe / 16, safe % 16));
+                        game.revealSquare(safe / 16, safe % 16);
+                        solvedMoves++;
+                    } else {
+                        revealRandomSquare(game, random);
+                    }
+                }
+                for (int index = 0; index < 256; index++) {
+                    if (solver.isKnownMine(index)) {
+                        assertTrue(game.isMineAt(index / 16, index % 16));
+                    }
+                }
+            }
+            assertTrue(solvedMoves > 0);
+        }
+
+        private void revealRandomSquare(GameController game, SplittableRandom random) {
+            int index;
+            do {
+                index = random.nextInt(256);
+            } while (game.isSquareRevealed(index / 16, index % 16) || solver.isKnownMine(index));
+            game.revealSquare(index / 16, index % 16);
+        }
+    }
+}
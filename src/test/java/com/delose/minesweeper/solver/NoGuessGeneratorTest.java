@@ -0,0 +1,75 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.solver.impl.ConstraintSolverImpl;
+import com.delose.minesweeper.solver.impl.NoGuessGeneratorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoGuessGeneratorTest {
+
+    private ExecutorService executor;
+    private NoGuessGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        generator = new NoGuessGeneratorImpl(executor, 3, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("No-Guess Generation Tests")
+    class NoGuessGenerationTests {
+
+        @Test
+        @DisplayName("should generate boards the solver wins from the opening without guessing")
+        void testSolvableWithoutGuessing() {
+            for (long seed = 0; seed < 20; seed++) {
+                GameController game = generator.generate(16, 16, 40, seed);
+
+                assertEquals(GameStatus.IN_PROGRESS, game.getGameStatus());
+                assertEquals(40, game.getNumberOfMines());
+                assertTrue(game.isSquareRevealed(8, 8));
+                assertEquals(0, game.getAdjacentMinesCount(8, 8));
+                assertSolvedBySolver(game);
+            }
+        }
+
+        @Test
+        @DisplayName("should generate rectangular boards at expert density")
+        void testExpertBoard() {
+            assertSolvedBySolver(generator.generate(16, 30, 99, 5L));
+        }
+
+        @Test
+        @DisplayName("should reject settings no board can have")
+        void testInvalidSettings() {
+            assertThrows(GameInputException.class, () -> generator.generate(4, 4, 10, 1L));
+        }
+
+        private void assertSolvedBySolver(GameController game) {
+            ConstraintSolver solver = new ConstraintSolverImpl();
+            solver.attach(game);
+            int safe;
+            while ((safe = solver.nextSafeSquare()) >= 0) {
+                game.revealSquare(safe / game.getColumnCount(), safe % game.getColumnCount());
+            }
+            assertEquals(GameStatus.WON, game.getGameStatus());
+        }
+    }
+}
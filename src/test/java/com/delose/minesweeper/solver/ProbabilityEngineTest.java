@@ -0,0 +1,171 @@
+package com.delose.minesweeper.solver;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.model.BoardView;
+import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.model.Minefield;
+import com.delose.minesweeper.solver.impl.ProbabilityEngineImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProbabilityEngineTest {
+
+    private static final int ROWS = 4;
+    private static final int COLUMNS = 5;
+    private static final int MINES = 5;
+
+    @Nested
+    @DisplayName("Exact Probability Tests")
+    class ExactProbabilityTests {
+
+        @Test
+        @DisplayName("should match brute-force enumeration of every consistent layout")
+        void testAgainstBruteForce() {
+            ProbabilityEngine engine = new ProbabilityEngineImpl(ForkJoinPool.commonPool(), 1000);
+            SplittableRandom random = new SplittableRandom(17L);
+            int checked = 0;
+            for (int game = 0; game < 100; game++) {
+                GameController controller = new GameControllerImpl(ROWS, COLUMNS, MINES);
+                controller.placeMinesRandmly(random.nextLong());
+                while (controller.getGameStatus() == GameStatus.IN_PROGRESS) {
+                    MineProbabilities probabilities = engine.compute(controller);
+                    double[] expected = bruteForce(controller.getBoardView());
+                    assertTrue(probabilities.isExact());
+                    for (int index = 0; index < ROWS * COLUMNS; index++) {
+                        assertEquals(expected[index], probabilities.getProbability(index), 1e-9);
+                    }
+                    checked++;
+                    revealRandomSafeSquare(controller, random);
+                }
+            }
+            assertTrue(checked > 100);
+        }
+
+        @Test
+        @DisplayName("should pick the unrevealed square least likely to hold a mine")
+        void testSafestSquare() {
+            MineProbabilities probabilities = new MineProbabilities(new double[] {Double.NaN, 0.5, 0.25, 0.25, Double.NaN}, true);
+
+            assertEquals(2, probabilities.getSafestSquare());
+            assertEquals(-1, new MineProbabilities(new double[] {Double.NaN}, true).getSafestSquare());
+        }
+    }
+
+    @Nested
+    @DisplayName("Time Budget Tests")
+    class TimeBudgetTests {
+
+        @Test
+        @DisplayName("should fall back to the mine density when no layout is counted or sampled in time")
+        void testDensityFallback() {
+            ProbabilityEngine engine = new ProbabilityEngineImpl(ForkJoinPool.commonPool(), 0);
+            GameController controller = new GameControllerImpl(2, 3, 1);
+            controller.placeMineAt(0, 1);
+            controller.revealSquare(1, 0);
+
+            MineProbabilities probabilities = engine.compute(controller);
+
+            assertFalse(probabilities.isExact());
+            assertTrue(Double.isNaN(probabilities.getProbability(3)));
+            for (int index = 0; index < 3; index++) {
+                assertTrue(probabilities.getProbability(index) >= 0 && probabilities.getProbability(index) <= 1);
+            }
+        }
+
+        @Test
+        @DisplayName("should sample a component too large to count and match the exact probabilities")
+        void testSamplingLargeComponent() {
+            // One row of hidden squares between revealed ones, each revealed number seeing the hidden
+            // squares either side of it. The 1000 hidden squares form one component, too large to count.
+            // Mines alternate, except that the middle two are both mines, which leaves one layout matching
+            // the numbers, so the exact probabilities are 0 and 1 while the mine density is about 1/2
+            int hidden = 1000;
+            boolean[] mined = new boolean[hidden];
+            int mines = 0;
+            for (int square = 0; square < hidden; square++) {
+                mined[square] = square <= hidden / 2 ? square % 2 == 0 : square % 2 == 1;
+                mines += mined[square] ? 1 : 0;
+            }
+            Minefield minefield = new Minefield(1, 2 * hidden - 1, mines);
+            for (int square = 0; square < hidden; square++) {
+                if (mined[square]) {
+                    minefield.placeMine(0, 2 * square);
+                }
+                if (square > 0) {
+                    minefield.reveal(0, 2 * square - 1);
+                }
+            }
+            GameController controller = new GameControllerImpl(minefield, GameStatus.IN_PROGRESS);
+
+            MineProbabilities probabilities = new ProbabilityEngineImpl(ForkJoinPool.commonPool(), 2000).compute(controller);
+
+            assertFalse(probabilities.isExact());
+            for (int square = 0; square < hidden; square++) {
+                assertEquals(mined[square] ? 1 : 0, probabilities.getProbability(2 * square), 0.05);
+            }
+        }
+    }
+
+    private static void revealRandomSafeSquare(GameController controller, SplittableRandom random) {
+        int index;
+        do {
+            index = random.nextInt(ROWS * COLUMNS);
+        } while (controller.isSquareRevealed(index / COLUMNS, index % COLUMNS)
+                || controller.isMineAt(index / COLUMNS, index % COLUMNS));
+        controller.revealSquare(index / COLUMNS, index % COLUMNS);
+    }
+
+    /**
+     * Tries every way of placing the mines on hidden squares and keeps those matching every revealed number.
+     */
+    private static double[] bruteForce(BoardView board) {
+        int cells = ROWS * COLUMNS;
+        double[] mined = new double[cells];
+        long consistent = 0;
+        for (int layout = 0; layout < 1 << cells; layout++) {
+            if (Integer.bitCount(layout) != MINES || !matches(board, layout)) {
+                continue;
+            }
+            consistent++;
+            for (int index = 0; index < cells; index++) {
+                if ((layout >> index & 1) != 0) {
+                    mined[index]++;
+                }
+            }
+        }
+        for (int index = 0; index < cells; index++) {
+            mined[index] = board.isRevealed(index / COLUMNS, index % COLUMNS) ? Double.NaN : mined[index] / consistent;
+        }
+        return mined;
+    }
+
+    private static boolean matches(BoardView board, int layout) {
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                if (!board.isRevealed(row, col)) {
+                    continue;
+                }
+                if ((layout >> (row * COLUMNS + col) & 1) != 0) {
+                    return false;
+                }
+                int count = 0;
+                for (int i = Math.max(0, row - 1); i <= Math.min(ROWS - 1, row + 1); i++) {
+                    for (int j = Math.max(0, col - 1); j <= Math.min(COLUMNS - 1, col + 1); j++) {
+                        count += layout >> (i * COLUMNS + j) & 1;
+                    }
+                }
+                if (count != board.getAdjacentMinesCount(row, col)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
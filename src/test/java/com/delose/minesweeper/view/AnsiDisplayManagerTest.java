@@ -0,0 +1,101 @@
+package com.delose.minesweeper.view;
+
+import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.view.impl.AnsiDisplayManagerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnsiDisplayManagerTest {
+
+    private static final String CLEAR_SCREEN = "\u001B[H\u001B[2J";
+
+    private GameController gameController;
+    private DisplayManager displayManager;
+
+    @BeforeEach
+    void setUp() {
+        gameController = new GameControllerImpl(30, 3, 1);  // Rows A to AD
+        gameController.placeMineAt(29, 2);
+        displayManager = new AnsiDisplayManagerImpl(gameController);
+    }
+
+    private int countOccurrences(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    @Nested
+    @DisplayName("renderMinefield method")
+    class RenderMinefieldTests {
+
+        @Test
+        @DisplayName("should draw the whole board on the first frame with aligned row labels")
+        void testFirstFrame() {
+            String frame = displayManager.renderMinefield();
+
+            assertTrue(frame.startsWith(CLEAR_SCREEN));
+            assertTrue(frame.contains("\nA  _ _ _ \n"));
+            assertTrue(frame.contains("\nAD _ _ _ \n"));
+        }
+
+        @Test
+        @DisplayName("should only redraw the squares revealed since the last frame")
+        void testIncrementalFrame() {
+            displayManager.renderMinefield();
+            gameController.revealSquare(28, 2);  // Next to the mine, so nothing cascades
+
+            String frame = displayManager.renderMinefield();
+
+            assertFalse(frame.contains(CLEAR_SCREEN));
+            assertEquals(1 + 1, countOccurrences(frame, "H"));  // One square plus parking the cursor
+            assertTrue(frame.startsWith("\u001B[30;8H1 "));  // Line 30 is row AC, column 8 is the third square
+            assertTrue(frame.endsWith("\u001B[32;1H\u001B[J"));
+        }
+
+        @Test
+        @DisplayName("should pad glyphs of different widths so redrawn squares land in their columns")
+        void testGlyphWidths() {
+            displayManager = new AnsiDisplayManagerImpl(gameController, " ", "\n", "[*]", ".");
+            String first = displayManager.renderMinefield();
+            assertTrue(first.contains("\nA  .  .  .  \n"));
+
+            gameController.revealSquare(28, 2);
+            String frame = displayManager.renderMinefield();
+            assertTrue(frame.startsWith("\u001B[30;10H1  "));  // Column 10 is the third square: "AC " then two squares 3 wide
+
+            gameController.revealSquare(29, 2);  // The mine
+            frame = displayManager.renderMinefield();
+            assertTrue(frame.startsWith("\u001B[31;10H[*]"));
+        }
+
+        @Test
+        @DisplayName("should emit nothing but the cursor park when nothing changed")
+        void testEmptyFrame() {
+            displayManager.renderMinefield();
+            assertEquals("\u001B[32;1H\u001B[J", displayManager.renderMinefield());
+        }
+
+        @Test
+        @DisplayName("should redraw changed rows on the next full frame")
+        void testFullFrameAfterBoardChange() {
+            displayManager.renderMinefield();
+            gameController.revealSquare(0, 0);  // Cascades over everything but the mine's neighbourhood
+            displayManager.renderMinefield();
+            gameController.revealAllCells();
+
+            String frame = displayManager.renderMinefield();
+
+            assertTrue(frame.startsWith(CLEAR_SCREEN));
+            assertTrue(frame.contains("\nA  0 0 0 \n"));
+            assertTrue(frame.contains("\nAD 0 1 * \n"));
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.delose.minesweeper.view;
 
 import com.delose.minesweeper.controller.GameController;
+import com.delose.minesweeper.controller.impl.GameControllerImpl;
+import com.delose.minesweeper.core.exception.GameInputException;
+import com.delose.minesweeper.model.BoardView;
 import com.delose.minesweeper.model.GameStatus;
+import com.delose.minesweeper.view.impl.ChannelFrameOutput;
 import com.delose.minesweeper.view.impl.DisplayManagerImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -15,10 +24,13 @@ class DisplayManagerTest {
 
     private DisplayManager displayManager;
     private GameController gameController;
+    private BoardView boardView;
 
     @BeforeEach
     void setUp() {
         gameController = mock(GameController.class);
+        boardView = mock(BoardView.class);
+        when(gameController.getBoardView()).thenReturn(boardView);
         displayManager = new DisplayManagerImpl(gameController);
     }
 
@@ -30,8 +42,9 @@ class DisplayManagerTest {
         @DisplayName("should display the initial state of the minefield with all cells unrevealed")
         void testRenderMinefield_Initial() {
             // Given
-            when(gameController.getMinefieldSize()).thenReturn(4);
-            when(gameController.isSquareRevealed(anyString())).thenReturn(false);
+            when(boardView.getRows()).thenReturn(4);
+            when(boardView.getColumns()).thenReturn(4);
+            when(boardView.isRevealed(anyInt(), anyInt())).thenReturn(false);
 
             // When
             String minefieldDisplay = displayManager.renderMinefield();
@@ -48,11 +61,12 @@ class DisplayManagerTest {
         @DisplayName("should display revealed cells with adjacent mine counts")
         void testRenderMinefield_RevealedCells() {
             // Given
-            when(gameController.getMinefieldSize()).thenReturn(4);
-            when(gameController.isSquareRevealed("A1")).thenReturn(true);
-            when(gameController.isSquareRevealed("B2")).thenReturn(true);
-            when(gameController.getAdjacentMinesCount("A1")).thenReturn(1);
-            when(gameController.getAdjacentMinesCount("B2")).thenReturn(2);
+            when(boardView.getRows()).thenReturn(4);
+            when(boardView.getColumns()).thenReturn(4);
+            when(boardView.isRevealed(0, 0)).thenReturn(true);
+            when(boardView.isRevealed(1, 1)).thenReturn(true);
+            when(boardView.getAdjacentMinesCount(0, 0)).thenReturn(1);
+            when(boardView.getAdjacentMinesCount(1, 1)).thenReturn(2);
 
             // When
             String minefieldDisplay = displayManager.renderMinefield();
@@ -68,9 +82,10 @@ class DisplayManagerTest {
         @DisplayName("should display a mine when a mine is revealed")
         void testRenderMinefield_RevealMine() {
             // Given
-            when(gameController.getMinefieldSize()).thenReturn(4);
-            when(gameController.isSquareRevealed("A1")).thenReturn(true);
-            when(gameController.isMineAt("A1")).thenReturn(true);
+            when(boardView.getRows()).thenReturn(4);
+            when(boardView.getColumns()).thenReturn(4);
+            when(boardView.isRevealed(0, 0)).thenReturn(true);
+            when(boardView.isMineAt(0, 0)).thenReturn(true);
 
             // When
             String minefieldDisplay = displayManager.renderMinefield();
@@ -84,8 +99,9 @@ class DisplayManagerTest {
         @DisplayName("should display unrevealed cells as underscores")
         void testRenderMinefield_UnrevealedCells() {
             // Given
-            when(gameController.getMinefieldSize()).thenReturn(4);
-            when(gameController.isSquareRevealed("A1")).thenReturn(false);
+            when(boardView.getRows()).thenReturn(4);
+            when(boardView.getColumns()).thenReturn(4);
+            when(boardView.isRevealed(0, 0)).thenReturn(false);
 
             // When
             String minefieldDisplay = displayManager.renderMinefield();
@@ -95,6 +111,161 @@ class DisplayManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("encodeMinefield method")
+    class EncodeMinefieldTests {
+
+        private String encode(DisplayManager manager) {
+            ByteBuffer frame = manager.encodeMinefield();
+            byte[] bytes = new byte[frame.remaining()];
+            frame.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("should encode the same frame as renderMinefield")
+        void testEncodeMatchesRender() {
+            GameController controller = new GameControllerImpl(30, 12, 20);
+            controller.placeMinesRandmly(3L);
+            DisplayManager manager = new DisplayManagerImpl(controller);
+            assertEquals(manager.renderMinefield(), encode(manager));
+
+            controller.revealSquare(0, 0);
+            controller.revealSquare(29, 11);
+            assertEquals(manager.renderMinefield(), encode(manager));
+
+            controller.revealAllCells();
+            assertEquals(manager.renderMinefield(), encode(manager));
+        }
+
+        @Test
+        @DisplayName("should write frames to the channel in full")
+        void testChannelFrameOutput() {
+            GameController controller = new GameControllerImpl(4, 2);
+            DisplayManager manager = new DisplayManagerImpl(controller);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            FrameOutput output = new ChannelFrameOutput(Channels.newChannel(out));
+
+            output.write(manager.encodeMinefield());
+            output.write(manager.encodeMinefield());
+
+            String frame = manager.renderMinefield();
+            assertEquals(frame + frame, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("renderRegion method")
+    class RenderRegionTests {
+
+        @Test
+        @DisplayName("should render only the rows and columns of the region")
+        void testRenderRegion() {
+            when(boardView.getRows()).thenReturn(30);
+            when(boardView.getColumns()).thenReturn(30);
+            when(boardView.isRevealed(27, 11)).thenReturn(true);
+            when(boardView.getAdjacentMinesCount(27, 11)).thenReturn(3);
+
+            String region = displayManager.renderRegion(26, 28, 10, 13);
+
+            assertEquals("  11 12 13 \nAA _ _ _ \nAB _ 3 _ \n", region);
+        }
+
+        @Test
+        @DisplayName("should never read squares outside the region")
+        void testRegionReadsOnlyVisibleSquares() {
+            GameController controller = mock(GameController.class);
+            when(controller.getBoardView()).thenReturn(new RegionCheckingBoard(10000, 10000, 500, 540, 9000, 9040));
+            DisplayManager manager = new DisplayManagerImpl(controller);
+
+            assertEquals(41, manager.renderRegion(500, 540, 9000, 9040).split("\n").length);
+            assertTrue(manager.encodeRegion(500, 540, 9000, 9040).remaining() > 0);
+        }
+
+        @Test
+        @DisplayName("should encode the same region as renderRegion")
+        void testEncodeRegionMatchesRender() {
+            GameController controller = new GameControllerImpl(60, 45, 200);
+            controller.placeMinesRandmly(9L);
+            controller.revealSquare(30, 30);
+            DisplayManager manager = new DisplayManagerImpl(controller);
+
+            ByteBuffer frame = manager.encodeRegion(20, 50, 5, 40);
+            byte[] bytes = new byte[frame.remaining()];
+            frame.get(bytes);
+            assertEquals(manager.renderRegion(20, 50, 5, 40), new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("should reject a region outside the board")
+        void testInvalidRegion() {
+            when(boardView.getRows()).thenReturn(4);
+            when(boardView.getColumns()).thenReturn(4);
+
+            assertThrows(GameInputException.class, () -> displayManager.renderRegion(0, 5, 0, 4));
+            assertThrows(GameInputException.class, () -> displayManager.encodeRegion(2, 1, 0, 4));
+            assertThrows(GameInputException.class, () -> displayManager.renderRegion(0, 4, -1, 4));
+        }
+    }
+
+    /**
+     * A board that fails the test on any read outside the given region.
+     */
+    private static class RegionCheckingBoard implements BoardView {
+
+        private final int rows;
+        private final int columns;
+        private final int rowFrom;
+        private final int rowTo;
+        private final int colFrom;
+        private final int colTo;
+
+        RegionCheckingBoard(int rows, int columns, int rowFrom, int rowTo, int colFrom, int colTo) {
+            this.rows = rows;
+            this.columns = columns;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.colFrom = colFrom;
+            this.colTo = colTo;
+        }
+
+        private void check(int row, int col) {
+            assertTrue(row >= rowFrom && row < rowTo && col >= colFrom && col < colTo, "Read outside the region");
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public boolean isMineAt(int row, int col) {
+            check(row, col);
+            return false;
+        }
+
+        public boolean isRevealed(int row, int col) {
+            check(row, col);
+            return false;
+        }
+
+        public int getAdjacentMinesCount(int row, int col) {
+            check(row, col);
+            return 0;
+        }
+
+        public byte[] snapshot() {
+            return fail("Read the whole board");
+        }
+
+        public void copyRow(int row, int colFrom, int colTo, byte[] target) {
+            check(row, colFrom);
+            check(row, colTo - 1);
+        }
+    }
+
     @Nested
     @DisplayName("displayEndGameMessage method")
     class DisplayEndGameMessageTests {
@@ -0,0 +1,58 @@
+package com.delose.minesweeper.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewportTest {
+
+    @Nested
+    @DisplayName("Viewport bounds")
+    class BoundsTests {
+
+        @Test
+        @DisplayName("should cover a board smaller than the viewport")
+        void testSmallBoard() {
+            Viewport viewport = new Viewport(4, 6, 40, 40);
+            assertFalse(viewport.isPartial());
+            assertEquals(4, viewport.getRowTo());
+            assertEquals(6, viewport.getColTo());
+        }
+
+        @Test
+        @DisplayName("should stop scrolling at the edges of the board")
+        void testScrollClamps() {
+            Viewport viewport = new Viewport(100, 50, 40, 40);
+            assertTrue(viewport.isPartial());
+
+            viewport.scroll(-5, -5);
+            assertEquals(0, viewport.getRowFrom());
+            assertEquals(0, viewport.getColFrom());
+
+            viewport.scroll(1000, 1000);
+            assertEquals(60, viewport.getRowFrom());
+            assertEquals(100, viewport.getRowTo());
+            assertEquals(10, viewport.getColFrom());
+            assertEquals(50, viewport.getColTo());
+        }
+
+        @Test
+        @DisplayName("should centre on a square outside the viewport and stay put for one inside")
+        void testShow() {
+            Viewport viewport = new Viewport(10000, 10000, 40, 40);
+            viewport.show(5000, 20);
+            assertEquals(4980, viewport.getRowFrom());
+            assertEquals(0, viewport.getColFrom());
+
+            viewport.show(5010, 39);
+            assertEquals(4980, viewport.getRowFrom());
+            assertEquals(0, viewport.getColFrom());
+
+            viewport.show(9999, 9999);
+            assertEquals(10000, viewport.getRowTo());
+            assertEquals(10000, viewport.getColTo());
+        }
+    }
+}